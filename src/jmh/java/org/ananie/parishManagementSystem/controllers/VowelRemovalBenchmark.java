@@ -0,0 +1,47 @@
+package org.ananie.parishManagementSystem.controllers;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the three {@link VowelRemoval} implementations on short and long input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VowelRemovalBenchmark {
+
+    @Param({"16", "1024"})
+    public int length;
+
+    private String word;
+
+    @Setup
+    public void createWord() {
+        StringBuilder sb = new StringBuilder(length);
+        String source = "ARS Gratia Gratis ";
+        while (sb.length() < length) {
+            sb.append(source);
+        }
+        word = sb.substring(0, length);
+    }
+
+    @Benchmark
+    public String stringBuilderWithList() {
+        return VowelRemoval.removeVowels(word);
+    }
+
+    @Benchmark
+    public String regexReplace() {
+        return VowelRemoval.removeVowels2(word);
+    }
+
+    @Benchmark
+    public String charStream() {
+        return VowelRemoval.removeVowels3(word);
+    }
+}
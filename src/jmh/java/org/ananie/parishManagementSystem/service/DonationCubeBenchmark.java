@@ -0,0 +1,97 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.ParishManagementSystemApplication;
+import org.ananie.parishManagementSystem.cube.CubeQuery;
+import org.ananie.parishManagementSystem.cube.CubeResult;
+import org.ananie.parishManagementSystem.cube.Dimension;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Donation cube over an in-memory H2 database filled by {@link SyntheticDatasetGenerator}
+ * (five years of history, about nine donations per faithful and year): the sub-parish totals for a year
+ * from the cube against the SQL aggregate with the statistics cache off, and a filtered slice over
+ * every dimension. {@code reload} is the full load that runs at startup and on the reload interval.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DonationCubeBenchmark {
+
+    private static final long SEED = 42;
+    private static final int YEARS = 5;
+    private static final int BATCH = 10_000;
+
+    @Param({"1000", "10000", "100000"})
+    public int faithfuls;
+
+    private ConfigurableApplicationContext context;
+    private DonationCube cube;
+    private DonationService donationService;
+
+    private final int year = LocalDate.now().getYear() - 1;
+    private CubeQuery bySubParish;
+    private CubeQuery everyDimension;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ParishManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                // Passed as arguments so they take precedence over application.yaml
+                .run("--spring.datasource.url=jdbc:h2:mem:cube-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.profiles.active=loadtest",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--parish.statistics.cache-enabled=false",
+                        "--parish.statistics.coalesce-requests=false",
+                        "--parish.intentions.allocation.enabled=false");
+        context.getBean(SyntheticDatasetGenerator.class)
+                .generate(SyntheticDatasetGenerator.DatasetSpec.scaledTo(SEED, faithfuls, YEARS, LocalDate.now(), BATCH));
+
+        cube = context.getBean(DonationCube.class);
+        donationService = context.getBean(DonationService.class);
+        System.out.printf("%nCube of %d donations%n", cube.reload());
+
+        bySubParish = new CubeQuery(List.of(Dimension.SUB_PARISH),
+                Map.of(Dimension.YEAR, Set.of(String.valueOf(year))), null, null);
+        everyDimension = new CubeQuery(List.of(Dimension.YEAR, Dimension.MONTH, Dimension.TYPE,
+                Dimension.PAYMENT_METHOD, Dimension.SUB_PARISH, Dimension.BEC), Map.of(), null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public CubeResult subParishTotalsFromCube() {
+        return cube.query(bySubParish);
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> subParishTotalsFromSql() {
+        return donationService.getTotalsBySubParish(year);
+    }
+
+    @Benchmark
+    public CubeResult groupedByEveryDimension() {
+        return cube.query(everyDimension);
+    }
+
+    @Benchmark
+    public int reload() {
+        return cube.reload();
+    }
+}
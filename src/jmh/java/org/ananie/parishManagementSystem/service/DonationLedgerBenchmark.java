@@ -0,0 +1,88 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.ParishManagementSystemApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Donation ledger over an in-memory H2 database filled by {@link SyntheticDatasetGenerator}
+ * (five years of history, about nine donations per faithful and year) and entered into the ledger:
+ * replaying the whole ledger into fresh snapshots, and one faithful's yearly balance read as
+ * snapshot plus tail against folding the stream from its first entry.
+ * Divide the ledger size logged at setup by {@code replayWholeLedger} for entries per millisecond.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DonationLedgerBenchmark {
+
+    private static final long SEED = 42;
+    private static final int YEARS = 5;
+    private static final int BATCH = 10_000;
+
+    @Param({"1000", "10000", "100000"})
+    public int faithfuls;
+
+    private ConfigurableApplicationContext context;
+    private DonationLedger ledger;
+    private List<Long> faithfulIds;
+
+    private final int year = LocalDate.now().getYear() - 1;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ParishManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                // Passed as arguments so they take precedence over application.yaml
+                .run("--spring.datasource.url=jdbc:h2:mem:ledger-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.profiles.active=loadtest",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--parish.intentions.allocation.enabled=false");
+        context.getBean(SyntheticDatasetGenerator.class)
+                .generate(SyntheticDatasetGenerator.DatasetSpec.scaledTo(SEED, faithfuls, YEARS, LocalDate.now(), BATCH));
+
+        ledger = context.getBean(DonationLedger.class);
+        int entries = ledger.recordUnledgeredDonations();
+        ledger.rebuildSnapshots();
+        System.out.printf("%nLedger of %d entries%n", entries);
+
+        faithfulIds = context.getBean(JdbcTemplate.class).queryForList(
+                "SELECT DISTINCT faithful_id FROM donation_ledger WHERE contribution_year = ?", Long.class, year);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public DonationLedger.Replay replayWholeLedger() {
+        return ledger.rebuildSnapshots();
+    }
+
+    @Benchmark
+    public DonationLedger.Balance balanceFromSnapshot() {
+        return ledger.balance(randomFaithful(), year);
+    }
+
+    @Benchmark
+    public DonationLedger.Balance balanceReplayedFromStart() {
+        return ledger.replay(randomFaithful(), year);
+    }
+
+    private long randomFaithful() {
+        return faithfulIds.get(ThreadLocalRandom.current().nextInt(faithfulIds.size()));
+    }
+}
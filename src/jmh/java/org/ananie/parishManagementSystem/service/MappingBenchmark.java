@@ -0,0 +1,177 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.dto.response.DonationResponseDTO;
+import org.ananie.parishManagementSystem.dto.response.FaithfulDTO;
+import org.ananie.parishManagementSystem.dto.response.FaithfulSacramentInfoDTO;
+import org.ananie.parishManagementSystem.dto.response.MassResponseDTO;
+import org.ananie.parishManagementSystem.entity.*;
+import org.ananie.parishManagementSystem.repository.DonationRepository;
+import org.ananie.parishManagementSystem.repository.FaithfulRepository;
+import org.ananie.parishManagementSystem.repository.MassRepository;
+import org.ananie.parishManagementSystem.repository.PriestRepository;
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.ananie.parishManagementSystem.utilities.LiturgicalSeason;
+import org.ananie.parishManagementSystem.utilities.MassType;
+import org.ananie.parishManagementSystem.utilities.PriestType;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Entity-to-DTO mapping on detached entities, without any database access.
+ * Each service is read through its public find-by-id method, with repositories stubbed to return
+ * the prepared entity; {@link #repositoryLookup()} measures the stub alone, to subtract from the others.
+ * The stubs are plain proxies rather than mocks, whose invocation recording would dwarf the mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private DonationService donationService;
+    private FaithfulService faithfulService;
+    private MassService massService;
+    private DonationRepository donationRepository;
+
+    private Donation donation;
+    private Faithful faithful;
+    private Mass mass;
+
+    @Setup
+    public void createEntities() {
+        faithful = faithful();
+
+        donation = new Donation();
+        donation.setId(42L);
+        donation.setFaithful(faithful);
+        donation.setYear(2025);
+        donation.setAmount(new BigDecimal("2500.00"));
+        donation.setDate(LocalDate.of(2025, 3, 2));
+        donation.setContributionType("TITHE");
+        donation.setPaymentMethod("CASH");
+        donation.setRecordedBy("Secretary");
+        donation.setCreatedAt(LocalDateTime.of(2025, 3, 2, 10, 0));
+
+        mass = new Mass();
+        mass.setId(7L);
+        mass.setMassType(MassType.SUNDAY_MASS);
+        mass.setLiturgicalSeason(LiturgicalSeason.LENT);
+        mass.setEventDate(LocalDate.of(2025, 3, 2));
+        mass.setLocation("Paruwasi");
+        mass.setMainCelebrant(priest(1L));
+        mass.setConcelebrants(new ArrayList<>(List.of(priest(2L), priest(3L))));
+        List<Intention> intentions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Intention intention = new Intention();
+            intention.setId((long) i);
+            intention.setIntentionType(IntentionType.DECEASED);
+            intention.setIntentionText("Intention " + i);
+            intention.setFaithful(i % 2 == 0 ? faithful : null);
+            intention.setExternalFaithfulName("Visitor " + i);
+            intentions.add(intention);
+        }
+        mass.setIntentions(intentions);
+
+        donationRepository = findingById(DonationRepository.class, donation);
+        FaithfulRepository faithfulRepository = findingById(FaithfulRepository.class, faithful);
+        // Collaborators the lookups never reach are mocks
+        donationService = new DonationService(donationRepository, faithfulRepository, mock(StatisticsCache.class),
+                event -> { }, mock(DonationLedger.class));
+        faithfulService = new FaithfulService(faithfulRepository, event -> { });
+        massService = new MassService(findingById(MassRepository.class, mass), mock(PriestRepository.class),
+                event -> { }, mock(PriestWorkloadAggregator.class));
+    }
+
+    @Benchmark
+    public Optional<Donation> repositoryLookup() {
+        return donationRepository.findById(donation.getId());
+    }
+
+    @Benchmark
+    public DonationResponseDTO donationToResponseDTO() {
+        return donationService.getDonationById(donation.getId());
+    }
+
+    @Benchmark
+    public FaithfulDTO faithfulToDTO() {
+        return faithfulService.getFaithfulById(faithful.getId()).orElseThrow();
+    }
+
+    @Benchmark
+    public MassResponseDTO massToResponseDTO() {
+        return massService.getMassById(mass.getId());
+    }
+
+    @Benchmark
+    public FaithfulSacramentInfoDTO faithfulToSacramentInfo() {
+        return FaithfulSacramentInfoDTO.fromEntity(faithful);
+    }
+
+    private static Faithful faithful() {
+        Faithful faithful = new Faithful();
+        faithful.setId(1L);
+        faithful.setFirstname("Marie");
+        faithful.setName("Mukamana");
+        faithful.setFatherName("Habimana");
+        faithful.setMotherName("Uwase");
+        faithful.setDateOfBirth(LocalDate.of(1990, 5, 14));
+        faithful.setDateOfBaptism(LocalDate.of(1990, 8, 1));
+        faithful.setBaptismId("B-1990-001");
+        faithful.setDiocese("Kigali");
+        faithful.setParish("Sainte Famille");
+        faithful.setSubparish("Centre");
+        faithful.setBasicEcclesialCommunity("Mutagatifu Yohani");
+        faithful.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+
+        List<Ministry> ministries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Ministry ministry = new Ministry();
+            ministry.setId((long) i);
+            ministry.setMinistryType("CHOIR");
+            ministries.add(ministry);
+        }
+        faithful.setMinistries(ministries);
+
+        LapseEvent lapse = new LapseEvent();
+        lapse.setId(1L);
+        lapse.setLapseType("OTHER");
+        lapse.setLapseDate(LocalDate.of(2015, 1, 1));
+        faithful.setLapseEvents(new ArrayList<>(List.of(lapse)));
+        return faithful;
+    }
+
+    /**
+     * A repository answering {@code findById} with the given entity and failing on any other call,
+     * so a benchmark that strays beyond the lookup is noticed.
+     */
+    private static <R> R findingById(Class<R> repository, Object entity) {
+        Optional<Object> found = Optional.ofNullable(entity);
+        return repository.cast(Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return found;
+                    }
+                    throw new UnsupportedOperationException(repository.getSimpleName() + "." + method.getName());
+                }));
+    }
+
+    private static Priest priest(Long id) {
+        Priest priest = new Priest();
+        priest.setId(id);
+        priest.setNames("Padiri " + id);
+        priest.setPriestType(PriestType.DIOCESAN);
+        return priest;
+    }
+}
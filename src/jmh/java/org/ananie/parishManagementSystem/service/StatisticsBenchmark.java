@@ -0,0 +1,101 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.ParishManagementSystemApplication;
+import org.ananie.parishManagementSystem.dto.response.DonationSummaryDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics computed over an in-memory H2 database filled by {@link SyntheticDatasetGenerator}
+ * with five years of history for 1k, 10k or 100k faithful (about 9k, 90k or 900k donations).
+ * Result caching and request coalescing are switched off so every invocation runs the queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StatisticsBenchmark {
+
+    private static final long SEED = 42;
+    private static final int YEARS = 5;
+    private static final int BATCH = 10_000;
+
+    @Param({"1000", "10000", "100000"})
+    public int faithfuls;
+
+    private ConfigurableApplicationContext context;
+    private StatisticsService statisticsService;
+    private DonationService donationService;
+
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate startOfYear = today.withDayOfYear(1);
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ParishManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                // Passed as arguments so they take precedence over application.yaml
+                .run("--spring.datasource.url=jdbc:h2:mem:statistics-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.profiles.active=loadtest",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--parish.statistics.cache-enabled=false",
+                        "--parish.statistics.coalesce-requests=false",
+                        "--parish.intentions.allocation.enabled=false");
+        context.getBean(SyntheticDatasetGenerator.class)
+                .generate(SyntheticDatasetGenerator.DatasetSpec.scaledTo(SEED, faithfuls, YEARS, today, BATCH));
+
+        statisticsService = context.getBean(StatisticsService.class);
+        donationService = context.getBean(DonationService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Map<String, Object> dashboardStatistics() {
+        return statisticsService.getDashboardStatistics(today.withDayOfMonth(1), today);
+    }
+
+    @Benchmark
+    public Map<String, Object> periodStatistics() {
+        return statisticsService.getPeriodStatistics(today.getYear());
+    }
+
+    @Benchmark
+    public Map<String, Object> massStatistics() {
+        return statisticsService.getMassStatistics(startOfYear, today);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> priestWorkload() {
+        return statisticsService.getPriestWorkloadStats(startOfYear, today);
+    }
+
+    @Benchmark
+    public Map<String, Object> yearOverYear() {
+        return statisticsService.getYearOverYearStatistics(today.getYear() - 4, today.getYear());
+    }
+
+    @Benchmark
+    public DonationSummaryDTO donationSummary() {
+        return donationService.getDonationSummary(startOfYear, today, "year");
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> donationTotalsBySubParish() {
+        return donationService.getTotalsBySubParish(today.getYear());
+    }
+}
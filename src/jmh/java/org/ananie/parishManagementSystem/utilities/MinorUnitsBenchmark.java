@@ -0,0 +1,84 @@
+package org.ananie.parishManagementSystem.utilities;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summing donation amounts in memory as BigDecimal against {@link MinorUnits} longs, in total and
+ * grouped by one of 200 groups (about the number of basic ecclesial communities in a parish).
+ * The BigDecimal variants mirror the usual entity loop: reduce with add, or merge into a map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinorUnitsBenchmark {
+
+    private static final int GROUPS = 200;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private BigDecimal[] decimalAmounts;
+    private String[] groupNames;
+    private long[] amounts;
+    private int[] groups;
+
+    @Setup
+    public void createAmounts() {
+        SplittableRandom random = new SplittableRandom(42);
+        decimalAmounts = new BigDecimal[rows];
+        groupNames = new String[rows];
+        amounts = new long[rows];
+        groups = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            // Whole francs from 500 to 50 000, stored with two decimals like the amount column
+            BigDecimal amount = BigDecimal.valueOf(500 + random.nextInt(49_501)).setScale(MinorUnits.SCALE);
+            decimalAmounts[i] = amount;
+            amounts[i] = MinorUnits.of(amount);
+            groups[i] = random.nextInt(GROUPS);
+            groupNames[i] = "Bec " + groups[i];
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimalAmounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal minorUnitsTotal() {
+        return MinorUnits.toBigDecimal(MinorUnits.sum(amounts));
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> bigDecimalByGroup() {
+        Map<String, BigDecimal> totals = new HashMap<>();
+        for (int i = 0; i < rows; i++) {
+            totals.merge(groupNames[i], decimalAmounts[i], BigDecimal::add);
+        }
+        return totals;
+    }
+
+    @Benchmark
+    public BigDecimal[] minorUnitsByGroup() {
+        long[] totals = new long[GROUPS];
+        MinorUnits.sumInto(totals, groups, amounts, rows);
+        BigDecimal[] result = new BigDecimal[GROUPS];
+        for (int g = 0; g < GROUPS; g++) {
+            result[g] = MinorUnits.toBigDecimal(totals[g]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package org.ananie.parishManagementSystem.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * One kind of request in the traffic mix.
+ *
+ * @param name    label used in the report and the baseline
+ * @param weight  relative share of the traffic
+ * @param request builds a request against the base URI, varying its parameters with the random source
+ */
+public record Endpoint(String name, int weight, BiFunction<URI, SplittableRandom, HttpRequest> request) {
+
+    public static Endpoint get(String name, int weight, Function<SplittableRandom, String> path) {
+        return new Endpoint(name, weight, (base, random) ->
+                HttpRequest.newBuilder(base.resolve(path.apply(random))).GET().build());
+    }
+
+    public static Endpoint postJson(String name, int weight, String path, Function<SplittableRandom, String> body) {
+        return new Endpoint(name, weight, (base, random) -> HttpRequest.newBuilder(base.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.apply(random)))
+                .build());
+    }
+}
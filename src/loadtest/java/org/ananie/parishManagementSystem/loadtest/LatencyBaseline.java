@@ -0,0 +1,87 @@
+package org.ananie.parishManagementSystem.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.ananie.parishManagementSystem.loadtest.LoadGenerator.EndpointResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stored per-endpoint latencies a run must stay within. A percentile regresses when it exceeds
+ * both {@code tolerance} times its baseline and the baseline plus {@code minSlackMillis}; the
+ * absolute slack keeps millisecond-scale endpoints from failing on scheduler noise.
+ *
+ * @param tolerance      allowed ratio to the baseline
+ * @param minSlackMillis allowed absolute increase over the baseline
+ * @param endpoints      latencies per endpoint name
+ */
+public record LatencyBaseline(double tolerance, double minSlackMillis, Map<String, Budget> endpoints) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    // A percentile is only enforced when at least this many samples lie above it, otherwise it is
+    // little more than the run's maximum and fails on a single garbage collection or context switch
+    private static final int MIN_SAMPLES_ABOVE_PERCENTILE = 2;
+
+    /**
+     * Latencies of one endpoint, in milliseconds. p50 and p99 are enforced once the run has
+     * enough samples; p999 needs far longer runs than usual to be stable and is kept for reference.
+     */
+    public record Budget(double p50Millis, double p99Millis, double p999Millis) {
+    }
+
+    public static LatencyBaseline read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LatencyBaseline.class);
+    }
+
+    public static LatencyBaseline of(Map<String, EndpointResult> results, double tolerance, double minSlackMillis) {
+        Map<String, Budget> budgets = new LinkedHashMap<>();
+        results.forEach((name, result) -> budgets.put(name, new Budget(round(result.percentileMillis(50)),
+                round(result.percentileMillis(99)), round(result.percentileMillis(99.9)))));
+        return new LatencyBaseline(tolerance, minSlackMillis, budgets);
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    /**
+     * Describes every enforced percentile of the run that is over budget; empty when none is.
+     * Endpoints missing from the baseline are not checked.
+     */
+    public List<String> regressions(Map<String, EndpointResult> results) {
+        List<String> regressions = new ArrayList<>();
+        results.forEach((name, result) -> {
+            Budget budget = endpoints.get(name);
+            if (budget != null) {
+                check(regressions, result, "p50", 50, budget.p50Millis());
+                check(regressions, result, "p99", 99, budget.p99Millis());
+            }
+        });
+        return regressions;
+    }
+
+    private void check(List<String> regressions, EndpointResult result, String label, double percentile,
+                       double baseline) {
+        if (result.latencies().getTotalCount() * (100 - percentile) / 100 < MIN_SAMPLES_ABOVE_PERCENTILE) {
+            return;
+        }
+        double actual = result.percentileMillis(percentile);
+        double limit = Math.max(baseline * tolerance, baseline + minSlackMillis);
+        if (actual > limit) {
+            regressions.add(String.format("%s %s %.1f ms exceeds budget %.1f ms (baseline %.1f ms)",
+                    result.name(), label, actual, limit, baseline));
+        }
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 10) / 10.0;
+    }
+}
@@ -0,0 +1,152 @@
+package org.ananie.parishManagementSystem.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives an open-model request mix: requests are scheduled at a fixed arrival rate whether or
+ * not earlier ones have completed, and run on a fixed pool of client threads. Latency is
+ * measured from the scheduled start, so time spent queued behind slow requests is counted
+ * instead of hidden (no coordinated omission).
+ */
+@Slf4j
+public class LoadGenerator {
+
+    // Latencies above a minute are clamped; three significant digits is plenty for percentiles
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final URI baseUri;
+    private final List<Endpoint> endpoints;
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+
+    public LoadGenerator(URI baseUri, List<Endpoint> endpoints, LoadTestSettings settings) {
+        this.baseUri = baseUri;
+        this.endpoints = endpoints;
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Latency distribution and outcome counts of one endpoint over the measured window.
+     */
+    public record EndpointResult(String name, Histogram latencies, long errors, double seconds) {
+
+        public double throughput() {
+            return latencies.getTotalCount() / seconds;
+        }
+
+        public double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Sends warmup traffic, then measured traffic, and returns per-endpoint results in the order
+     * the endpoints were given.
+     */
+    public Map<String, EndpointResult> run() throws InterruptedException {
+        log.info("Warming up for {} at {} req/s", settings.warmup(), settings.rate());
+        drive(settings.warmup(), new SplittableRandom(settings.seed()), null);
+
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        Map<String, AtomicLong> errors = new LinkedHashMap<>();
+        for (Endpoint endpoint : endpoints) {
+            recorders.put(endpoint.name(), new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(endpoint.name(), new AtomicLong());
+        }
+        log.info("Measuring for {} at {} req/s with {} client threads", settings.duration(), settings.rate(),
+                settings.concurrency());
+        long started = System.nanoTime();
+        drive(settings.duration(), new SplittableRandom(settings.seed() + 1), (endpoint, latency, ok) -> {
+            recorders.get(endpoint.name()).recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+            if (!ok) {
+                errors.get(endpoint.name()).incrementAndGet();
+            }
+        });
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Map<String, EndpointResult> results = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> results.put(name,
+                new EndpointResult(name, recorder.getIntervalHistogram(), errors.get(name).get(), seconds)));
+        return results;
+    }
+
+    private interface Outcome {
+        void record(Endpoint endpoint, long latencyNanos, boolean ok);
+    }
+
+    private void drive(Duration duration, SplittableRandom random, Outcome outcome) throws InterruptedException {
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        long intervalNanos = (long) (1e9 / settings.rate());
+        long requests = duration.toNanos() / intervalNanos;
+        ExecutorService clients = Executors.newFixedThreadPool(settings.concurrency());
+        long start = System.nanoTime();
+        try {
+            for (long i = 0; i < requests; i++) {
+                long scheduled = start + i * intervalNanos;
+                Endpoint endpoint = pick(random, totalWeight);
+                HttpRequest request = endpoint.request().apply(baseUri, random.split());
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                clients.execute(() -> {
+                    boolean ok = send(request);
+                    if (outcome != null) {
+                        outcome.record(endpoint, System.nanoTime() - scheduled, ok);
+                    }
+                });
+            }
+        } finally {
+            clients.shutdown();
+            if (!clients.awaitTermination(1, TimeUnit.MINUTES)) {
+                clients.shutdownNow();
+            }
+        }
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                log.debug("Request {} answered {}", request.uri(), response.statusCode());
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.debug("Request {} failed", request.uri(), e);
+            return false;
+        }
+    }
+
+    private Endpoint pick(SplittableRandom random, int totalWeight) {
+        int ticket = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight();
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("Endpoint weights changed during the run");
+    }
+}
@@ -0,0 +1,34 @@
+package org.ananie.parishManagementSystem.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test knobs, read from system properties so they can be passed on the Maven command line:
+ * {@code mvn -Ploadtest test -Dloadtest.rate=200 -Dloadtest.concurrency=32 -Dloadtest.duration=PT1M}.
+ *
+ * @param rate           requests started per second across all endpoints (open model: arrivals
+ *                       do not wait for earlier responses)
+ * @param concurrency    HTTP client threads, i.e. the most requests in flight at once
+ * @param warmup         traffic sent before measuring starts
+ * @param duration       measured traffic
+ * @param faithfuls      size of the generated dataset
+ * @param seed           seed for the dataset and for the request mix
+ * @param baseline       stored latency budgets the run is compared with
+ * @param updateBaseline write this run's latencies as the new baseline instead of comparing
+ */
+public record LoadTestSettings(double rate, int concurrency, Duration warmup, Duration duration, int faithfuls,
+                               long seed, Path baseline, boolean updateBaseline) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Double.parseDouble(System.getProperty("loadtest.rate", "8")),
+                Integer.getInteger("loadtest.concurrency", 8),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                Integer.getInteger("loadtest.faithfuls", 2_000),
+                Long.getLong("loadtest.seed", 42L),
+                Path.of(System.getProperty("loadtest.baseline", "src/loadtest/resources/loadtest-baseline.json")),
+                Boolean.getBoolean("loadtest.updateBaseline"));
+    }
+}
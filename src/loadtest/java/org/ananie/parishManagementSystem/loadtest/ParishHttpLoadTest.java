@@ -0,0 +1,122 @@
+package org.ananie.parishManagementSystem.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.loadtest.LoadGenerator.EndpointResult;
+import org.ananie.parishManagementSystem.service.SyntheticDatasetGenerator;
+import org.ananie.parishManagementSystem.service.SyntheticDatasetGenerator.DatasetSpec;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP load test against the embedded application on H2, seeded with a synthetic dataset.
+ * Sends a weighted mix of faithful lookups and searches, donation listings and donation
+ * statistics, reports HdrHistogram p50/p99/p999 and throughput per endpoint, and
+ * fails when a latency regresses beyond the stored baseline.
+ *
+ * Run with {@code mvn -Ploadtest test}; see {@link LoadTestSettings} for the knobs. Add
+ * {@code -Dloadtest.updateBaseline=true} to record a new baseline after an intended change or
+ * on different hardware. Each run is also written to {@code target/loadtest-result.json}.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.ananie.parishManagementSystem=WARN",
+        "logging.level.org.ananie.parishManagementSystem.loadtest=INFO",
+        "parish.intentions.allocation.enabled=false"
+})
+@ActiveProfiles("loadtest")
+class ParishHttpLoadTest {
+
+    private static final String[] NAMES = {"Mukamana", "Habimana", "Uwase", "Niyonzima", "Uwimana", "Bizimana"};
+    private static final double DEFAULT_TOLERANCE = 2.0;
+    private static final double DEFAULT_MIN_SLACK_MILLIS = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SyntheticDatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void latenciesStayWithinBaseline() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LocalDate today = LocalDate.now();
+        datasetGenerator.generate(DatasetSpec.scaledTo(settings.seed(), settings.faithfuls(), 2, today, 5_000));
+
+        Map<String, EndpointResult> results = new LoadGenerator(URI.create("http://localhost:" + port),
+                traffic(today), settings).run();
+        report(results);
+
+        LatencyBaseline run = LatencyBaseline.of(results, DEFAULT_TOLERANCE, DEFAULT_MIN_SLACK_MILLIS);
+        run.write(Path.of("target", "loadtest-result.json"));
+
+        results.values().forEach(result -> assertThat(result.errors())
+                .as("failed %s requests", result.name())
+                .isLessThanOrEqualTo(result.latencies().getTotalCount() / 100));
+
+        if (settings.updateBaseline() || !Files.exists(settings.baseline())) {
+            LatencyBaseline previous = Files.exists(settings.baseline()) ? LatencyBaseline.read(settings.baseline()) : null;
+            (previous == null ? run : new LatencyBaseline(previous.tolerance(), previous.minSlackMillis(), run.endpoints()))
+                    .write(settings.baseline());
+            log.info("Wrote latency baseline to {}", settings.baseline());
+            return;
+        }
+        assertThat(LatencyBaseline.read(settings.baseline()).regressions(results))
+                .as("latency regressions against %s", settings.baseline())
+                .isEmpty();
+    }
+
+    private List<Endpoint> traffic(LocalDate today) {
+        long firstFaithful = jdbcTemplate.queryForObject("SELECT MIN(id) FROM faithfuls", Long.class);
+        long lastFaithful = jdbcTemplate.queryForObject("SELECT MAX(id) FROM faithfuls", Long.class);
+        int year = today.getYear();
+        LocalDate startOfYear = today.withDayOfYear(1);
+
+        return List.of(
+                Endpoint.get("faithful-by-id", 4, random ->
+                        "/api/faithful/" + faithful(random, firstFaithful, lastFaithful)),
+                Endpoint.get("faithful-search", 4, random ->
+                        "/api/faithful/search/name?name=" + NAMES[random.nextInt(NAMES.length)]),
+                Endpoint.get("faithful-list", 1, random -> "/api/faithful"),
+                Endpoint.get("donations-by-faithful", 4, random ->
+                        "/api/donations?faithfulId=" + faithful(random, firstFaithful, lastFaithful)),
+                Endpoint.get("donations-by-year", 1, random -> "/api/donations?year=" + year),
+                Endpoint.get("donation-summary", 2, random ->
+                        "/api/donations/statistics/summary?startDate=" + startOfYear + "&endDate=" + today),
+                Endpoint.get("donation-monthly", 1, random -> "/api/donations/statistics/year/" + year + "/monthly"),
+                Endpoint.get("donation-by-subparish", 1, random ->
+                        "/api/donations/statistics/by-subparish?year=" + year),
+                Endpoint.get("donation-top-donors", 1, random ->
+                        "/api/donations/statistics/year/" + year + "/top-donors?limit=10"));
+    }
+
+    private static long faithful(SplittableRandom random, long first, long last) {
+        return random.nextLong(first, last + 1);
+    }
+
+    private static void report(Map<String, EndpointResult> results) {
+        StringBuilder table = new StringBuilder(String.format("%n%-24s %8s %8s %10s %10s %10s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors"));
+        results.values().forEach(result -> table.append(String.format("%-24s %8d %8.1f %10.1f %10.1f %10.1f %8d%n",
+                result.name(), result.latencies().getTotalCount(), result.throughput(), result.percentileMillis(50),
+                result.percentileMillis(99), result.percentileMillis(99.9), result.errors())));
+        log.info("Load test results:{}", table);
+    }
+}
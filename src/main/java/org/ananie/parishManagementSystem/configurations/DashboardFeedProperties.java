@@ -0,0 +1,32 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the live dashboard feed (Server-Sent Events).
+ * Bound from the {@code parish.dashboard.feed} section of application.yaml.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.dashboard.feed")
+public class DashboardFeedProperties {
+
+    /**
+     * How long one subscription stays open; browsers reconnect on their own afterwards.
+     */
+    private Duration subscriptionTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Interval between heartbeat comments, which keep idle connections from being closed by proxies.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of open subscriptions; further subscribers are refused.
+     */
+    private int maxSubscribers = 200;
+}
@@ -0,0 +1,11 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("loadtest")
+@EnableConfigurationProperties(DatasetGeneratorProperties.class)
+public class DatasetGeneratorConfiguration {
+}
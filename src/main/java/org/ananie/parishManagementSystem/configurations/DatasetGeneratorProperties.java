@@ -0,0 +1,41 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the synthetic dataset generator used for load and scale testing.
+ * Bound from the {@code parish.dataset} section of application.yaml, under the {@code loadtest} profile only.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.dataset")
+public class DatasetGeneratorProperties {
+
+    /**
+     * Whether a synthetic dataset is generated when the application starts.
+     * Never enable this against a production database.
+     */
+    private boolean generateOnStartup = false;
+
+    /**
+     * Random seed; the same seed on the same starting database produces the same data.
+     */
+    private long seed = 42;
+
+    /**
+     * Number of faithful to generate; every other volume is derived from it.
+     */
+    private int faithfuls = 10_000;
+
+    /**
+     * Years of history (masses, intentions, donations) ending today.
+     */
+    private int years = 5;
+
+    /**
+     * Rows per JDBC batch.
+     */
+    private int batchSize = 5_000;
+}
@@ -0,0 +1,32 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory donation cube.
+ * Bound from the {@code parish.cube} section of application.yaml.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.cube")
+public class DonationCubeProperties {
+
+    /**
+     * Load the cube once the application has started; otherwise on the first query.
+     */
+    private boolean loadOnStartup = true;
+
+    /**
+     * How often the cube is reloaded from the database, picking up donations written with plain JDBC.
+     */
+    private Duration reloadInterval = Duration.ofHours(1);
+
+    /**
+     * Rows the driver fetches per round trip while loading.
+     */
+    private int fetchSize = 500;
+}
@@ -0,0 +1,42 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the donation ledger and its balance snapshots.
+ * Bound from the {@code parish.ledger} section of application.yaml.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.ledger")
+public class DonationLedgerProperties {
+
+    /**
+     * How often streams with a long tail get a new snapshot; also the delay before the first run.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(15);
+
+    /**
+     * Entries a stream may gather past its snapshot before the next run folds them in.
+     */
+    private int snapshotAfterEntries = 10;
+
+    /**
+     * Enter donations that have no ledger entry yet once the application has started.
+     */
+    private boolean backfillOnStartup = true;
+
+    /**
+     * Donations entered per transaction while backfilling.
+     */
+    private int backfillBatchSize = 1000;
+
+    /**
+     * Rows the driver fetches per round trip while replaying the whole ledger.
+     */
+    private int fetchSize = 500;
+}
@@ -0,0 +1,9 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DonationStatementProperties.class)
+public class DonationStatementConfiguration {
+}
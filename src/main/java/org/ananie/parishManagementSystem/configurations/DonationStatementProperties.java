@@ -0,0 +1,37 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Settings for the annual donation statement batch job.
+ * Bound from the {@code parish.statements} section of application.yaml.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.statements")
+public class DonationStatementProperties {
+
+    /**
+     * Statements for a year go to {@code <output-directory>/<year>/}, next to their checkpoint.
+     */
+    private Path outputDirectory = Path.of("statements");
+
+    /**
+     * Threads rendering statements; 0 uses one per available processor.
+     */
+    private int threads = 0;
+
+    /**
+     * Statements rendered between two checkpoints; also bounds how many are held in memory.
+     */
+    private int chunkSize = 200;
+
+    /**
+     * Rows the driver fetches per round trip while reading the year's donations.
+     */
+    private int fetchSize = 500;
+}
@@ -0,0 +1,45 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the nightly job that assigns pending intentions to upcoming masses.
+ * Bound from the {@code parish.intentions.allocation} section of application.yaml.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.intentions.allocation")
+public class IntentionAllocationProperties {
+
+    /**
+     * Whether the scheduled allocation runs at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cron expression for the scheduled run.
+     */
+    private String cron = "0 30 1 * * *";
+
+    /**
+     * How many days ahead masses are considered.
+     */
+    private int horizonDays = 30;
+
+    /**
+     * Capacity used for masses without their own intention capacity.
+     */
+    private int defaultMassCapacity = 10;
+
+    /**
+     * How many days an intention may be pushed back to reach its preferred celebrant.
+     */
+    private int preferenceWindowDays = 7;
+
+    /**
+     * Maximum number of intentions updated per transaction.
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,75 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ananie.parishManagementSystem.metrics.EntityLoadCountingInterceptor;
+import org.ananie.parishManagementSystem.metrics.QueryCountingDataSource;
+import org.ananie.parishManagementSystem.metrics.RequestQueryMetricsFilter;
+import org.ananie.parishManagementSystem.metrics.SlowRequestLog;
+import org.ananie.parishManagementSystem.metrics.SlowRequestsEndpoint;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Metrics beyond what Actuator provides out of the box:
+ * <ul>
+ *   <li>{@code parish.service} timers for service classes annotated with {@code @Timed}</li>
+ *   <li>{@code parish.request.*} summaries of statements, rows and entities per request</li>
+ *   <li>the {@code slowrequests} endpoint: recent slow requests with their statement breakdown</li>
+ * </ul>
+ * Repository invocation timers ({@code spring.data.repository.invocations}), the Hikari pool
+ * ({@code hikaricp.*}) and Hibernate statistics ({@code hibernate.*}) are auto-configured.
+ */
+@Configuration
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class MetricsConfiguration {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // Static so wrapping the data source does not pull this configuration in early
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)
+                        ? new QueryCountingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityLoadCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadCountingInterceptor());
+    }
+
+    @Bean
+    public SlowRequestLog slowRequestLog(ProfilingProperties properties) {
+        return new SlowRequestLog(properties);
+    }
+
+    @Bean
+    public SlowRequestsEndpoint slowRequestsEndpoint(SlowRequestLog slowRequestLog) {
+        return new SlowRequestsEndpoint(slowRequestLog);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestQueryMetricsFilter> requestQueryMetricsFilter(MeterRegistry meterRegistry,
+                                                                                       SlowRequestLog slowRequestLog) {
+        FilterRegistrationBean<RequestQueryMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestQueryMetricsFilter(meterRegistry, slowRequestLog));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
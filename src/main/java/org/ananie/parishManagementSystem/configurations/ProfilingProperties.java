@@ -0,0 +1,38 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the per-request query profiler and its slow-request log.
+ * Bound from the {@code parish.profiling} section of application.yaml.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.profiling")
+public class ProfilingProperties {
+
+    /**
+     * Requests taking at least this long are logged with their statement breakdown
+     * and kept for the {@code slowrequests} Actuator endpoint.
+     */
+    private Duration slowRequestThreshold = Duration.ofMillis(500);
+
+    /**
+     * Number of most recent slow requests kept in memory.
+     */
+    private int historySize = 50;
+
+    /**
+     * Statements listed per slow request, most time-consuming first.
+     */
+    private int breakdownSize = 10;
+
+    /**
+     * Distinct SQL texts tracked individually per request; the rest are lumped together.
+     */
+    private int maxDistinctStatements = 200;
+}
@@ -0,0 +1,21 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the streaming register exports.
+ * Bound from the {@code parish.export} section of application.yaml.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.export")
+public class RegisterExportProperties {
+
+    /**
+     * Rows the driver fetches per round trip while an export reads its cursor.
+     * Ignored on MySQL, whose driver is switched to row-by-row streaming instead.
+     */
+    private int fetchSize = 500;
+}
@@ -0,0 +1,41 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size and expiry of the Hibernate second-level and query cache regions.
+ * Bound from the {@code parish.second-level-cache} section of application.yaml.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Regions by name, as given in the entities' {@code @Cache} annotations, plus Hibernate's
+     * {@code default-query-results-region} and {@code default-update-timestamps-region}.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        /**
+         * Maximum number of entries; the least valuable are evicted beyond it.
+         */
+        private long maxEntries = 1_000;
+
+        /**
+         * How long an entry lives after being written; unset keeps it until evicted.
+         * Bounds staleness if rows are changed outside the application.
+         */
+        private Duration expireAfterWrite;
+    }
+}
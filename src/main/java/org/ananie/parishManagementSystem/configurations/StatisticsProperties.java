@@ -0,0 +1,50 @@
+package org.ananie.parishManagementSystem.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for how statistics queries are executed.
+ * Bound from the {@code parish.statistics} section of application.yaml.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parish.statistics")
+public class StatisticsProperties {
+
+    /**
+     * Whether independent statistics queries run concurrently, each in its own read-only transaction.
+     * When off they run one after another in a single read-only transaction.
+     */
+    private boolean parallelQueries = false;
+
+    /**
+     * Maximum number of statistics queries running at the same time.
+     * Each one holds a pooled connection, so keep this below the connection pool size.
+     */
+    private int maxConcurrentQueries = 4;
+
+    /**
+     * Whether concurrent identical statistics requests share one computation.
+     */
+    private boolean coalesceRequests = true;
+
+    /**
+     * Whether statistics results are cached between requests.
+     */
+    private boolean cacheEnabled = true;
+
+    /**
+     * Maximum number of cached statistics results; the least valuable entries are evicted first.
+     */
+    private long cacheMaxEntries = 1000;
+
+    /**
+     * Upper bound on the age of a cached result, for changes made outside the services
+     * (bulk jobs, direct SQL) that publish no change event.
+     */
+    private Duration cacheTtl = Duration.ofMinutes(10);
+}
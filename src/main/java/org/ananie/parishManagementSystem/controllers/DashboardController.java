@@ -0,0 +1,37 @@
+package org.ananie.parishManagementSystem.controllers;
+
+import org.ananie.parishManagementSystem.service.DashboardFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the live dashboard.
+ * Clients subscribe once and receive committed changes as they happen instead of polling.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(originPatterns = "*") // Adjust for production
+public class DashboardController {
+
+    private final DashboardFeed dashboardFeed;
+
+    @Autowired
+    public DashboardController(DashboardFeed dashboardFeed) {
+        this.dashboardFeed = dashboardFeed;
+    }
+
+    /**
+     * Subscribe to live dashboard deltas (Server-Sent Events, event name "delta").
+     * GET /api/dashboard/stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        return dashboardFeed.subscribe()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+}
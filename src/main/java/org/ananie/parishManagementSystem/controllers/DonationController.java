@@ -1,23 +1,30 @@
 package org.ananie.parishManagementSystem.controllers;
 
 import jakarta.validation.Valid;
+import org.ananie.parishManagementSystem.cube.CubeQuery;
+import org.ananie.parishManagementSystem.cube.CubeResult;
+import org.ananie.parishManagementSystem.cube.Dimension;
 import org.ananie.parishManagementSystem.dto.request.DonationRequestDTO;
 import org.ananie.parishManagementSystem.dto.request.DonationUpdateDTO;
 import org.ananie.parishManagementSystem.dto.response.DonationResponseDTO;
 import org.ananie.parishManagementSystem.dto.response.DonationSummaryDTO;
+import org.ananie.parishManagementSystem.entity.DonationLedgerEntry;
+import org.ananie.parishManagementSystem.service.DonationCube;
+import org.ananie.parishManagementSystem.service.DonationLedger;
 import org.ananie.parishManagementSystem.service.DonationService;
+import org.ananie.parishManagementSystem.service.DonationStatementJob;
+import org.ananie.parishManagementSystem.statements.StatementFormat;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * REST Controller for managing donations/contributions.
@@ -25,14 +32,21 @@ import java.util.Map;
  */
 @RestController
 @RequestMapping("/api/donations")
-@CrossOrigin(origins = "*") // Adjust for production
+@CrossOrigin(originPatterns = "*") // Adjust for production
 public class DonationController {
 
     private final DonationService donationService;
+    private final DonationStatementJob statementJob;
+    private final DonationLedger ledger;
+    private final DonationCube cube;
 
     @Autowired
-    public DonationController(DonationService donationService) {
+    public DonationController(DonationService donationService, DonationStatementJob statementJob,
+                              DonationLedger ledger, DonationCube cube) {
         this.donationService = donationService;
+        this.statementJob = statementJob;
+        this.ledger = ledger;
+        this.cube = cube;
     }
 
     // ==================== CREATE ====================
@@ -293,4 +307,94 @@ public class DonationController {
         Map<String, BigDecimal> totals = donationService.getTotalsByBecInSubParish(subParish, year);
         return ResponseEntity.ok(totals);
     }
-}
\ No newline at end of file
+
+    /**
+     * Donation totals sliced by any combination of year, month, type, paymentMethod, subParish and bec,
+     * answered from the in-memory cube. Every other parameter filters a dimension to the listed values.
+     * GET /api/donations/cube?groupBy=subParish,month&year=2024&type=TITHE,OFFERING&from=2024-01-01
+     */
+    @GetMapping("/cube")
+    public ResponseEntity<CubeResult> queryCube(
+            @RequestParam(required = false) List<String> groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam MultiValueMap<String, String> parameters) {
+
+        Map<Dimension, Set<String>> filters = new EnumMap<>(Dimension.class);
+        parameters.forEach((name, values) -> {
+            if (!name.equals("groupBy") && !name.equals("from") && !name.equals("to")) {
+                Set<String> kept = filters.computeIfAbsent(Dimension.fromName(name), dimension -> new HashSet<>());
+                values.forEach(value -> Arrays.stream(value.split(",")).map(String::trim).forEach(kept::add));
+            }
+        });
+        List<Dimension> dimensions = groupBy == null ? List.of() : groupBy.stream().map(Dimension::fromName).toList();
+        return ResponseEntity.ok(cube.query(new CubeQuery(dimensions, filters, from, to)));
+    }
+
+    // ==================== ANNUAL STATEMENTS ====================
+
+    /**
+     * Start generating every contributing faithful's donation statement for a year, in the background.
+     * An unfinished run for the year in the same format resumes from its checkpoint unless fromScratch is set.
+     * POST /api/donations/statements/2024?format=html&zip=true
+     */
+    @PostMapping("/statements/{year}")
+    public ResponseEntity<?> startStatements(
+            @PathVariable Integer year,
+            @RequestParam(defaultValue = "html") String format,
+            @RequestParam(defaultValue = "false") boolean zip,
+            @RequestParam(defaultValue = "false") boolean fromScratch) {
+        try {
+            DonationStatementJob.Status status = statementJob.start(year, StatementFormat.fromName(format), zip, fromScratch);
+            return ResponseEntity.accepted().body(status);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Progress of the statement run for a year.
+     * GET /api/donations/statements/2024
+     */
+    @GetMapping("/statements/{year}")
+    public ResponseEntity<?> getStatementsStatus(@PathVariable Integer year) {
+        return statementJob.status(year)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "No statement run found for " + year)));
+    }
+
+    // ==================== LEDGER ====================
+
+    /**
+     * Everything recorded for a donation, oldest first; still available after it was deleted.
+     * GET /api/donations/{id}/history
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<?> getDonationHistory(@PathVariable Long id) {
+        List<DonationLedgerEntry> history = ledger.history(id);
+        if (history.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Ituro ntiribonetse (ID: " + id + ")"));
+        }
+        return ResponseEntity.ok(history);
+    }
+
+    /**
+     * A faithful's balance for each contribution year, read from the ledger snapshots and their tails.
+     * GET /api/donations/ledger/faithful/{faithfulId}/balances
+     */
+    @GetMapping("/ledger/faithful/{faithfulId}/balances")
+    public ResponseEntity<List<DonationLedger.Balance>> getLedgerBalances(@PathVariable Long faithfulId) {
+        return ResponseEntity.ok(ledger.balances(faithfulId));
+    }
+
+    /**
+     * Replay the whole ledger and replace every balance snapshot with the result.
+     * POST /api/donations/ledger/snapshots/rebuild
+     */
+    @PostMapping("/ledger/snapshots/rebuild")
+    public ResponseEntity<DonationLedger.Replay> rebuildLedgerSnapshots() {
+        return ResponseEntity.ok(ledger.rebuildSnapshots());
+    }
+}
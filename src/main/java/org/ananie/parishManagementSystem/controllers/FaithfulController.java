@@ -3,13 +3,22 @@ package org.ananie.parishManagementSystem.controllers;
 import org.ananie.parishManagementSystem.dto.response.ApiResponse;
 import org.ananie.parishManagementSystem.dto.request.CreateFaithfulRequest;
 import org.ananie.parishManagementSystem.dto.response.FaithfulDTO;
+import org.ananie.parishManagementSystem.export.ExportFormat;
+import org.ananie.parishManagementSystem.export.TableWriter;
+import org.ananie.parishManagementSystem.service.FaithfulRegisterExporter;
+import org.ananie.parishManagementSystem.service.FaithfulRegisterExporter.RegisterFilter;
 import org.ananie.parishManagementSystem.service.FaithfulService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -18,10 +27,12 @@ import java.util.List;
 public class FaithfulController {
 
     private final FaithfulService faithfulService;
+    private final FaithfulRegisterExporter registerExporter;
 
     @Autowired
-    public FaithfulController(FaithfulService faithfulService) {
+    public FaithfulController(FaithfulService faithfulService, FaithfulRegisterExporter registerExporter) {
         this.faithfulService = faithfulService;
+        this.registerExporter = registerExporter;
     }
 
     // --- CREATE ---
@@ -89,6 +100,30 @@ public class FaithfulController {
     }
 
 
+    // --- EXPORT ---
+
+    /**
+     * Streams the register as CSV or XLSX straight into the response, optionally narrowed to a
+     * parish, subparish and/or basic ecclesial community.
+     */
+    @GetMapping("/export")
+    public void exportRegister(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String parish,
+            @RequestParam(required = false) String subParish,
+            @RequestParam(required = false) String bec,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("faithful-register-" + LocalDate.now() + "." + exportFormat.getExtension())
+                .build().toString());
+
+        TableWriter writer = exportFormat.open(response.getOutputStream());
+        registerExporter.export(new RegisterFilter(parish, subParish, bec), writer);
+        writer.finish();
+    }
+
     // --- ADVANCED QUERIES ---
 
     @GetMapping("/sacraments/completed")
@@ -0,0 +1,83 @@
+package org.ananie.parishManagementSystem.controllers;
+
+import jakarta.validation.Valid;
+import org.ananie.parishManagementSystem.dto.request.IntentionRequestDTO;
+import org.ananie.parishManagementSystem.dto.response.IntentionResponseDTO;
+import org.ananie.parishManagementSystem.exception.ResourceNotFoundException;
+import org.ananie.parishManagementSystem.exception.ValidationException;
+import org.ananie.parishManagementSystem.service.IntentionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST Controller for recording mass intentions.
+ * Intentions sent without a mass are placed by the allocator, near the preferred celebrant when one is given.
+ */
+@RestController
+@RequestMapping("/api/intentions")
+@CrossOrigin(originPatterns = "*") // Adjust for production
+public class IntentionController {
+
+    private final IntentionService intentionService;
+
+    @Autowired
+    public IntentionController(IntentionService intentionService) {
+        this.intentionService = intentionService;
+    }
+
+    // ==================== CREATE ====================
+    /**
+     * Record a new intention.
+     * POST /api/intentions
+     */
+    @PostMapping
+    public ResponseEntity<?> createIntention(@Valid @RequestBody IntentionRequestDTO requestDTO,
+                                             BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return ResponseEntity.badRequest().body(fieldErrors(bindingResult));
+        }
+
+        try {
+            IntentionResponseDTO created = intentionService.createIntention(requestDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // ==================== UPDATE ====================
+    /**
+     * Replace an intention's details.
+     * PUT /api/intentions/{id}
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateIntention(@PathVariable Long id,
+                                             @Valid @RequestBody IntentionRequestDTO requestDTO,
+                                             BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            return ResponseEntity.badRequest().body(fieldErrors(bindingResult));
+        }
+
+        try {
+            return ResponseEntity.ok(intentionService.updateIntention(id, requestDTO));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private static Map<String, String> fieldErrors(BindingResult bindingResult) {
+        Map<String, String> errors = new HashMap<>();
+        bindingResult.getFieldErrors().forEach(error ->
+                errors.put(error.getField(), error.getDefaultMessage())
+        );
+        return errors;
+    }
+}
@@ -0,0 +1,34 @@
+package org.ananie.parishManagementSystem.cube;
+
+import org.ananie.parishManagementSystem.exception.ValidationException;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A slice of the donation cube: the dimensions to group by (none for a grand total), the values
+ * each filtered dimension may take, and an optional inclusive range of payment dates.
+ *
+ * @param groupBy dimensions of each result cell's key, in order
+ * @param filters per dimension, the values kept (as their text, e.g. "2024" for a year)
+ * @param from    first payment date kept, or null
+ * @param to      last payment date kept, or null
+ * @author Parish Management System
+ * @version 2.0
+ */
+public record CubeQuery(List<Dimension> groupBy, Map<Dimension, Set<String>> filters, LocalDate from, LocalDate to) {
+
+    public CubeQuery {
+        groupBy = List.copyOf(groupBy);
+        if (groupBy.stream().distinct().count() != groupBy.size()) {
+            throw new ValidationException("A dimension can only be grouped by once: " + groupBy);
+        }
+        filters = filters.isEmpty() ? Map.of() : Map.copyOf(new EnumMap<>(filters));
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ValidationException("Start date " + from + " is after end date " + to);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.ananie.parishManagementSystem.cube;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Answer to a {@link CubeQuery}: one cell per combination of grouped values that has donations,
+ * ordered by key, plus the total over all of them.
+ *
+ * @param groupBy parameter names of the grouped dimensions, in key order
+ * @author Parish Management System
+ * @version 2.0
+ */
+public record CubeResult(List<String> groupBy, List<Cell> cells, BigDecimal total, long donations) {
+
+    /**
+     * @param key values of the grouped dimensions, in {@code groupBy} order; null where a donation has none
+     */
+    public record Cell(List<Object> key, BigDecimal total, long donations) {
+    }
+}
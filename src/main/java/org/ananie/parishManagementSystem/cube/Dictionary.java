@@ -0,0 +1,45 @@
+package org.ananie.parishManagementSystem.cube;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense integer codes for the distinct values of one dimension, in order of first appearance.
+ * Null is a value like any other, but cannot be selected by name.
+ */
+final class Dictionary {
+
+    private final List<Object> values = new ArrayList<>();
+    private final Map<Object, Integer> codes = new HashMap<>();
+    private final Map<String, Integer> codesByName = new HashMap<>();
+
+    int encode(Object value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            values.add(value);
+            codes.put(value, code);
+            if (value != null) {
+                codesByName.put(value.toString(), code);
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Code of the value whose text is {@code name}, or -1 if no donation has it.
+     */
+    int codeOf(String name) {
+        return codesByName.getOrDefault(name, -1);
+    }
+
+    Object value(int code) {
+        return values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
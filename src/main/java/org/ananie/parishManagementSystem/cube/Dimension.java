@@ -0,0 +1,47 @@
+package org.ananie.parishManagementSystem.cube;
+
+import org.ananie.parishManagementSystem.exception.ValidationException;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Attributes the donation cube can be filtered and grouped by, with their request parameter names.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public enum Dimension {
+
+    /** Contribution year. */
+    YEAR("year"),
+    /** Month (1-12) of the payment date. */
+    MONTH("month"),
+    TYPE("type"),
+    PAYMENT_METHOD("paymentMethod"),
+    /** Sub-parish of the donor. */
+    SUB_PARISH("subParish"),
+    /** Basic ecclesial community of the donor. */
+    BEC("bec");
+
+    private final String parameter;
+
+    Dimension(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    /**
+     * Parses a dimension as named in a request: its parameter name or constant name, ignoring case.
+     */
+    public static Dimension fromName(String name) {
+        return Arrays.stream(values())
+                .filter(dimension -> dimension.parameter.equalsIgnoreCase(name) || dimension.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Unknown cube dimension: " + name + " (expected one of "
+                        + Arrays.stream(values()).map(Dimension::getParameter).collect(Collectors.joining(", ")) + ")"));
+    }
+}
@@ -0,0 +1,292 @@
+package org.ananie.parishManagementSystem.cube;
+
+import org.ananie.parishManagementSystem.utilities.MinorUnits;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Donations stored column by column for slicing in memory: amounts in {@link MinorUnits} and payment
+ * dates as epoch days in primitive arrays, every {@link Dimension} as dictionary codes, and one bitmap
+ * of rows per dimension value. A filter is an OR of the selected values' bitmaps per dimension, ANDed
+ * across dimensions; grouping then reads only the code columns of the matching rows.
+ *
+ * <p>Rows are only appended. A changed donation is appended again and its old row marked dead, so the
+ * bitmaps never need rewriting; {@link #compact()} drops dead rows once they pile up. Not thread-safe:
+ * the owner serialises writes against reads.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public final class DonationColumns {
+
+    private static final int MIN_CAPACITY = 1024;
+    private static final Dimension[] DIMENSIONS = Dimension.values();
+
+    /**
+     * Up to this many possible keys, groups are summed in arrays indexed by the combined code;
+     * beyond it, in a map holding only the keys that occur.
+     */
+    private static final int DENSE_KEY_SPACE = 1 << 16;
+
+    private long[] donationIds;
+    private long[] faithfulIds;
+    private long[] amounts;
+    private int[] epochDays;
+    private final int[][] codes = new int[DIMENSIONS.length][];
+
+    private final Dictionary[] dictionaries = new Dictionary[DIMENSIONS.length];
+    private final List<List<BitSet>> bitmaps = new ArrayList<>(DIMENSIONS.length);
+    private final BitSet live = new BitSet();
+
+    private int size;
+    private int dead;
+    // Rows [0, sortedPrefix) are in ascending donation id order, so a donation is found there by binary search
+    private int sortedPrefix;
+
+    public DonationColumns(int expectedRows) {
+        int capacity = Math.max(MIN_CAPACITY, expectedRows);
+        donationIds = new long[capacity];
+        faithfulIds = new long[capacity];
+        amounts = new long[capacity];
+        epochDays = new int[capacity];
+        for (Dimension dimension : DIMENSIONS) {
+            codes[dimension.ordinal()] = new int[capacity];
+            dictionaries[dimension.ordinal()] = new Dictionary();
+            bitmaps.add(new ArrayList<>());
+        }
+    }
+
+    // ==================== WRITING ====================
+    /**
+     * Appends a donation as a new live row.
+     *
+     * @param amount in minor units
+     * @return the row
+     */
+    public int append(long donationId, long faithfulId, long amount, LocalDate date, int year,
+                      String contributionType, String paymentMethod, String subParish, String bec) {
+        if (size == donationIds.length) {
+            grow();
+        }
+        int row = size++;
+        if (sortedPrefix == row && (row == 0 || donationIds[row - 1] < donationId)) {
+            sortedPrefix++;
+        }
+        donationIds[row] = donationId;
+        faithfulIds[row] = faithfulId;
+        amounts[row] = amount;
+        epochDays[row] = (int) date.toEpochDay();
+        encode(Dimension.YEAR, row, year);
+        encode(Dimension.MONTH, row, date.getMonthValue());
+        encode(Dimension.TYPE, row, contributionType);
+        encode(Dimension.PAYMENT_METHOD, row, paymentMethod);
+        encode(Dimension.SUB_PARISH, row, subParish);
+        encode(Dimension.BEC, row, bec);
+        live.set(row);
+        return row;
+    }
+
+    private void encode(Dimension dimension, int row, Object value) {
+        int code = dictionaries[dimension.ordinal()].encode(value);
+        codes[dimension.ordinal()][row] = code;
+        List<BitSet> valueBitmaps = bitmaps.get(dimension.ordinal());
+        if (code == valueBitmaps.size()) {
+            valueBitmaps.add(new BitSet());
+        }
+        valueBitmaps.get(code).set(row);
+    }
+
+    private void grow() {
+        int capacity = donationIds.length + (donationIds.length >> 1);
+        donationIds = Arrays.copyOf(donationIds, capacity);
+        faithfulIds = Arrays.copyOf(faithfulIds, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        for (int d = 0; d < codes.length; d++) {
+            codes[d] = Arrays.copyOf(codes[d], capacity);
+        }
+    }
+
+    /**
+     * Marks the live row of a donation dead.
+     *
+     * @return whether the donation had a live row
+     */
+    public boolean remove(long donationId) {
+        int row = rowOf(donationId);
+        if (row < 0) {
+            return false;
+        }
+        kill(row);
+        return true;
+    }
+
+    /**
+     * Marks every live row of a faithful's donations dead.
+     *
+     * @return number of rows removed
+     */
+    public int removeFaithful(long faithfulId) {
+        int removed = 0;
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            if (faithfulIds[row] == faithfulId) {
+                kill(row);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void kill(int row) {
+        live.clear(row);
+        dead++;
+    }
+
+    private int rowOf(long donationId) {
+        int row = Arrays.binarySearch(donationIds, 0, sortedPrefix, donationId);
+        if (row >= 0 && live.get(row)) {
+            return row;
+        }
+        // Donations appended out of order (changed ones, or written while loading) are few: scan them
+        for (row = size - 1; row >= sortedPrefix; row--) {
+            if (donationIds[row] == donationId && live.get(row)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    public int liveRows() {
+        return size - dead;
+    }
+
+    public int deadRows() {
+        return dead;
+    }
+
+    /**
+     * A copy holding only the live rows, in donation id order, with dictionaries and bitmaps rebuilt.
+     */
+    public DonationColumns compact() {
+        Integer[] rows = live.stream().boxed().toArray(Integer[]::new);
+        Arrays.sort(rows, Comparator.comparingLong(row -> donationIds[row]));
+
+        DonationColumns compacted = new DonationColumns(rows.length);
+        for (int row : rows) {
+            compacted.append(donationIds[row], faithfulIds[row], amounts[row], LocalDate.ofEpochDay(epochDays[row]),
+                    (Integer) valueAt(Dimension.YEAR, row), (String) valueAt(Dimension.TYPE, row),
+                    (String) valueAt(Dimension.PAYMENT_METHOD, row), (String) valueAt(Dimension.SUB_PARISH, row),
+                    (String) valueAt(Dimension.BEC, row));
+        }
+        return compacted;
+    }
+
+    private Object valueAt(Dimension dimension, int row) {
+        return dictionaries[dimension.ordinal()].value(codes[dimension.ordinal()][row]);
+    }
+
+    // ==================== QUERYING ====================
+    /**
+     * Totals of the live donations matching the query's filters, per combination of its grouped values.
+     */
+    public CubeResult query(CubeQuery query) {
+        BitSet rows = (BitSet) live.clone();
+        for (Map.Entry<Dimension, Set<String>> filter : query.filters().entrySet()) {
+            Dictionary dictionary = dictionaries[filter.getKey().ordinal()];
+            List<BitSet> valueBitmaps = bitmaps.get(filter.getKey().ordinal());
+            BitSet selected = new BitSet();
+            for (String name : filter.getValue()) {
+                int code = dictionary.codeOf(name);
+                if (code >= 0) {
+                    selected.or(valueBitmaps.get(code));
+                }
+            }
+            rows.and(selected);
+        }
+        int firstDay = query.from() != null ? (int) query.from().toEpochDay() : Integer.MIN_VALUE;
+        int lastDay = query.to() != null ? (int) query.to().toEpochDay() : Integer.MAX_VALUE;
+
+        List<Dimension> groupBy = query.groupBy();
+        int[][] keyCodes = new int[groupBy.size()][];
+        int[] radix = new int[groupBy.size()];
+        long keySpace = 1;
+        for (int g = 0; g < groupBy.size(); g++) {
+            keyCodes[g] = codes[groupBy.get(g).ordinal()];
+            radix[g] = Math.max(1, dictionaries[groupBy.get(g).ordinal()].size());
+            keySpace = Math.multiplyExact(keySpace, radix[g]);
+        }
+
+        // Per combined key: [total in minor units, donation count]
+        Map<Long, long[]> groups = new HashMap<>();
+        if (keySpace <= DENSE_KEY_SPACE) {
+            long[] totals = new long[(int) keySpace];
+            long[] counts = new long[(int) keySpace];
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                int day = epochDays[row];
+                if (day < firstDay || day > lastDay) {
+                    continue;
+                }
+                int key = 0;
+                for (int g = 0; g < keyCodes.length; g++) {
+                    key = key * radix[g] + keyCodes[g][row];
+                }
+                totals[key] = MinorUnits.add(totals[key], amounts[row]);
+                counts[key]++;
+            }
+            for (int key = 0; key < counts.length; key++) {
+                if (counts[key] > 0) {
+                    groups.put((long) key, new long[]{totals[key], counts[key]});
+                }
+            }
+        } else {
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                int day = epochDays[row];
+                if (day < firstDay || day > lastDay) {
+                    continue;
+                }
+                long key = 0;
+                for (int g = 0; g < keyCodes.length; g++) {
+                    key = key * radix[g] + keyCodes[g][row];
+                }
+                long[] group = groups.computeIfAbsent(key, k -> new long[2]);
+                group[0] = MinorUnits.add(group[0], amounts[row]);
+                group[1]++;
+            }
+        }
+
+        List<CubeResult.Cell> cells = new ArrayList<>(groups.size());
+        long total = 0;
+        long donations = 0;
+        for (Map.Entry<Long, long[]> group : groups.entrySet()) {
+            Object[] key = new Object[groupBy.size()];
+            long combined = group.getKey();
+            for (int g = groupBy.size() - 1; g >= 0; g--) {
+                key[g] = dictionaries[groupBy.get(g).ordinal()].value((int) (combined % radix[g]));
+                combined /= radix[g];
+            }
+            long[] sums = group.getValue();
+            cells.add(new CubeResult.Cell(Arrays.asList(key), MinorUnits.toBigDecimal(sums[0]), sums[1]));
+            total = MinorUnits.add(total, sums[0]);
+            donations += sums[1];
+        }
+        cells.sort(Comparator.comparing(CubeResult.Cell::key, DonationColumns::compareKeys));
+
+        return new CubeResult(groupBy.stream().map(Dimension::getParameter).toList(), cells,
+                MinorUnits.toBigDecimal(total), donations);
+    }
+
+    // Element by element, values in their natural order and missing ones last
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareKeys(List<Object> left, List<Object> right) {
+        for (int i = 0; i < left.size(); i++) {
+            Object a = left.get(i);
+            Object b = right.get(i);
+            int order = a == null ? (b == null ? 0 : 1) : b == null ? -1 : ((Comparable) a).compareTo(b);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return 0;
+    }
+}
@@ -32,4 +32,6 @@ public class IntentionRequestDTO {
     private Long faithfulId;
 
     private String externalFaithfulName;
+
+    private Long preferredCelebrantId;
 }
@@ -1,5 +1,6 @@
 package org.ananie.parishManagementSystem.dto.request;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -25,6 +26,9 @@ public class MassRequestDTO {
 
     private String readings;
 
+    @Min(value = 0, message = "Intention capacity cannot be negative")
+    private Integer intentionCapacity;
+
     @NotNull(message = "Main celebrant is required")
     private Long mainCelebrantId;
 
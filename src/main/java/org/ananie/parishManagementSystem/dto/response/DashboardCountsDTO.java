@@ -0,0 +1,41 @@
+package org.ananie.parishManagementSystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ====================================================================
+ * Scalar dashboard counts, filled by a single aggregate query
+ * ====================================================================
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardCountsDTO {
+
+    /**
+     * Events of any kind (masses included) in the period.
+     */
+    private Long totalEvents;
+
+    /**
+     * Masses celebrated on the reference day.
+     */
+    private Long massesToday;
+
+    /**
+     * Priests registered in the parish.
+     */
+    private Long totalPriests;
+
+    /**
+     * Intentions requested in the period.
+     */
+    private Long totalIntentions;
+
+    /**
+     * Intentions for the deceased requested in the period.
+     */
+    private Long deceasedIntentions;
+}
@@ -30,6 +30,8 @@ public class IntentionResponseDTO {
     private Long faithfulId; // null if external
     private String externalFaithfulName; // null if registered faithful
 
+    private Long preferredCelebrantId; // honoured by the allocator when possible
+
     // Nested DTO for mass summary
     @NoArgsConstructor
     @AllArgsConstructor
@@ -22,6 +22,7 @@ public class MassResponseDTO {
     private MassType massType;
     private LiturgicalSeason liturgicalSeason;
     private String readings;
+    private Integer intentionCapacity;
 
     // Event fields
     private LocalDate massDate;
@@ -17,11 +17,15 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "donations")
+@Table(name = "donations", indexes = {
+        @Index(name = "idx_donations_date", columnList = "date"),
+        @Index(name = "idx_donations_year_month", columnList = "year, donation_month, amount")
+})
 public class Donation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "donations_seq")
+    @SequenceGenerator(name = "donations_seq", sequenceName = "donations_seq", allocationSize = 50)
     private Long id;
 
     // --- RELATIONSHIP TO FAITHFUL ---
@@ -53,6 +57,13 @@ public class Donation {
     @Column(name = "date", nullable = false)
     private LocalDate date;
 
+    /**
+     * Month (1-12) of the donation date, stored so monthly summaries can group on an indexed column.
+     * Generated by the database from {@link #date}; read-only here and filled in when the row is loaded.
+     */
+    @Column(name = "donation_month", insertable = false, updatable = false)
+    private Integer donationMonth;
+
     // --- CONTRIBUTION CATEGORY ---
     /**
      * Type of contribution: TITHE, OFFERING, SPECIAL_COLLECTION, BUILDING_FUND, etc.
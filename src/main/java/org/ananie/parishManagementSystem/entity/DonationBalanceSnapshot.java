@@ -0,0 +1,51 @@
+package org.ananie.parishManagementSystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Balance of one donation ledger stream (a faithful's donations for a contribution year)
+ * folded up to {@link #version}. The current balance is this plus the stream's later entries,
+ * so only the tail has to be read. Derived data: it can be rebuilt from the ledger at any time.
+ */
+@Data
+@Getter
+@Setter
+@Entity
+@Table(name = "donation_balance_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_donation_balance_snapshots_stream",
+                columnNames = {"faithful_id", "contribution_year"}))
+public class DonationBalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "donation_balance_snapshots_seq")
+    @SequenceGenerator(name = "donation_balance_snapshots_seq", sequenceName = "donation_balance_snapshots_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(name = "faithful_id", nullable = false)
+    private Long faithfulId;
+
+    @Column(name = "contribution_year", nullable = false)
+    private Integer year;
+
+    /**
+     * Last stream version included in the totals.
+     */
+    @Column(name = "stream_version", nullable = false)
+    private Integer version;
+
+    @Column(name = "total", nullable = false, precision = 12, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "donation_count", nullable = false)
+    private Integer donationCount;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+}
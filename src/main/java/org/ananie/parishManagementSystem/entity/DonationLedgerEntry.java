@@ -0,0 +1,92 @@
+package org.ananie.parishManagementSystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import org.ananie.parishManagementSystem.utilities.LedgerEntryType;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One append-only entry in the donation ledger: a donation recorded, adjusted or voided.
+ * Entries are grouped in streams, one per faithful and contribution year, and numbered
+ * without gaps within their stream; a stream's balance is the sum of its entries' deltas.
+ * Nothing references donations or faithful by foreign key, so the history outlives both.
+ */
+@Data
+@Getter
+@Setter
+@Entity
+@Immutable
+@Table(name = "donation_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uk_donation_ledger_stream_version",
+                columnNames = {"faithful_id", "contribution_year", "stream_version"}),
+        indexes = @Index(name = "idx_donation_ledger_donation", columnList = "donation_id"))
+public class DonationLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "donation_ledger_seq")
+    @SequenceGenerator(name = "donation_ledger_seq", sequenceName = "donation_ledger_seq", allocationSize = 50)
+    private Long id;
+
+    // --- STREAM ---
+    @Column(name = "faithful_id", nullable = false)
+    private Long faithfulId;
+
+    @Column(name = "contribution_year", nullable = false)
+    private Integer year;
+
+    /**
+     * Position within the stream, starting at 1. The unique constraint makes a concurrent
+     * append to the same stream fail instead of silently interleaving.
+     */
+    @Column(name = "stream_version", nullable = false)
+    private Integer version;
+
+    // --- WHAT HAPPENED ---
+    @Column(name = "donation_id", nullable = false)
+    private Long donationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    private LedgerEntryType entryType;
+
+    /**
+     * Change to the stream's total: the amount when recorded, the difference when adjusted,
+     * the negated amount when voided or moved to another stream.
+     */
+    @Column(name = "amount_delta", nullable = false, precision = 12, scale = 2)
+    private BigDecimal amountDelta;
+
+    /**
+     * Change to the stream's number of donations: +1, 0 or -1.
+     */
+    @Column(name = "count_delta", nullable = false)
+    private Integer countDelta;
+
+    // --- THE DONATION AS OF THIS ENTRY ---
+    @Column(name = "amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "donation_date", nullable = false)
+    private LocalDate donationDate;
+
+    @Column(name = "contribution_type", length = 50)
+    private String contributionType;
+
+    // --- METADATA ---
+    @Column(name = "recorded_by", length = 100)
+    private String recordedBy;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.recordedAt = LocalDateTime.now();
+    }
+}
@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_event_date", columnList = "event_date"),
+        @Index(name = "idx_events_year_month", columnList = "event_year_month, event_category")
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn( name = "event_category", discriminatorType = DiscriminatorType.STRING)
 @Getter
@@ -20,7 +23,8 @@ import java.time.LocalTime;
 
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -36,6 +40,10 @@ public class Event {
     @Column(name="event_date")
     private LocalDate eventDate;
 
+    // yyyyMM of eventDate, generated by the database so monthly statistics can group on an indexed column
+    @Column(name = "event_year_month", insertable = false, updatable = false)
+    private Integer eventYearMonth;
+
     @NotBlank( message = "location is required")
     private String location;
 
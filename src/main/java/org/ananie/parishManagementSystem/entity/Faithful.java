@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,11 +15,14 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "faithfuls")
+@Table(name = "faithfuls", indexes = {
+        @Index(name = "idx_faithfuls_created_at", columnList = "created_at")
+})
 public class Faithful {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "faithfuls_seq")
+    @SequenceGenerator(name = "faithfuls_seq", sequenceName = "faithfuls_seq", allocationSize = 50)
     private Long id;
 
     // --- 1. BASIC PERSONAL INFO ---
@@ -100,6 +105,7 @@ public class Faithful {
 
     // --- 5. MINISTRY / SERVICE (One-to-Many Relationship) ---
     @OneToMany(mappedBy = "faithful", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "faithful-ministries")
     private List<Ministry> ministries; // Replaces List<String>
 
     @Column(name = "other_ministry_details", length = 255)
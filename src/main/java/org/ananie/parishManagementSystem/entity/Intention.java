@@ -17,11 +17,18 @@ import org.ananie.parishManagementSystem.utilities.IntentionType;
 @Getter
 @Setter
 @Entity
-@Table(name = "intentions")
+@Table(name = "intentions", indexes = {
+        // Unpaid lookups filter on is_paid and page by requested_date.
+        // Neither MySQL nor H2 supports partial indexes, so the flag leads a composite index instead.
+        @Index(name = "idx_intentions_paid_requested", columnList = "is_paid, requested_date"),
+        @Index(name = "idx_intentions_requested_date", columnList = "requested_date"),
+        @Index(name = "idx_intentions_requested_year_month", columnList = "is_paid, requested_year_month")
+})
 public class Intention {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "intentions_seq")
+    @SequenceGenerator(name = "intentions_seq", sequenceName = "intentions_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Intention type is required")
@@ -36,6 +43,10 @@ public class Intention {
     @Column(name = "requested_date")
     private LocalDate requestedDate;
 
+    // yyyyMM of requestedDate, generated by the database so monthly reports can group on an indexed column
+    @Column(name = "requested_year_month", insertable = false, updatable = false)
+    private Integer requestedYearMonth;
+
     @Column(name = "is_paid")
     private boolean isPaid = true;
 
@@ -53,6 +64,11 @@ public class Intention {
     @Column(name = "external_faithful_name")
     private String externalFaithfulName;
 
+    // Celebrant the requestor would like; honoured by the allocator when possible
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "preferred_celebrant_id")
+    private Priest preferredCelebrant;
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
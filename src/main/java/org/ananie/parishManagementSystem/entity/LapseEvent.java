@@ -15,7 +15,8 @@ import java.time.LocalDate;
 public class LapseEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lapse_events_seq")
+    @SequenceGenerator(name = "lapse_events_seq", sequenceName = "lapse_events_seq", allocationSize = 50)
     private Long id;
 
     // e.g., 'irregular_union', 'divorced_remarried', 'schism'
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.ananie.parishManagementSystem.utilities.LiturgicalSeason;
 import org.ananie.parishManagementSystem.utilities.MassType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +29,10 @@ public class Mass extends Event {
     @Column(name = "readings")
     private String readings;
 
+    // Maximum number of intentions read at this mass; null falls back to the parish default
+    @Column(name = "intention_capacity")
+    private Integer intentionCapacity;
+
     // Main celebrant (required)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "main_celebrant_id")
@@ -34,6 +40,7 @@ public class Mass extends Event {
 
     // Concelebrants (optional, multiple priests)
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "mass-concelebrants")
     @JoinTable(
             name = "mass_concelebrants",
             joinColumns = @JoinColumn(name = "mass_id"),
@@ -4,16 +4,20 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Getter
 @Setter
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "ministries")
 @Table(name = "ministries")
 public class Ministry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ministries_seq")
+    @SequenceGenerator(name = "ministries_seq", sequenceName = "ministries_seq", allocationSize = 50)
     private Long id;
 
     // e.g., 'lector', 'catechist', 'choir_member'
@@ -9,6 +9,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.ananie.parishManagementSystem.utilities.PriestType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -18,7 +20,11 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "priests")
+// Read on every mass created or mapped, rarely changed
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "priests")
+@Table(name = "priests", indexes = {
+        @Index(name = "idx_priests_ordination_year", columnList = "ordination_year")
+})
 public class Priest {
     @Id
     private Long id;
@@ -35,6 +41,10 @@ public class Priest {
     @Column(name = "ordination_date")
     private LocalDate ordinationDate;
 
+    // Year of ordinationDate, generated by the database for grouping without YEAR() on the date column
+    @Column(name = "ordination_year", insertable = false, updatable = false)
+    private Integer ordinationYear;
+
     @Column(name = "birth_date")
     private LocalDate birthDate;
 
@@ -0,0 +1,56 @@
+package org.ananie.parishManagementSystem.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.ananie.parishManagementSystem.utilities.CelebrantRole;
+import org.ananie.parishManagementSystem.utilities.MassType;
+
+/**
+ * Number of masses a priest celebrated in one month, of one mass type, in one role.
+ * Maintained by PriestWorkloadAggregator on mass writes so workload and ranking
+ * statistics read this small table instead of grouping over all masses.
+ */
+@Entity
+@Table(name = "priest_workload",
+        uniqueConstraints = @UniqueConstraint(name = "uk_priest_workload_cell",
+                columnNames = {"priest_id", "mass_year_month", "mass_type", "celebrant_role"}),
+        indexes = @Index(name = "idx_priest_workload_year_month", columnList = "mass_year_month, priest_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class PriestWorkload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "priest_workload_seq")
+    @SequenceGenerator(name = "priest_workload_seq", sequenceName = "priest_workload_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "priest_id", nullable = false)
+    private Priest priest;
+
+    // yyyyMM of the mass date, as in events.event_year_month
+    @Column(name = "mass_year_month", nullable = false)
+    private Integer yearMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mass_type", nullable = false, length = 50)
+    private MassType massType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "celebrant_role", nullable = false, length = 20)
+    private CelebrantRole role;
+
+    @Column(name = "mass_count", nullable = false)
+    private long massCount;
+
+    public PriestWorkload(Priest priest, Integer yearMonth, MassType massType, CelebrantRole role, long massCount) {
+        this.priest = priest;
+        this.yearMonth = yearMonth;
+        this.massType = massType;
+        this.role = role;
+        this.massCount = massCount;
+    }
+}
@@ -0,0 +1,88 @@
+package org.ananie.parishManagementSystem.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Published by the services whenever they write parish data, so that derived data
+ * (cached statistics, live dashboards) can be refreshed. Listeners should use
+ * {@code @TransactionalEventListener} so they only react to committed changes.
+ *
+ * @param type  the kind of record that changed
+ * @param dates the business dates touched by the change (old and new values on update);
+ *              empty when they are unknown, meaning any date may be affected
+ * @param delta what changed, for live feeds; null when the event only announces the dates
+ */
+public record ParishDataChangedEvent(DataType type, Set<LocalDate> dates, Delta delta) {
+
+    public enum DataType {
+        MASS,
+        INTENTION,
+        PRIEST,
+        DONATION,
+        FAITHFUL
+    }
+
+    /**
+     * The changed record, the change in the number of records (+1 created, 0 updated, -1 deleted)
+     * and, for donations, the change in the donated amount.
+     */
+    public record Delta(Long id, int countChange, BigDecimal amountChange) {
+
+        public static Delta created(Long id) {
+            return new Delta(id, 1, null);
+        }
+
+        public static Delta updated(Long id) {
+            return new Delta(id, 0, null);
+        }
+
+        public static Delta deleted(Long id) {
+            return new Delta(id, -1, null);
+        }
+
+        public Delta withAmountChange(BigDecimal amountChange) {
+            return new Delta(id, countChange, amountChange);
+        }
+    }
+
+    public ParishDataChangedEvent {
+        dates = Set.copyOf(dates);
+    }
+
+    public ParishDataChangedEvent(DataType type, Set<LocalDate> dates) {
+        this(type, dates, null);
+    }
+
+    /**
+     * Creates an event for the given dates; null dates are ignored.
+     */
+    public static ParishDataChangedEvent of(DataType type, LocalDate... dates) {
+        return new ParishDataChangedEvent(type, Arrays.stream(dates)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Returns a copy of this event describing what changed.
+     */
+    public ParishDataChangedEvent withDelta(Delta delta) {
+        return new ParishDataChangedEvent(type, dates, delta);
+    }
+
+    /**
+     * Whether the change may affect data in the given inclusive date range.
+     * A null bound means the range is open on that side.
+     */
+    public boolean affects(LocalDate start, LocalDate end) {
+        if (dates.isEmpty()) {
+            return true;
+        }
+        return dates.stream().anyMatch(date ->
+                (start == null || !date.isBefore(start)) && (end == null || !date.isAfter(end)));
+    }
+}
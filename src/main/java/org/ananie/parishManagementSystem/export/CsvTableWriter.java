@@ -0,0 +1,63 @@
+package org.ananie.parishManagementSystem.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV: comma separated, CRLF line ends, fields quoted when they contain a comma, quote or
+ * line break. The output starts with a byte order mark so spreadsheet programs read it as UTF-8.
+ * Text that would be taken for a formula gets a leading {@code '}; numbers are written as they are.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public class CsvTableWriter implements TableWriter {
+
+    private final Writer writer;
+    private boolean started;
+
+    public CsvTableWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRow(List<?> cells) throws IOException {
+        if (!started) {
+            writer.write('\uFEFF');
+            started = true;
+        }
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object cell = cells.get(i);
+            if (cell instanceof Number) {
+                writer.write(cell.toString());
+            } else if (cell != null) {
+                String text = cell.toString();
+                writeField(TableWriter.looksLikeFormula(text) ? "'" + text : text);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,52 @@
+package org.ananie.parishManagementSystem.export;
+
+import org.ananie.parishManagementSystem.exception.ValidationException;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * File formats a table can be exported in.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public enum ExportFormat {
+
+    CSV("text/csv;charset=UTF-8", "csv", CsvTableWriter::new),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx", XlsxTableWriter::new);
+
+    private final String contentType;
+    private final String extension;
+    private final Function<OutputStream, TableWriter> writerFactory;
+
+    ExportFormat(String contentType, String extension, Function<OutputStream, TableWriter> writerFactory) {
+        this.contentType = contentType;
+        this.extension = extension;
+        this.writerFactory = writerFactory;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public TableWriter open(OutputStream out) {
+        return writerFactory.apply(out);
+    }
+
+    /**
+     * Parses a format name as given in a request, ignoring case.
+     */
+    public static ExportFormat fromName(String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Unsupported export format: " + name
+                        + " (expected one of " + Arrays.toString(values()).toLowerCase() + ")"));
+    }
+}
@@ -0,0 +1,35 @@
+package org.ananie.parishManagementSystem.export;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a table row by row to an output stream, holding no more than the current row in memory.
+ * Cells are {@code null}, strings, numbers or dates. Text that a spreadsheet would read as a formula
+ * is always written so it stays text; see {@link #looksLikeFormula(String)}.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public interface TableWriter {
+
+    void writeRow(List<?> cells) throws IOException;
+
+    /**
+     * Completes the document and flushes it; the underlying stream is left open.
+     */
+    void finish() throws IOException;
+
+    /**
+     * Whether a spreadsheet program would evaluate this text as a formula when opening the file:
+     * it starts with {@code =}, {@code +}, {@code -} or {@code @}, or with a tab or carriage return
+     * that some programs strip before looking again.
+     */
+    static boolean looksLikeFormula(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
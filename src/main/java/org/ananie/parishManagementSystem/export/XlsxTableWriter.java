@@ -0,0 +1,178 @@
+package org.ananie.parishManagementSystem.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Office Open XML workbook with a single sheet, written as it goes: the fixed package parts first,
+ * then the sheet's rows straight into its zip entry. Strings are stored inline in their cells
+ * rather than in a shared-strings table, so nothing accumulates however many rows are written.
+ * The first row is set in bold; dates are date-formatted serial numbers. Text that looks like a formula
+ * gets a quote-prefix style, so it stays text when the cell is edited or the sheet is saved as CSV.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public class XlsxTableWriter implements TableWriter {
+
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_REL_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    private static final String CONTENT_TYPES = XML_HEADER
+            + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+            + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+            + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+            + "<Override PartName=\"/xl/workbook.xml\" "
+            + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>"
+            + "<Override PartName=\"/xl/worksheets/sheet1.xml\" "
+            + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+            + "<Override PartName=\"/xl/styles.xml\" "
+            + "ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>"
+            + "</Types>";
+
+    private static final String PACKAGE_RELS = XML_HEADER
+            + "<Relationships xmlns=\"" + PACKAGE_REL_NS + "\">"
+            + "<Relationship Id=\"rId1\" Type=\"" + REL_NS + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+            + "</Relationships>";
+
+    private static final String WORKBOOK = XML_HEADER
+            + "<workbook xmlns=\"" + MAIN_NS + "\" xmlns:r=\"" + REL_NS + "\">"
+            + "<sheets><sheet name=\"Sheet1\" sheetId=\"1\" r:id=\"rId1\"/></sheets>"
+            + "</workbook>";
+
+    private static final String WORKBOOK_RELS = XML_HEADER
+            + "<Relationships xmlns=\"" + PACKAGE_REL_NS + "\">"
+            + "<Relationship Id=\"rId1\" Type=\"" + REL_NS + "/worksheet\" Target=\"worksheets/sheet1.xml\"/>"
+            + "<Relationship Id=\"rId2\" Type=\"" + REL_NS + "/styles\" Target=\"styles.xml\"/>"
+            + "</Relationships>";
+
+    // Cell formats: 0 general, 1 built-in short date (14), 2 bold, 3 and 4 quote-prefixed text (plain and bold)
+    private static final String STYLES = XML_HEADER
+            + "<styleSheet xmlns=\"" + MAIN_NS + "\">"
+            + "<fonts count=\"2\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+            + "<font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>"
+            + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>"
+            + "<fill><patternFill patternType=\"gray125\"/></fill></fills>"
+            + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+            + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+            + "<cellXfs count=\"5\">"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+            + "<xf numFmtId=\"14\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" quotePrefix=\"1\"/>"
+            + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\" quotePrefix=\"1\"/>"
+            + "</cellXfs></styleSheet>";
+
+    private static final int DATE_STYLE = 1;
+    private static final int BOLD_STYLE = 2;
+    private static final int QUOTED_STYLE = 3;
+    private static final int BOLD_QUOTED_STYLE = 4;
+
+    /**
+     * Day zero of spreadsheet date serial numbers (accounting for the 1900 leap-year quirk).
+     */
+    private static final LocalDate SERIAL_EPOCH = LocalDate.of(1899, 12, 30);
+
+    private final ZipOutputStream zip;
+    private final Writer sheet;
+    private boolean started;
+    private int rows;
+
+    public XlsxTableWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.sheet = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRow(List<?> cells) throws IOException {
+        if (!started) {
+            start();
+        }
+        sheet.write("<row>");
+        for (Object cell : cells) {
+            writeCell(cell, rows == 0 ? BOLD_STYLE : 0);
+        }
+        sheet.write("</row>");
+        rows++;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (!started) {
+            start();
+        }
+        sheet.write("</sheetData></worksheet>");
+        sheet.flush();
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+
+    private void start() throws IOException {
+        started = true;
+        writePart("[Content_Types].xml", CONTENT_TYPES);
+        writePart("_rels/.rels", PACKAGE_RELS);
+        writePart("xl/workbook.xml", WORKBOOK);
+        writePart("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+        writePart("xl/styles.xml", STYLES);
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        sheet.write(XML_HEADER);
+        sheet.write("<worksheet xmlns=\"" + MAIN_NS + "\"><sheetData>");
+    }
+
+    private void writePart(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        sheet.write(content);
+        sheet.flush();
+        zip.closeEntry();
+    }
+
+    private void writeCell(Object value, int style) throws IOException {
+        String styleAttribute = style == 0 ? "" : " s=\"" + style + "\"";
+        if (value == null) {
+            sheet.write("<c" + styleAttribute + "/>");
+        } else if (value instanceof Number number) {
+            sheet.write("<c" + styleAttribute + "><v>" + number + "</v></c>");
+        } else if (value instanceof LocalDate date) {
+            String dateStyle = style == 0 ? " s=\"" + DATE_STYLE + "\"" : styleAttribute;
+            sheet.write("<c" + dateStyle + "><v>" + ChronoUnit.DAYS.between(SERIAL_EPOCH, date) + "</v></c>");
+        } else {
+            String text = value.toString();
+            if (TableWriter.looksLikeFormula(text)) {
+                styleAttribute = " s=\"" + (style == BOLD_STYLE ? BOLD_QUOTED_STYLE : QUOTED_STYLE) + "\"";
+            }
+            sheet.write("<c t=\"inlineStr\"" + styleAttribute + "><is><t xml:space=\"preserve\">");
+            writeEscaped(text);
+            sheet.write("</t></is></c>");
+        }
+    }
+
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> sheet.write("&amp;");
+                case '<' -> sheet.write("&lt;");
+                case '>' -> sheet.write("&gt;");
+                case '"' -> sheet.write("&quot;");
+                default -> {
+                    // Control characters other than tab and line breaks are not allowed in XML 1.0
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        sheet.write(c);
+                    }
+                }
+            }
+        }
+    }
+}
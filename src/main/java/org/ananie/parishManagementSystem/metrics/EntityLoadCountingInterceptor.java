@@ -0,0 +1,19 @@
+package org.ananie.parishManagementSystem.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * Hibernate interceptor that reports every entity hydrated from a result set to {@link QueryWork}.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryWork.entityLoaded();
+        return false;
+    }
+}
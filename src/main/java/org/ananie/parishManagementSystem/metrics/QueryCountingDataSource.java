@@ -0,0 +1,146 @@
+package org.ananie.parishManagementSystem.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Data source wrapper that reports executed statements, with their SQL, execution time and the
+ * rows read from their result sets, to {@link QueryWork}. Connections, statements and result sets
+ * are JDK proxies around the pooled objects; everything else passes straight through, and
+ * {@code unwrap} still reaches the pool, so Hikari metrics keep working. Listeners added with
+ * {@link #addListener} see every statement, on every thread, whether or not tracking is on.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    /**
+     * Told about each statement right after it executed.
+     */
+    @FunctionalInterface
+    public interface StatementListener {
+        void statementExecuted(String sql, long nanos);
+    }
+
+    private final List<StatementListener> listeners = new CopyOnWriteArrayList<>();
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public void addListener(StatementListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, super.getConnection(), this::connectionCall);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, super.getConnection(username, password), this::connectionCall);
+    }
+
+    // ============================================================================
+    // PROXY HANDLERS
+    // ============================================================================
+
+    private interface Call {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private Object connectionCall(Object connection, Method method, Object[] args) throws Throwable {
+        Object result = invoke(connection, method, args);
+        if (result instanceof Statement statement) {
+            // Prepared and callable statements carry their SQL from here; plain ones pass it to execute
+            String preparedSql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+            StatementCall call = new StatementCall(preparedSql);
+            if (result instanceof CallableStatement callable) {
+                return wrap(CallableStatement.class, callable, call);
+            }
+            if (result instanceof PreparedStatement prepared) {
+                return wrap(PreparedStatement.class, prepared, call);
+            }
+            return wrap(Statement.class, statement, call);
+        }
+        return result;
+    }
+
+    /**
+     * Handles one statement, remembering the breakdown entry of its last execution so rows read
+     * through {@code getResultSet()} after {@code execute()} are attributed to it.
+     */
+    private final class StatementCall implements Call {
+
+        private final String preparedSql;
+        private QueryWork.StatementStats lastExecution;
+
+        private StatementCall(String preparedSql) {
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object statement, Method method, Object[] args) throws Throwable {
+            boolean executes = method.getName().startsWith("execute");
+            long started = executes ? System.nanoTime() : 0;
+            Object result = QueryCountingDataSource.invoke(statement, method, args);
+            if (executes) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                long nanos = System.nanoTime() - started;
+                lastExecution = QueryWork.statementExecuted(sql, nanos);
+                for (StatementListener listener : listeners) {
+                    listener.statementExecuted(sql, nanos);
+                }
+            }
+            if (result instanceof ResultSet resultSet) {
+                QueryWork.StatementStats stats = lastExecution;
+                return wrap(ResultSet.class, resultSet, (target, next, nextArgs) -> {
+                    Object row = QueryCountingDataSource.invoke(target, next, nextArgs);
+                    if (Boolean.TRUE.equals(row) && next.getName().equals("next")) {
+                        QueryWork.rowRead(stats);
+                    }
+                    return row;
+                });
+            }
+            return result;
+        }
+    }
+
+    // ============================================================================
+    // HELPER METHODS
+    // ============================================================================
+
+    private static <T> T wrap(Class<T> type, T target, Call call) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            // Identity of the proxy, not the target, so it behaves as a key in the caller's maps
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> call.invoke(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
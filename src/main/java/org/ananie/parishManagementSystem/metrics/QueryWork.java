@@ -0,0 +1,167 @@
+package org.ananie.parishManagementSystem.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Database work done by one thread while tracking is on: SQL statements executed, time spent
+ * executing them, result-set rows read and entities hydrated by Hibernate, plus a breakdown
+ * per distinct SQL text (executions, time, rows), so a slow request shows which statement
+ * dominated and whether one ran once per row.
+ *
+ * Tracking is begun and ended around each HTTP request by {@link RequestQueryMetricsFilter}.
+ * Work done on other threads (parallel statistics queries, scheduled jobs) is not attributed
+ * to the request.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public final class QueryWork {
+
+    // Key for statements beyond the breakdown limit, so a pathological request cannot grow without bound
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    private static final ThreadLocal<QueryWork> CURRENT = new ThreadLocal<>();
+
+    private final int maxDistinctStatements;
+    private final Map<String, StatementStats> statementsBySql = new LinkedHashMap<>();
+    private long statements;
+    private long executionNanos;
+    private long rows;
+    private long entities;
+
+    private QueryWork(int maxDistinctStatements) {
+        this.maxDistinctStatements = maxDistinctStatements;
+    }
+
+    /**
+     * Executions of one SQL text within the tracked work.
+     */
+    public static final class StatementStats {
+
+        private final String sql;
+        private long executions;
+        private long totalNanos;
+        private long maxNanos;
+        private long rows;
+
+        private StatementStats(String sql) {
+            this.sql = sql;
+        }
+
+        void rowRead() {
+            rows++;
+        }
+
+        public String sql() {
+            return sql;
+        }
+
+        public long executions() {
+            return executions;
+        }
+
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        public long rows() {
+            return rows;
+        }
+    }
+
+    /**
+     * Starts tracking on the current thread, discarding anything tracked before.
+     *
+     * @param maxDistinctStatements distinct SQL texts broken down individually; later ones are lumped together
+     */
+    public static QueryWork begin(int maxDistinctStatements) {
+        QueryWork work = new QueryWork(maxDistinctStatements);
+        CURRENT.set(work);
+        return work;
+    }
+
+    /**
+     * Stops tracking on the current thread and returns what was tracked, or null if tracking was off.
+     */
+    public static QueryWork end() {
+        QueryWork work = CURRENT.get();
+        CURRENT.remove();
+        return work;
+    }
+
+    /**
+     * Records an executed statement and returns its breakdown entry, to which rows read from
+     * its result set are added; null when tracking is off.
+     */
+    static StatementStats statementExecuted(String sql, long nanos) {
+        QueryWork work = CURRENT.get();
+        if (work == null) {
+            return null;
+        }
+        work.statements++;
+        work.executionNanos += nanos;
+
+        String key = sql != null ? sql : OTHER_STATEMENTS;
+        StatementStats stats = work.statementsBySql.get(key);
+        if (stats == null) {
+            if (work.statementsBySql.size() >= work.maxDistinctStatements) {
+                key = OTHER_STATEMENTS;
+            }
+            stats = work.statementsBySql.computeIfAbsent(key, StatementStats::new);
+        }
+        stats.executions++;
+        stats.totalNanos += nanos;
+        stats.maxNanos = Math.max(stats.maxNanos, nanos);
+        return stats;
+    }
+
+    static void rowRead(StatementStats stats) {
+        QueryWork work = CURRENT.get();
+        if (work != null) {
+            work.rows++;
+            if (stats != null) {
+                stats.rowRead();
+            }
+        }
+    }
+
+    static void entityLoaded() {
+        QueryWork work = CURRENT.get();
+        if (work != null) {
+            work.entities++;
+        }
+    }
+
+    public long statements() {
+        return statements;
+    }
+
+    public long executionNanos() {
+        return executionNanos;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long entities() {
+        return entities;
+    }
+
+    /**
+     * Breakdown per distinct SQL text, most time-consuming first.
+     */
+    public List<StatementStats> statementsByTime() {
+        List<StatementStats> sorted = new ArrayList<>(statementsBySql.values());
+        sorted.sort(Comparator.comparingLong(StatementStats::totalNanos).reversed());
+        return sorted;
+    }
+}
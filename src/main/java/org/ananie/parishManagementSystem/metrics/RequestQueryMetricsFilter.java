@@ -0,0 +1,72 @@
+package org.ananie.parishManagementSystem.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the database work of each request handled by a controller, tagged with the HTTP
+ * method and the matched URI pattern:
+ * <ul>
+ *   <li>{@code parish.request.statements} - SQL statements executed</li>
+ *   <li>{@code parish.request.rows} - result-set rows read</li>
+ *   <li>{@code parish.request.entities} - entities hydrated by Hibernate</li>
+ * </ul>
+ * A request whose rows far exceed its entities is mapping projections; one whose statements
+ * grow with its rows has an N+1 problem. Requests over the slow-request threshold are also
+ * handed to {@link SlowRequestLog} with their statement breakdown.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SlowRequestLog slowRequestLog;
+
+    public RequestQueryMetricsFilter(MeterRegistry meterRegistry, SlowRequestLog slowRequestLog) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        QueryWork.begin(slowRequestLog.maxDistinctStatements());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryWork work = QueryWork.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (work != null) {
+                slowRequestLog.record(request.getMethod(), request.getRequestURI(),
+                        pattern != null ? pattern.toString() : null, response.getStatus(),
+                        System.nanoTime() - started, work);
+            }
+            // Static resources and unmatched paths would only add noise and unbounded tag values
+            if (work != null && pattern != null) {
+                Tags tags = Tags.of("method", request.getMethod(), "uri", pattern.toString());
+                record("parish.request.statements", "SQL statements executed per request", tags, work.statements());
+                record("parish.request.rows", "Result-set rows read per request", tags, work.rows());
+                record("parish.request.entities", "Entities hydrated per request", tags, work.entities());
+            }
+        }
+    }
+
+    private void record(String name, String description, Tags tags, long amount) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(amount);
+    }
+}
@@ -0,0 +1,117 @@
+package org.ananie.parishManagementSystem.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.ProfilingProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests that took at least the configured threshold, with the statements they executed.
+ * Each one is logged at WARN as it happens, and the most recent are kept in a bounded buffer
+ * for the {@code slowrequests} Actuator endpoint, so a slow request can be diagnosed after the
+ * fact without turning on SQL logging.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+public class SlowRequestLog {
+
+    private final ProfilingProperties properties;
+    private final Deque<SlowRequest> recent = new ArrayDeque<>();
+
+    public SlowRequestLog(ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * One slow request and where its database time went.
+     */
+    public record SlowRequest(Instant finishedAt, String method, String path, String uri, int status,
+                              long durationMillis, long statements, double statementMillis, long rows,
+                              long entities, List<StatementSummary> topStatements) {
+    }
+
+    /**
+     * Executions of one SQL text within a slow request.
+     */
+    public record StatementSummary(String sql, long executions, double totalMillis, double maxMillis, long rows) {
+    }
+
+    public Duration threshold() {
+        return properties.getSlowRequestThreshold();
+    }
+
+    public int maxDistinctStatements() {
+        return properties.getMaxDistinctStatements();
+    }
+
+    /**
+     * Records the request if it reached the threshold.
+     *
+     * @param uri matched URI pattern, or null if no handler matched
+     */
+    public void record(String method, String path, String uri, int status, long durationNanos, QueryWork work) {
+        if (durationNanos < properties.getSlowRequestThreshold().toNanos()) {
+            return;
+        }
+        List<StatementSummary> top = work.statementsByTime().stream()
+                .limit(properties.getBreakdownSize())
+                .map(stats -> new StatementSummary(stats.sql(), stats.executions(), millis(stats.totalNanos()),
+                        millis(stats.maxNanos()), stats.rows()))
+                .toList();
+        SlowRequest slow = new SlowRequest(Instant.now(), method, path, uri, status,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), work.statements(), millis(work.executionNanos()),
+                work.rows(), work.entities(), top);
+
+        log.warn("Slow request {} {} -> {} in {} ms: {} statements ({} ms), {} rows, {} entities{}",
+                method, path, status, slow.durationMillis(), slow.statements(), slow.statementMillis(),
+                slow.rows(), slow.entities(), breakdown(top));
+
+        synchronized (recent) {
+            recent.addFirst(slow);
+            while (recent.size() > properties.getHistorySize()) {
+                recent.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Slow requests kept in memory, most recent first.
+     */
+    public List<SlowRequest> recent() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    public void clear() {
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    // ============================================================================
+    // HELPER METHODS
+    // ============================================================================
+
+    private static String breakdown(List<StatementSummary> top) {
+        StringBuilder text = new StringBuilder();
+        for (StatementSummary statement : top) {
+            text.append(System.lineSeparator())
+                    .append(String.format("  %5d x %9.2f ms %7d rows  %s",
+                            statement.executions(), statement.totalMillis(), statement.rows(), statement.sql()));
+        }
+        return text.toString();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,37 @@
+package org.ananie.parishManagementSystem.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/slowrequests}) listing the most recent slow requests
+ * with their statement breakdown; DELETE empties the list.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog slowRequestLog;
+
+    public SlowRequestsEndpoint(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @ReadOperation
+    public SlowRequests slowRequests() {
+        return new SlowRequests(slowRequestLog.threshold().toMillis(), slowRequestLog.recent());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowRequestLog.clear();
+    }
+
+    public record SlowRequests(long thresholdMillis, List<SlowRequestLog.SlowRequest> requests) {
+    }
+}
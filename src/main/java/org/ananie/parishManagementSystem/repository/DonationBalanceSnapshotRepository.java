@@ -0,0 +1,27 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.ananie.parishManagementSystem.entity.DonationBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the per faithful and year balance snapshots of the donation ledger.
+ */
+@Repository
+public interface DonationBalanceSnapshotRepository extends JpaRepository<DonationBalanceSnapshot, Long> {
+
+    Optional<DonationBalanceSnapshot> findByFaithfulIdAndYear(Long faithfulId, Integer year);
+
+    List<DonationBalanceSnapshot> findByFaithfulId(Long faithfulId);
+
+    /**
+     * Sum of the snapshot totals of every stream of a contribution year.
+     */
+    @Query("SELECT COALESCE(SUM(s.total), 0) FROM DonationBalanceSnapshot s WHERE s.year = :year")
+    Object sumTotalsByYear(@Param("year") Integer year);
+}
@@ -0,0 +1,76 @@
+package org.ananie.parishManagementSystem.repository;
+
+import jakarta.persistence.LockModeType;
+import org.ananie.parishManagementSystem.entity.DonationLedgerEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the append-only donation ledger. Entries are only ever inserted;
+ * balances are read as a snapshot plus the sum of the entries after it.
+ */
+@Repository
+public interface DonationLedgerRepository extends JpaRepository<DonationLedgerEntry, Long> {
+
+    // --- HISTORY ---
+    /**
+     * Everything that happened to a donation, oldest first; still there after the donation is voided.
+     */
+    List<DonationLedgerEntry> findByDonationIdOrderByIdAsc(Long donationId);
+
+    /**
+     * A donation's entries, locked; being a locking read it also sees entries committed after the
+     * transaction started, under repeatable read.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<DonationLedgerEntry> findLockedByDonationId(Long donationId);
+
+    /**
+     * A whole stream in order, for replaying it from the start.
+     */
+    List<DonationLedgerEntry> findByFaithfulIdAndYearOrderByVersionAsc(Long faithfulId, Integer year);
+
+    // --- BACKFILL ---
+    /**
+     * Donations with no ledger entry yet (recorded before the ledger existed, or written with plain JDBC),
+     * in id order after {@code afterId}: [id, faithfulId, year, amount, date, contributionType, recordedBy].
+     */
+    @Query("SELECT d.id, d.faithful.id, d.year, d.amount, d.date, d.contributionType, d.recordedBy FROM Donation d " +
+            "WHERE d.id > :afterId AND NOT EXISTS (SELECT 1 FROM DonationLedgerEntry e WHERE e.donationId = d.id) " +
+            "ORDER BY d.id")
+    List<Object[]> findUnledgeredDonations(@Param("afterId") Long afterId, Limit limit);
+
+    // --- TAILS (entries after the stream's snapshot) ---
+    /**
+     * Sum of a stream's entries after a version: [amountDelta, countDelta, lastVersion].
+     */
+    @Query("SELECT COALESCE(SUM(e.amountDelta), 0), COALESCE(SUM(e.countDelta), 0), MAX(e.version) " +
+            "FROM DonationLedgerEntry e WHERE e.faithfulId = :faithfulId AND e.year = :year AND e.version > :afterVersion")
+    List<Object[]> sumTail(@Param("faithfulId") Long faithfulId, @Param("year") Integer year,
+                           @Param("afterVersion") Integer afterVersion);
+
+    /**
+     * Tails of all of a faithful's streams past their snapshots: [year, amountDelta, countDelta, lastVersion].
+     */
+    @Query("SELECT e.year, SUM(e.amountDelta), SUM(e.countDelta), MAX(e.version) FROM DonationLedgerEntry e " +
+            "LEFT JOIN DonationBalanceSnapshot s ON s.faithfulId = e.faithfulId AND s.year = e.year " +
+            "WHERE e.faithfulId = :faithfulId AND e.version > COALESCE(s.version, 0) GROUP BY e.year")
+    List<Object[]> sumTailsByFaithful(@Param("faithfulId") Long faithfulId);
+
+    /**
+     * Streams whose tail has reached {@code minEntries} entries, with their snapshot if any:
+     * [faithfulId, year, amountDelta, countDelta, lastVersion, snapshotId].
+     */
+    @Query("SELECT e.faithfulId, e.year, SUM(e.amountDelta), SUM(e.countDelta), MAX(e.version), s.id " +
+            "FROM DonationLedgerEntry e " +
+            "LEFT JOIN DonationBalanceSnapshot s ON s.faithfulId = e.faithfulId AND s.year = e.year " +
+            "WHERE e.version > COALESCE(s.version, 0) GROUP BY e.faithfulId, e.year, s.id " +
+            "HAVING COUNT(e) >= :minEntries")
+    List<Object[]> findTailsToSnapshot(@Param("minEntries") long minEntries);
+}
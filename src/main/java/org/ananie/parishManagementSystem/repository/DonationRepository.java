@@ -1,6 +1,7 @@
 package org.ananie.parishManagementSystem.repository;
 
 import org.ananie.parishManagementSystem.entity.Donation;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +18,12 @@ import java.util.List;
 @Repository
 public interface DonationRepository extends JpaRepository<Donation, Long> {
 
+    // Listings map every donation to a DTO carrying the donor's name, so the donor is fetched
+    // in the same statement instead of one select per faithful
+    @Override
+    @EntityGraph(attributePaths = "faithful")
+    List<Donation> findAll();
+
     // --- FIND BY FAITHFUL ---
     /**
      * Retrieve all donations made by a specific faithful member.
@@ -32,6 +39,7 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
     /**
      * Get all donations for a specific year (useful for annual reports).
      */
+    @EntityGraph(attributePaths = "faithful")
     List<Donation> findByYear(Integer year);
 
     /**
@@ -42,18 +50,27 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
     // --- FIND BY DATE RANGE ---
     /**
      * Retrieve donations made within a date range (for periodic reporting).
+     * The donor is fetched through a left join so the plan starts from the date index; with the
+     * inner join of an entity graph H2 starts from a scan of faithfuls instead.
      */
-    List<Donation> findByDateBetween(LocalDate startDate, LocalDate endDate);
+    @Query("SELECT d FROM Donation d LEFT JOIN FETCH d.faithful WHERE d.date BETWEEN :startDate AND :endDate")
+    List<Donation> findByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     /**
      * Get a specific faithful's donations within a date range.
+     * Filters on the foreign key itself; the derived query outer-joined faithfuls and filtered on the
+     * joined id, so it could not seek the (faithful_id, date) index.
      */
-    List<Donation> findByFaithfulIdAndDateBetween(Long faithfulId, LocalDate startDate, LocalDate endDate);
+    @Query("SELECT d FROM Donation d WHERE d.faithful.id = :faithfulId AND d.date BETWEEN :startDate AND :endDate")
+    List<Donation> findByFaithfulIdAndDateBetween(@Param("faithfulId") Long faithfulId,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
 
     // --- FIND BY CONTRIBUTION TYPE ---
     /**
      * Filter donations by type (TITHE, OFFERING, BUILDING_FUND, etc.).
      */
+    @EntityGraph(attributePaths = "faithful")
     List<Donation> findByContributionType(String contributionType);
 
     /**
@@ -70,23 +87,70 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
     // --- CUSTOM AGGREGATION QUERIES ---
 
     /**
-     * Calculate total donations for a specific faithful member.
+     * Calculate total donations within a date range.
      */
-    @Query("SELECT SUM(d.amount) FROM Donation d WHERE d.faithful.id = :faithfulId")
-    BigDecimal getTotalDonationsByFaithful(@Param("faithfulId") Long faithfulId);
+    @Query("SELECT SUM(d.amount) FROM Donation d WHERE d.date BETWEEN :startDate AND :endDate")
+    BigDecimal getTotalDonationsByDateRange(@Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
 
     /**
-     * Calculate total donations for a specific year.
+     * Calculate total donations over all years.
      */
-    @Query("SELECT SUM(d.amount) FROM Donation d WHERE d.year = :year")
-    BigDecimal getTotalDonationsByYear(@Param("year") Integer year);
+    @Query("SELECT COALESCE(SUM(d.amount), 0) FROM Donation d")
+    BigDecimal getTotalAllDonations();
 
     /**
-     * Calculate total donations within a date range.
+     * Years that have donations, most recent first.
      */
-    @Query("SELECT SUM(d.amount) FROM Donation d WHERE d.date BETWEEN :startDate AND :endDate")
-    BigDecimal getTotalDonationsByDateRange(@Param("startDate") LocalDate startDate,
-                                            @Param("endDate") LocalDate endDate);
+    @Query("SELECT DISTINCT d.year FROM Donation d ORDER BY d.year DESC")
+    List<Integer> findDistinctYears();
+
+    /**
+     * Summarize donations within a date range.
+     * Returns a single row of [count, total_amount, max_amount, min_amount]; amounts are null when there are none.
+     */
+    @Query("SELECT COUNT(d), SUM(d.amount), MAX(d.amount), MIN(d.amount) FROM Donation d " +
+            "WHERE d.date BETWEEN :startDate AND :endDate")
+    List<Object[]> summarizeDonationsBetween(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * Get total donations per donor SubParish for one year.
+     * Returns array of [subparish, total_amount].
+     */
+    @Query("SELECT f.subparish, SUM(d.amount) FROM Donation d JOIN d.faithful f " +
+            "WHERE d.year = :year AND f.subparish IS NOT NULL " +
+            "GROUP BY f.subparish")
+    List<Object[]> getTotalsBySubParishInYear(@Param("year") Integer year);
+
+    /**
+     * Get total donations per donor SubParish over all years.
+     * Returns array of [subparish, total_amount].
+     */
+    @Query("SELECT f.subparish, SUM(d.amount) FROM Donation d JOIN d.faithful f " +
+            "WHERE f.subparish IS NOT NULL " +
+            "GROUP BY f.subparish")
+    List<Object[]> getTotalsBySubParish();
+
+    /**
+     * Get total donations per donor BEC within a SubParish for one year.
+     * Returns array of [basic_ecclesial_community, total_amount].
+     */
+    @Query("SELECT f.basicEcclesialCommunity, SUM(d.amount) FROM Donation d JOIN d.faithful f " +
+            "WHERE d.year = :year AND f.subparish = :subParish " +
+            "AND f.basicEcclesialCommunity IS NOT NULL " +
+            "GROUP BY f.basicEcclesialCommunity")
+    List<Object[]> getTotalsByBecInSubParishInYear(@Param("subParish") String subParish, @Param("year") Integer year);
+
+    /**
+     * Get total donations per donor BEC within a SubParish over all years.
+     * Returns array of [basic_ecclesial_community, total_amount].
+     */
+    @Query("SELECT f.basicEcclesialCommunity, SUM(d.amount) FROM Donation d JOIN d.faithful f " +
+            "WHERE f.subparish = :subParish " +
+            "AND f.basicEcclesialCommunity IS NOT NULL " +
+            "GROUP BY f.basicEcclesialCommunity")
+    List<Object[]> getTotalsByBecInSubParish(@Param("subParish") String subParish);
 
     /**
      * Get total donations by contribution type for a specific year.
@@ -108,9 +172,10 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
 
     /**
      * Get monthly donation summary for a specific year.
+     * Groups on the stored donation_month column so idx_donations_year_month covers the whole query.
      * Returns array of [month, total_amount].
      */
-    @Query("SELECT MONTH(d.date), SUM(d.amount) FROM Donation d WHERE d.year = :year GROUP BY MONTH(d.date) ORDER BY MONTH(d.date)")
+    @Query("SELECT d.donationMonth, SUM(d.amount) FROM Donation d WHERE d.year = :year GROUP BY d.donationMonth ORDER BY d.donationMonth")
     List<Object[]> getMonthlyDonationSummary(@Param("year") Integer year);
 
     /**
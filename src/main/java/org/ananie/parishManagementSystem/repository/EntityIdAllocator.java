@@ -0,0 +1,72 @@
+package org.ananie.parishManagementSystem.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out identifiers for rows written with plain JDBC, drawn from the same pooled-lo
+ * generators Hibernate uses for the entity, so the two never collide. Only every
+ * allocation-size-th identifier costs a round trip to the sequence (or its emulating table on MySQL).
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Component
+public class EntityIdAllocator {
+
+    private final SessionFactoryImplementor sessionFactory;
+
+    public EntityIdAllocator(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    /**
+     * Next identifier for a new row of the given entity's table.
+     */
+    public long next(Class<?> entityType) {
+        return next(entityType, 1)[0];
+    }
+
+    /**
+     * Identifiers for the given entity's table, drawn {@code blockSize} at a time, for writers that only
+     * learn the number of rows as they go. Identifiers of the last block left unused are skipped, as
+     * after a rolled-back insert. Not thread-safe.
+     */
+    public LongSupplier inBlocks(Class<?> entityType, int blockSize) {
+        return new LongSupplier() {
+            private long[] block = new long[0];
+            private int used;
+
+            @Override
+            public long getAsLong() {
+                if (used == block.length) {
+                    block = next(entityType, blockSize);
+                    used = 0;
+                }
+                return block[used++];
+            }
+        };
+    }
+
+    /**
+     * The next {@code count} identifiers for new rows of the given entity's table, ascending but
+     * not necessarily contiguous when other writers draw from the same sequence.
+     */
+    public long[] next(Class<?> entityType, int count) {
+        IdentifierGenerator generator = (IdentifierGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityType).getGenerator();
+        long[] ids = new long[count];
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            for (int i = 0; i < count; i++) {
+                ids[i] = ((Number) generator.generate((SharedSessionContractImplementor) session, null)).longValue();
+            }
+        }
+        return ids;
+    }
+}
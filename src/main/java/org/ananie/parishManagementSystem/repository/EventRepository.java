@@ -1,5 +1,6 @@
 package org.ananie.parishManagementSystem.repository;
 
+import org.ananie.parishManagementSystem.dto.response.DashboardCountsDTO;
 import org.ananie.parishManagementSystem.entity.Event;
 import org.ananie.parishManagementSystem.utilities.EventType;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -19,13 +20,34 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     List<Event> findByIsPublicTrueOrderByEventDateAsc();
 
-    @Query("SELECT e FROM Event e WHERE YEAR(e.eventDate) = :year")
-    List<Event> findByYear(@Param("year") int year);
+    // Half-open range [start, endExclusive) so idx_events_event_date can be used
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :start AND e.eventDate < :endExclusive")
+    List<Event> findInDateRange(@Param("start") LocalDate start,
+                                @Param("endExclusive") LocalDate endExclusive);
 
-    @Query("SELECT e FROM Event e WHERE MONTH(e.eventDate) = :month AND YEAR(e.eventDate) = :year")
-    List<Event> findByMonthAndYear(@Param("month") int month, @Param("year") int year);
+    default List<Event> findByYear(int year) {
+        LocalDate start = LocalDate.of(year, 1, 1);
+        return findInDateRange(start, start.plusYears(1));
+    }
+
+    default List<Event> findByMonthAndYear(int month, int year) {
+        LocalDate start = LocalDate.of(year, month, 1);
+        return findInDateRange(start, start.plusMonths(1));
+    }
 
     // Count events in period
     @Query("SELECT COUNT(e) FROM Event e WHERE e.eventDate BETWEEN :start AND :end")
     Long countEventsBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
-}
\ No newline at end of file
+
+    // All scalar dashboard counts in one round trip, without loading any entity
+    @Query("SELECT new org.ananie.parishManagementSystem.dto.response.DashboardCountsDTO(" +
+            "(SELECT COUNT(e) FROM Event e WHERE e.eventDate BETWEEN :start AND :end), " +
+            "(SELECT COUNT(m) FROM Mass m WHERE m.eventDate = :today), " +
+            "(SELECT COUNT(p) FROM Priest p), " +
+            "(SELECT COUNT(i) FROM Intention i WHERE i.requestedDate BETWEEN :start AND :end), " +
+            "(SELECT COUNT(i) FROM Intention i WHERE i.intentionType = org.ananie.parishManagementSystem.utilities.IntentionType.DECEASED " +
+            "AND i.requestedDate BETWEEN :start AND :end))")
+    DashboardCountsDTO getDashboardCounts(@Param("start") LocalDate start,
+                                          @Param("end") LocalDate end,
+                                          @Param("today") LocalDate today);
+}
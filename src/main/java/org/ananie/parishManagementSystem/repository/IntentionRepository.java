@@ -1,13 +1,19 @@
 package org.ananie.parishManagementSystem.repository;
 
+import org.ananie.parishManagementSystem.dto.response.IntentionListResponseDTO;
 import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.entity.Mass;
 import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -24,6 +30,30 @@ public interface IntentionRepository extends JpaRepository<Intention, Long> {
 
     List<Intention> findByIsPaidFalse();
 
+    // --- UNPAID INTENTIONS (served by idx_intentions_paid_requested) ---
+
+    long countByIsPaidFalse();
+
+    // Unpaid intentions with requestor and mass resolved in the same statement, oldest request first
+    @Query(value = "SELECT new org.ananie.parishManagementSystem.dto.response.IntentionListResponseDTO(" +
+            "i.id, CAST(i.intentionType AS String), i.intentionText, i.requestedDate, i.isPaid, " +
+            "COALESCE(f.name, i.externalFaithfulName), m.id, m.eventDate) " +
+            "FROM Intention i LEFT JOIN i.faithful f LEFT JOIN i.mass m " +
+            "WHERE i.isPaid = false " +
+            "ORDER BY i.requestedDate, i.id",
+            countQuery = "SELECT COUNT(i) FROM Intention i WHERE i.isPaid = false")
+    Page<IntentionListResponseDTO> findUnpaidSummaries(Pageable pageable);
+
+    @Query("SELECT i.isPaid FROM Intention i WHERE i.id = :id")
+    Boolean findPaidStatusById(@Param("id") Long id);
+
+    @Query("SELECT i.requestedDate FROM Intention i WHERE i.id = :id")
+    LocalDate findRequestedDateById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Intention i SET i.isPaid = true WHERE i.id = :id AND i.isPaid = false")
+    int markPaid(@Param("id") Long id);
+
     // Statistical queries
     @Query("SELECT COUNT(i) FROM Intention i WHERE i.requestedDate BETWEEN :start AND :end")
     Long countIntentionsBetween(@Param("start") LocalDate start,
@@ -42,11 +72,45 @@ public interface IntentionRepository extends JpaRepository<Intention, Long> {
     Long countDeceasedIntentionsBetween(@Param("start") LocalDate start,
                                         @Param("end") LocalDate end);
 
-    // Monthly offering totals
-    @Query("SELECT MONTH(i.requestedDate) as month, SUM(i.offeringAmount) as total " +
+    // Monthly paid-intention counts (intentions carry no amount of their own), grouped on the stored yyyyMM column
+    @Query("SELECT MOD(i.requestedYearMonth, 100) as month, COUNT(i) as total " +
             "FROM Intention i " +
-            "WHERE YEAR(i.requestedDate) = :year AND i.isPaid = true " +
-            "GROUP BY MONTH(i.requestedDate)")
-    List<Object[]> getMonthlyOfferings(@Param("year") int year);
+            "WHERE i.requestedYearMonth BETWEEN :fromYearMonth AND :toYearMonth AND i.isPaid = true " +
+            "GROUP BY i.requestedYearMonth " +
+            "ORDER BY i.requestedYearMonth")
+    List<Object[]> getMonthlyOfferingsBetween(@Param("fromYearMonth") int fromYearMonth,
+                                              @Param("toYearMonth") int toYearMonth);
+
+    default List<Object[]> getMonthlyOfferings(int year) {
+        return getMonthlyOfferingsBetween(year * 100 + 1, year * 100 + 12);
+    }
+
+    // Requested and paid intention counts per yyyyMM in one pass, as [yearMonth, total, paid]
+    @Query("SELECT i.requestedYearMonth, COUNT(i), SUM(CASE WHEN i.isPaid = true THEN 1 ELSE 0 END) " +
+            "FROM Intention i " +
+            "WHERE i.requestedYearMonth BETWEEN :fromYearMonth AND :toYearMonth " +
+            "GROUP BY i.requestedYearMonth")
+    List<Object[]> countIntentionsByYearMonth(@Param("fromYearMonth") int fromYearMonth,
+                                              @Param("toYearMonth") int toYearMonth);
+
+    // --- ALLOCATION QUERIES ---
+
+    // Unassigned intentions due by the horizon, as [id, intentionType, requestedDate, preferredCelebrantId]
+    @Query("SELECT i.id, i.intentionType, i.requestedDate, p.id FROM Intention i " +
+            "LEFT JOIN i.preferredCelebrant p " +
+            "WHERE i.mass IS NULL AND (i.requestedDate IS NULL OR i.requestedDate <= :horizon) " +
+            "ORDER BY i.requestedDate, i.id")
+    List<Object[]> findPendingAllocationRows(@Param("horizon") LocalDate horizon);
+
+    // Intentions already carried by each mass in the period, as [massId, count]
+    @Query("SELECT i.mass.id, COUNT(i) FROM Intention i " +
+            "WHERE i.mass.eventDate BETWEEN :start AND :end " +
+            "GROUP BY i.mass.id")
+    List<Object[]> countIntentionsPerMassBetween(@Param("start") LocalDate start,
+                                                 @Param("end") LocalDate end);
 
-}
\ No newline at end of file
+    // Attaches intentions to a mass; rows assigned meanwhile by hand are left untouched
+    @Modifying
+    @Query("UPDATE Intention i SET i.mass = :mass WHERE i.id IN :ids AND i.mass IS NULL")
+    int assignToMass(@Param("mass") Mass mass, @Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,45 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Statements for reading large results a row at a time through
+ * {@code JdbcTemplate.query(PreparedStatementCreator, RowCallbackHandler)}: forward-only, read-only,
+ * and fetched in batches of {@code fetchSize} rows rather than materialised by the driver.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public final class JdbcCursors {
+
+    private JdbcCursors() {
+    }
+
+    public static PreparedStatementCreator forwardOnly(String sql, int fetchSize, List<?> parameters) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize(connection, fetchSize));
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            return statement;
+        };
+    }
+
+    /**
+     * MySQL Connector/J reads the whole result into memory for any other fetch size;
+     * Integer.MIN_VALUE makes it stream rows as the server sends them.
+     */
+    private static int fetchSize(Connection connection, int fetchSize) throws SQLException {
+        return "MySQL".equals(connection.getMetaData().getDatabaseProductName())
+                ? Integer.MIN_VALUE
+                : fetchSize;
+    }
+}
@@ -35,21 +35,53 @@ public interface MassRepository extends JpaRepository<Mass, Long> {
     List<Object[]> countMassesByTypeInPeriod(@Param("start") LocalDate start,
                                              @Param("end") LocalDate end);
 
+    // Mass counts per yyyyMM over a range of months, as [yearMonth, count]
+    @Query("SELECT m.eventYearMonth, COUNT(m) FROM Mass m " +
+            "WHERE m.eventYearMonth BETWEEN :fromYearMonth AND :toYearMonth " +
+            "GROUP BY m.eventYearMonth")
+    List<Object[]> countMassesByYearMonth(@Param("fromYearMonth") int fromYearMonth,
+                                          @Param("toYearMonth") int toYearMonth);
+
     @Query("SELECT YEAR(m.eventDate) as year, COUNT(m) as count FROM Mass m " +
             "GROUP BY YEAR(m.eventDate) " +
             "ORDER BY YEAR(m.eventDate) DESC")
     List<Object[]> countMassesByYear();
 
-    @Query("SELECT m.mainCelebrant, COUNT(m) as massCount FROM Mass m " +
+    // --- PRIEST WORKLOAD ---
+
+    // Masses per main celebrant between two dates, as [priestId, names, priestType, email, phone, isAssigned, count]
+    @Query("SELECT p.id, p.names, p.priestType, p.email, p.phone, p.isAssigned, COUNT(m) " +
+            "FROM Mass m JOIN m.mainCelebrant p " +
+            "WHERE m.eventDate BETWEEN :start AND :end " +
+            "GROUP BY p.id, p.names, p.priestType, p.email, p.phone, p.isAssigned")
+    List<Object[]> countMainCelebrationsByPriestBetween(@Param("start") LocalDate start,
+                                                        @Param("end") LocalDate end);
+
+    // Masses per concelebrant between two dates, in the same shape as countMainCelebrationsByPriestBetween
+    @Query("SELECT p.id, p.names, p.priestType, p.email, p.phone, p.isAssigned, COUNT(m) " +
+            "FROM Mass m JOIN m.concelebrants p " +
+            "WHERE m.eventDate BETWEEN :start AND :end " +
+            "GROUP BY p.id, p.names, p.priestType, p.email, p.phone, p.isAssigned")
+    List<Object[]> countConcelebrationsByPriestBetween(@Param("start") LocalDate start,
+                                                       @Param("end") LocalDate end);
+
+    // Priest workload cells for main celebrants, as [priestId, yearMonth, massType, count]
+    @Query("SELECT p.id, m.eventYearMonth, m.massType, COUNT(m) FROM Mass m JOIN m.mainCelebrant p " +
+            "WHERE m.eventYearMonth IS NOT NULL " +
+            "GROUP BY p.id, m.eventYearMonth, m.massType")
+    List<Object[]> countMainCelebrationCells();
+
+    // Priest workload cells for concelebrants, as [priestId, yearMonth, massType, count]
+    @Query("SELECT p.id, m.eventYearMonth, m.massType, COUNT(m) FROM Mass m JOIN m.concelebrants p " +
+            "WHERE m.eventYearMonth IS NOT NULL " +
+            "GROUP BY p.id, m.eventYearMonth, m.massType")
+    List<Object[]> countConcelebrationCells();
+
+    // Upcoming masses as [id, eventDate, mainCelebrantId, intentionCapacity] for the intention allocator
+    @Query("SELECT m.id, m.eventDate, c.id, m.intentionCapacity FROM Mass m " +
+            "LEFT JOIN m.mainCelebrant c " +
             "WHERE m.eventDate BETWEEN :start AND :end " +
-            "GROUP BY m.mainCelebrant " +
-            "ORDER BY massCount DESC")
-    List<Object[]> countMassesByPriestInPeriod(@Param("start") LocalDate start,
-                                               @Param("end") LocalDate end);
-
-    // Find priests who celebrated most masses
-    @Query("SELECT m.mainCelebrant.id, COUNT(m) as count FROM Mass m " +
-            "GROUP BY m.mainCelebrant.id " +
-            "ORDER BY count DESC")
-    List<Object[]> findTopCelebratingPriests();
-}
\ No newline at end of file
+            "ORDER BY m.eventDate, m.id")
+    List<Object[]> findMassSlotsBetween(@Param("start") LocalDate start,
+                                        @Param("end") LocalDate end);
+}
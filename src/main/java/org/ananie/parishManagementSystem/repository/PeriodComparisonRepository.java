@@ -0,0 +1,72 @@
+package org.ananie.parishManagementSystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Counts masses, intentions, donations and newly registered faithful for any number of periods
+ * in a single statement. The periods are supplied as an inline table (a CTE), every fact table
+ * is range-joined to it and grouped by period, so rows falling in several overlapping periods
+ * are counted in each of them and no entity is loaded.
+ *
+ * The query text depends on the number of periods, hence a hand-written repository rather than
+ * a {@code @Query} method.
+ */
+@Repository
+public class PeriodComparisonRepository {
+
+    public static final String MASSES = "MASSES";
+    public static final String INTENTIONS = "INTENTIONS";
+    public static final String DONATIONS = "DONATIONS";
+    public static final String NEW_FAITHFUL = "NEW_FAITHFUL";
+
+    private static final String FIRST_PERIOD_ROW = "SELECT %1$d AS idx, " +
+            "CAST(:start%1$d AS LocalDate) AS startDate, CAST(:end%1$d AS LocalDate) AS endDate, " +
+            "CAST(:startAt%1$d AS LocalDateTime) AS startAt, CAST(:endBefore%1$d AS LocalDateTime) AS endBefore";
+    private static final String NEXT_PERIOD_ROW = " UNION ALL SELECT %1$d, " +
+            "CAST(:start%1$d AS LocalDate), CAST(:end%1$d AS LocalDate), " +
+            "CAST(:startAt%1$d AS LocalDateTime), CAST(:endBefore%1$d AS LocalDateTime)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Counts per period and metric.
+     *
+     * @param periods inclusive [start, end] date pairs; the index in this list identifies the period
+     * @return rows of [periodIndex (Integer), metric (String), count (Long), amount (BigDecimal, donations only)],
+     *         one per period and metric, zero counts included
+     */
+    public List<Object[]> countByPeriod(List<LocalDate[]> periods) {
+        StringBuilder hql = new StringBuilder("WITH periods AS (");
+        for (int i = 0; i < periods.size(); i++) {
+            // Column aliases are taken from the first row of the UNION
+            hql.append(String.format(i == 0 ? FIRST_PERIOD_ROW : NEXT_PERIOD_ROW, i));
+        }
+        hql.append(") ")
+                .append("SELECT p.idx, '" + MASSES + "', COUNT(m.id), CAST(NULL AS BigDecimal) FROM periods p " +
+                        "LEFT JOIN Mass m ON m.eventDate BETWEEN p.startDate AND p.endDate GROUP BY p.idx ")
+                .append("UNION ALL SELECT p.idx, '" + INTENTIONS + "', COUNT(i.id), CAST(NULL AS BigDecimal) FROM periods p " +
+                        "LEFT JOIN Intention i ON i.requestedDate BETWEEN p.startDate AND p.endDate GROUP BY p.idx ")
+                .append("UNION ALL SELECT p.idx, '" + DONATIONS + "', COUNT(d.id), COALESCE(SUM(d.amount), 0) FROM periods p " +
+                        "LEFT JOIN Donation d ON d.date BETWEEN p.startDate AND p.endDate GROUP BY p.idx ")
+                .append("UNION ALL SELECT p.idx, '" + NEW_FAITHFUL + "', COUNT(f.id), CAST(NULL AS BigDecimal) FROM periods p " +
+                        "LEFT JOIN Faithful f ON f.createdAt >= p.startAt AND f.createdAt < p.endBefore GROUP BY p.idx");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(hql.toString(), Object[].class);
+        for (int i = 0; i < periods.size(); i++) {
+            LocalDate start = periods.get(i)[0];
+            LocalDate end = periods.get(i)[1];
+            query.setParameter("start" + i, start)
+                    .setParameter("end" + i, end)
+                    .setParameter("startAt" + i, start.atStartOfDay())
+                    .setParameter("endBefore" + i, end.plusDays(1).atStartOfDay());
+        }
+        return query.getResultList();
+    }
+}
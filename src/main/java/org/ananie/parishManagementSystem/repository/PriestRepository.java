@@ -1,9 +1,12 @@
 package org.ananie.parishManagementSystem.repository;
 
+import jakarta.persistence.QueryHint;
 import org.ananie.parishManagementSystem.entity.Priest;
 import org.ananie.parishManagementSystem.utilities.PriestType;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,22 +16,37 @@ import java.util.List;
 @Repository
 public interface PriestRepository extends JpaRepository<Priest, Long> {
 
-    // Basic queries
-    List<Priest> findByIsActiveTrue();
+    // Priests change rarely, so these results are kept in the query cache; it is invalidated
+    // whenever the priests table is written through Hibernate
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Priest> findAll();
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Override
+    List<Priest> findAllById(Iterable<Long> ids);
 
+    // Basic queries
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Priest> findByPriestType(PriestType priestType);
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Priest> findByIsAssignedTrue();
 
     // Statistical queries
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p.priestType, COUNT(p) FROM Priest p GROUP BY p.priestType")
     List<Object[]> countPriestsByType();
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    long countByIsAssignedTrue();
+
     // Find priests by ordination year
-    @Query("SELECT YEAR(p.ordinationDate) as year, COUNT(p) as count FROM Priest p " +
-            "WHERE p.ordinationDate IS NOT NULL " +
-            "GROUP BY YEAR(p.ordinationDate) " +
-            "ORDER BY YEAR(p.ordinationDate) DESC")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT p.ordinationYear as year, COUNT(p) as count FROM Priest p " +
+            "WHERE p.ordinationYear IS NOT NULL " +
+            "GROUP BY p.ordinationYear " +
+            "ORDER BY p.ordinationYear DESC")
     List<Object[]> countPriestsByOrdinationYear();
 
     // Find priests celebrating masses in period
@@ -38,6 +56,11 @@ public interface PriestRepository extends JpaRepository<Priest, Long> {
     List<Priest> findPriestsCelebratingInPeriod(@Param("start") LocalDate start,
                                                 @Param("end") LocalDate end);
 
+    // Number of priests celebrating masses in period, counted without loading them; not cached, as masses
+    // are also written outside Hibernate
+    @Query("SELECT COUNT(DISTINCT m.mainCelebrant.id) FROM Mass m WHERE m.eventDate BETWEEN :start AND :end")
+    long countPriestsCelebratingInPeriod(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
     // Statistics by date range (priests added in period)
     @Query("SELECT COUNT(p) FROM Priest p WHERE p.createdAt BETWEEN :start AND :end")
     Long countPriestsAddedBetween(@Param("start") LocalDate start,
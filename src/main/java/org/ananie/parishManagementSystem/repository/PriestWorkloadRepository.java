@@ -0,0 +1,59 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.ananie.parishManagementSystem.entity.PriestWorkload;
+import org.ananie.parishManagementSystem.utilities.CelebrantRole;
+import org.ananie.parishManagementSystem.utilities.MassType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PriestWorkloadRepository extends JpaRepository<PriestWorkload, Long> {
+
+    // --- MAINTENANCE ---
+
+    @Modifying
+    @Query("UPDATE PriestWorkload w SET w.massCount = w.massCount + :delta " +
+            "WHERE w.priest.id = :priestId AND w.yearMonth = :yearMonth " +
+            "AND w.massType = :massType AND w.role = :role")
+    int addToCell(@Param("priestId") Long priestId,
+                  @Param("yearMonth") int yearMonth,
+                  @Param("massType") MassType massType,
+                  @Param("role") CelebrantRole role,
+                  @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM PriestWorkload w " +
+            "WHERE w.priest.id = :priestId AND w.yearMonth = :yearMonth " +
+            "AND w.massType = :massType AND w.role = :role AND w.massCount <= 0")
+    int deleteIfEmpty(@Param("priestId") Long priestId,
+                      @Param("yearMonth") int yearMonth,
+                      @Param("massType") MassType massType,
+                      @Param("role") CelebrantRole role);
+
+    // --- WORKLOAD QUERIES ---
+
+    /**
+     * Workload per priest over a range of months, busiest first, as
+     * [priestId, names, priestType, email, phone, isAssigned, mainCount, concelebrantCount, total].
+     * The page bounds how many priests are returned; pass {@link Pageable#unpaged()} for all of them.
+     */
+    @Query("SELECT p.id, p.names, p.priestType, p.email, p.phone, p.isAssigned, " +
+            "SUM(CASE WHEN w.role = org.ananie.parishManagementSystem.utilities.CelebrantRole.MAIN " +
+            "THEN w.massCount ELSE 0 END), " +
+            "SUM(CASE WHEN w.role = org.ananie.parishManagementSystem.utilities.CelebrantRole.CONCELEBRANT " +
+            "THEN w.massCount ELSE 0 END), " +
+            "SUM(w.massCount) " +
+            "FROM PriestWorkload w JOIN w.priest p " +
+            "WHERE w.yearMonth BETWEEN :fromYearMonth AND :toYearMonth " +
+            "GROUP BY p.id, p.names, p.priestType, p.email, p.phone, p.isAssigned " +
+            "ORDER BY SUM(w.massCount) DESC, p.id")
+    List<Object[]> sumWorkloadByPriest(@Param("fromYearMonth") int fromYearMonth,
+                                       @Param("toYearMonth") int toYearMonth,
+                                       Pageable pageable);
+}
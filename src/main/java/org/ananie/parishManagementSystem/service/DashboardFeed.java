@@ -0,0 +1,122 @@
+package org.ananie.parishManagementSystem.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.DashboardFeedProperties;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed parish data changes to dashboard clients over Server-Sent Events,
+ * so they can apply small deltas instead of polling the statistics endpoints.
+ * Each {@link ParishDataChangedEvent} carrying a delta becomes one {@code delta} event;
+ * sending happens on a single background thread so a slow client never holds up a commit.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Component
+public class DashboardFeed implements DisposableBean {
+
+    private static final String DELTA_EVENT = "delta";
+
+    private final DashboardFeedProperties properties;
+    private final Set<SseEmitter> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DashboardFeed(DashboardFeedProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        meterRegistry.gaugeCollectionSize("dashboard.feed.subscribers", Tags.empty(), subscribers);
+    }
+
+    /**
+     * Opens a subscription, or returns empty when the subscriber limit is reached.
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            log.warn("Dashboard feed refused a subscriber: limit of {} reached", properties.getMaxSubscribers());
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(properties.getSubscriptionTimeout().toMillis());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Forwards a committed change to all subscribers. Events without a delta only announce
+     * dates for cache invalidation and are not forwarded.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(ParishDataChangedEvent event) {
+        if (event.delta() == null || subscribers.isEmpty()) {
+            return;
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("type", event.type().name());
+        payload.put("id", event.delta().id());
+        payload.put("countChange", event.delta().countChange());
+        payload.put("amountChange", event.delta().amountChange());
+        payload.put("dates", event.dates());
+        payload.put("committedAt", LocalDateTime.now());
+
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .id(String.valueOf(sequence.incrementAndGet()))
+                .name(DELTA_EVENT)
+                .data(payload)
+                .build();
+        dispatcher.execute(() -> broadcast(message));
+    }
+
+    @Scheduled(fixedDelayString = "${parish.dashboard.feed.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            Set<DataWithMediaType> message = SseEmitter.event().comment("heartbeat").build();
+            dispatcher.execute(() -> broadcast(message));
+        }
+    }
+
+    private void broadcast(Set<DataWithMediaType> message) {
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(message);
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container completes the emitter on its side
+                subscribers.remove(emitter);
+                log.debug("Dropped dashboard feed subscriber: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+}
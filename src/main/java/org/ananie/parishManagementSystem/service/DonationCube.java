@@ -0,0 +1,228 @@
+package org.ananie.parishManagementSystem.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.DonationCubeProperties;
+import org.ananie.parishManagementSystem.cube.CubeQuery;
+import org.ananie.parishManagementSystem.cube.CubeResult;
+import org.ananie.parishManagementSystem.cube.DonationColumns;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.ananie.parishManagementSystem.repository.JdbcCursors;
+import org.ananie.parishManagementSystem.utilities.MinorUnits;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Every donation, with its donor's sub-parish and community, held in {@link DonationColumns} so
+ * treasurers can slice by any combination of dimensions without a database round trip.
+ * Loaded once the application has started and reloaded periodically; in between, committed donation
+ * and faithful changes are applied to it row by row. Queries share a read lock; changes take the write lock
+ * and re-read the changed rows while holding it, so they always leave the latest committed state.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Service
+@Timed("parish.service")
+public class DonationCube {
+
+    /**
+     * Dead rows tolerated, as a share of all rows, before the columns are compacted.
+     */
+    private static final int COMPACT_DEAD_PERCENT = 25;
+    private static final int COMPACT_MIN_DEAD_ROWS = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DonationCubeProperties properties;
+    private final TransactionTemplate readTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private DonationColumns columns;
+    private boolean reloading;
+    private final List<ParishDataChangedEvent> changedWhileReloading = new ArrayList<>();
+
+    private String selectRows;
+
+    public DonationCube(JdbcTemplate jdbcTemplate, DonationCubeProperties properties,
+                        PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    private record Row(long donationId, long faithfulId, long amount, LocalDate date, int year,
+                       String contributionType, String paymentMethod, String subParish, String bec) {
+
+        static Row read(ResultSet rs) throws SQLException {
+            return new Row(rs.getLong(1), rs.getLong(2), MinorUnits.of(rs.getBigDecimal(3)),
+                    rs.getObject(4, LocalDate.class), rs.getInt(5), rs.getString(6), rs.getString(7),
+                    rs.getString(8), rs.getString(9));
+        }
+
+        void appendTo(DonationColumns columns) {
+            columns.append(donationId, faithfulId, amount, date, year, contributionType, paymentMethod, subParish, bec);
+        }
+    }
+
+    // ==================== QUERYING ====================
+    /**
+     * Totals per combination of the grouped dimensions, over the donations matching the filters.
+     */
+    public CubeResult query(CubeQuery query) {
+        lock.readLock().lock();
+        try {
+            if (columns != null) {
+                return columns.query(query);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        reload();
+        return query(query);
+    }
+
+    // ==================== LOADING ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isLoadOnStartup()) {
+            reload();
+        }
+    }
+
+    /**
+     * Periodic reload, which also picks up donations written with plain JDBC (imports, the synthetic dataset).
+     */
+    @Scheduled(fixedDelayString = "${parish.cube.reload-interval:PT1H}",
+            initialDelayString = "${parish.cube.reload-interval:PT1H}")
+    public void reloadScheduled() {
+        reload();
+    }
+
+    /**
+     * Reads every donation into fresh columns and swaps them in. Queries keep using the previous columns
+     * meanwhile; changes committed during the load are applied again once it is in place.
+     *
+     * @return number of donations loaded
+     */
+    public synchronized int reload() {
+        lock.writeLock().lock();
+        try {
+            reloading = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long started = System.nanoTime();
+        DonationColumns fresh;
+        try {
+            fresh = readTransaction.execute(status -> {
+                DonationColumns loaded = new DonationColumns(
+                        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM donations", Integer.class));
+                jdbcTemplate.query(JdbcCursors.forwardOnly(selectRows("ORDER BY d.id"), properties.getFetchSize(), List.of()),
+                        (ResultSet rs) -> Row.read(rs).appendTo(loaded));
+                return loaded;
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                reloading = false;
+                changedWhileReloading.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        List<ParishDataChangedEvent> missed;
+        lock.writeLock().lock();
+        try {
+            columns = fresh;
+            reloading = false;
+            missed = new ArrayList<>(changedWhileReloading);
+            changedWhileReloading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        missed.forEach(this::apply);
+
+        log.info("Loaded {} donations into the cube in {} ms", fresh.liveRows(), (System.nanoTime() - started) / 1_000_000);
+        return fresh.liveRows();
+    }
+
+    // ==================== CHANGES ====================
+    /**
+     * Applies a committed donation or faithful change. DonationService announces an update before making it
+     * and again with its delta afterwards; only the latter carries the id needed here.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(ParishDataChangedEvent event) {
+        if ((event.type() == DataType.DONATION || event.type() == DataType.FAITHFUL)
+                && event.delta() != null && event.delta().id() != null) {
+            apply(event);
+        }
+    }
+
+    private void apply(ParishDataChangedEvent event) {
+        long id = event.delta().id();
+        boolean donation = event.type() == DataType.DONATION;
+        // A new faithful has no donations yet; a faithful's territory only matters once updated
+        if (!donation && event.delta().countChange() > 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (reloading) {
+                changedWhileReloading.add(event);
+            }
+            if (columns == null) {
+                return;
+            }
+            // Read under the lock: two changes to the same record applied by different threads could
+            // otherwise swap the rows they read, leaving the older state in place. A deleted record has no rows.
+            List<Row> rows = event.delta().countChange() < 0 ? List.of()
+                    : jdbcTemplate.query(selectRows(donation ? "WHERE d.id = ?" : "WHERE d.faithful_id = ?"),
+                    (rs, rowNum) -> Row.read(rs), id);
+            if (donation) {
+                columns.remove(id);
+            } else {
+                columns.removeFaithful(id);
+            }
+            rows.forEach(row -> row.appendTo(columns));
+            int dead = columns.deadRows();
+            if (dead >= COMPACT_MIN_DEAD_ROWS && dead * 100L >= (long) (dead + columns.liveRows()) * COMPACT_DEAD_PERCENT) {
+                columns = columns.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // [id, faithfulId, amount, date, year, contributionType, paymentMethod, subparish, bec]
+    private String selectRows(String clause) {
+        if (selectRows == null) {
+            String quote = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getIdentifierQuoteString()).trim();
+            selectRows = "SELECT d.id, d.faithful_id, d.amount, d." + quote + "date" + quote + ", d." + quote + "year" + quote +
+                    ", d.contribution_type, d.payment_method, f.subparish, f.basic_ecclesial_community " +
+                    "FROM donations d JOIN faithfuls f ON f.id = d.faithful_id ";
+        }
+        return selectRows + clause;
+    }
+}
@@ -0,0 +1,594 @@
+package org.ananie.parishManagementSystem.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.DonationLedgerProperties;
+import org.ananie.parishManagementSystem.entity.Donation;
+import org.ananie.parishManagementSystem.entity.DonationBalanceSnapshot;
+import org.ananie.parishManagementSystem.entity.DonationLedgerEntry;
+import org.ananie.parishManagementSystem.repository.DonationBalanceSnapshotRepository;
+import org.ananie.parishManagementSystem.repository.DonationLedgerRepository;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.repository.JdbcCursors;
+import org.ananie.parishManagementSystem.utilities.LedgerEntryType;
+import org.ananie.parishManagementSystem.utilities.MinorUnits;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only history of every donation, next to the donations table that holds their current state.
+ * DonationService records each create, update and delete here in the same transaction, so the
+ * ledger and the table never disagree; nothing in the ledger is ever updated or deleted.
+ *
+ * <p>Entries form one stream per faithful and contribution year, numbered without gaps. A stream's
+ * balance is its latest {@link DonationBalanceSnapshot} plus the entries after it, so reading it
+ * touches a handful of rows however long the history grows. Snapshots are advanced periodically for
+ * streams whose tail has grown, and can be rebuilt from scratch by replaying the whole ledger.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Service
+@Timed("parish.service")
+public class DonationLedger {
+
+    private static final String INSERT_ENTRY = "INSERT INTO donation_ledger (id, faithful_id, contribution_year, " +
+            "stream_version, donation_id, entry_type, amount_delta, count_delta, amount, donation_date, " +
+            "contribution_type, recorded_by, recorded_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SNAPSHOT = "INSERT INTO donation_balance_snapshots (id, faithful_id, " +
+            "contribution_year, stream_version, total, donation_count, taken_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // In stream order, which the unique (faithful_id, contribution_year, stream_version) index provides
+    private static final String SELECT_LEDGER_IN_STREAM_ORDER = "SELECT faithful_id, contribution_year, stream_version, " +
+            "amount_delta, count_delta FROM donation_ledger ORDER BY faithful_id, contribution_year, stream_version";
+
+    // Stream heads (see claimVersion): bumping one locks it until commit
+    private static final String CLAIM_VERSIONS = "UPDATE donation_ledger_streams SET last_version = last_version + ? " +
+            "WHERE faithful_id = ? AND contribution_year = ?";
+    private static final String INSERT_STREAM = "INSERT INTO donation_ledger_streams (faithful_id, contribution_year, " +
+            "last_version) VALUES (?, ?, ?)";
+    private static final String SELECT_LAST_VERSION = "SELECT last_version FROM donation_ledger_streams " +
+            "WHERE faithful_id = ? AND contribution_year = ?";
+    private static final String SET_LAST_VERSION = "UPDATE donation_ledger_streams SET last_version = ? " +
+            "WHERE faithful_id = ? AND contribution_year = ?";
+    private static final String LOCK_HEAD = "SELECT last_version FROM donation_ledger_streams " +
+            "WHERE faithful_id = ? AND contribution_year = ? FOR UPDATE";
+
+    // Tails of a year's streams, found through their heads so only entries past a snapshot are read
+    private static final String SUM_YEAR_TAILS = "SELECT COALESCE(SUM(e.amount_delta), 0) FROM donation_ledger_streams h " +
+            "LEFT JOIN donation_balance_snapshots s ON s.faithful_id = h.faithful_id AND s.contribution_year = h.contribution_year " +
+            "JOIN donation_ledger e ON e.faithful_id = h.faithful_id AND e.contribution_year = h.contribution_year " +
+            "AND e.stream_version > COALESCE(s.stream_version, 0) " +
+            "WHERE h.contribution_year = ? AND h.last_version > COALESCE(s.stream_version, 0)";
+
+    private final DonationLedgerRepository ledgerRepository;
+    private final DonationBalanceSnapshotRepository snapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator idAllocator;
+    private final DonationLedgerProperties properties;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public DonationLedger(DonationLedgerRepository ledgerRepository,
+                          DonationBalanceSnapshotRepository snapshotRepository,
+                          JdbcTemplate jdbcTemplate,
+                          EntityIdAllocator idAllocator,
+                          DonationLedgerProperties properties,
+                          PlatformTransactionManager transactionManager) {
+        this.ledgerRepository = ledgerRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.properties = properties;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Where a donation stands in the ledger: the stream it counts towards and what it counts for.
+     * Taken before an update so the adjustment can be worked out afterwards.
+     */
+    public record Position(long donationId, long faithfulId, int year, BigDecimal amount, LocalDate date,
+                           String contributionType, String recordedBy) {
+
+        public static Position of(Donation donation) {
+            return new Position(donation.getId(), donation.getFaithful().getId(), donation.getYear(),
+                    donation.getAmount(), donation.getDate(), donation.getContributionType(), donation.getRecordedBy());
+        }
+
+        Stream stream() {
+            return new Stream(faithfulId, year);
+        }
+    }
+
+    /**
+     * Balance of a faithful's donations for a contribution year.
+     *
+     * @param version         last stream version included
+     * @param snapshotVersion version of the snapshot it started from; 0 when replayed from the start
+     */
+    public record Balance(long faithfulId, int year, BigDecimal total, int donations, int version,
+                          int snapshotVersion) {
+    }
+
+    /**
+     * Outcome of replaying the whole ledger into fresh snapshots.
+     */
+    public record Replay(long entries, int streams, long elapsedMillis) {
+    }
+
+    private record Stream(long faithfulId, int year) implements Comparable<Stream> {
+
+        @Override
+        public int compareTo(Stream other) {
+            int order = Long.compare(faithfulId, other.faithfulId);
+            return order != 0 ? order : Integer.compare(year, other.year);
+        }
+    }
+
+    // A stream's running balance while the whole ledger is replayed, the total in MinorUnits
+    private static final class Fold {
+        private final long faithfulId;
+        private final int year;
+        private int version;
+        private long total;
+        private int donations;
+
+        private Fold(long faithfulId, int year) {
+            this.faithfulId = faithfulId;
+            this.year = year;
+        }
+    }
+
+    // ==================== RECORDING ====================
+    /**
+     * Records a newly saved donation.
+     */
+    @Transactional
+    public void recordCreated(Donation donation) {
+        Position position = Position.of(donation);
+        append(position, LedgerEntryType.CREATED, position.amount(), 1, claimVersion(position.stream()));
+    }
+
+    /**
+     * Records an update. A donation moved to another faithful or contribution year leaves its old stream
+     * and joins the new one, so both balances stay right; otherwise the amount difference is recorded.
+     *
+     * @param before the donation as it was before the update
+     * @param after  the updated donation
+     */
+    @Transactional
+    public void recordAdjusted(Position before, Donation after) {
+        Position position = Position.of(after);
+        if (position.stream().equals(before.stream())) {
+            recordIfMissing(before);
+            append(position, LedgerEntryType.ADJUSTED, position.amount().subtract(before.amount()), 0,
+                    claimVersion(position.stream()));
+            return;
+        }
+        // Both heads are locked in stream order, so two donations moved in opposite directions cannot deadlock
+        if (before.stream().compareTo(position.stream()) < 0) {
+            lockHead(before.stream());
+            lockHead(position.stream());
+        } else {
+            lockHead(position.stream());
+            lockHead(before.stream());
+        }
+        recordIfMissing(before);
+        append(before, LedgerEntryType.ADJUSTED, before.amount().negate(), -1, claimVersion(before.stream()));
+        append(position, LedgerEntryType.ADJUSTED, position.amount(), 1, claimVersion(position.stream()));
+    }
+
+    /**
+     * Records the removal of a donation. Its history stays in the ledger.
+     */
+    @Transactional
+    public void recordVoided(Donation donation) {
+        Position position = Position.of(donation);
+        recordIfMissing(position);
+        append(position, LedgerEntryType.VOIDED, position.amount().negate(), -1, claimVersion(position.stream()));
+    }
+
+    // Donations not entered yet (see recordUnledgeredDonations) are entered as they were before the change.
+    // The check runs under the stream's head lock, which the backfill also takes before entering a donation.
+    private void recordIfMissing(Position position) {
+        lockHead(position.stream());
+        if (ledgerRepository.findLockedByDonationId(position.donationId()).isEmpty()) {
+            append(position, LedgerEntryType.CREATED, position.amount(), 1, claimVersion(position.stream()));
+        }
+    }
+
+    /**
+     * Locks a stream's head until the caller's transaction ends, starting the stream at version 0 if needed.
+     */
+    private void lockHead(Stream stream) {
+        if (!jdbcTemplate.queryForList(LOCK_HEAD, Integer.class, stream.faithfulId(), stream.year()).isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_STREAM, stream.faithfulId(), stream.year(), 0);
+        } catch (DuplicateKeyException e) {
+            // Another transaction started the stream meanwhile; its head can be locked once that commits
+            jdbcTemplate.queryForList(LOCK_HEAD, Integer.class, stream.faithfulId(), stream.year());
+        }
+    }
+
+    /**
+     * Which of the given donations already have ledger entries. A locking read, so that under repeatable
+     * read it sees entries committed after the transaction started. Only for the backfill, whose
+     * transactions write with JDBC and so have no unflushed entries.
+     */
+    private Set<Long> enteredDonations(List<Long> donationIds) {
+        String placeholders = String.join(", ", Collections.nCopies(donationIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT donation_id FROM donation_ledger " +
+                "WHERE donation_id IN (" + placeholders + ") FOR UPDATE", Long.class, donationIds.toArray()));
+    }
+
+    /**
+     * Hands out the next version of a stream by bumping its head. The bump holds the head's row lock until
+     * the caller's transaction ends, so a concurrent append to the same stream waits here for it.
+     */
+    private int claimVersion(Stream stream) {
+        if (jdbcTemplate.update(CLAIM_VERSIONS, 1, stream.faithfulId(), stream.year()) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_STREAM, stream.faithfulId(), stream.year(), 1);
+                return 1;
+            } catch (DuplicateKeyException e) {
+                // Another transaction started the stream meanwhile; its head can be bumped once that commits
+                jdbcTemplate.update(CLAIM_VERSIONS, 1, stream.faithfulId(), stream.year());
+            }
+        }
+        return jdbcTemplate.queryForObject(SELECT_LAST_VERSION, Integer.class, stream.faithfulId(), stream.year());
+    }
+
+    private void append(Position position, LedgerEntryType type, BigDecimal amountDelta, int countDelta, int version) {
+        DonationLedgerEntry entry = new DonationLedgerEntry();
+        entry.setFaithfulId(position.faithfulId());
+        entry.setYear(position.year());
+        entry.setVersion(version);
+        entry.setDonationId(position.donationId());
+        entry.setEntryType(type);
+        entry.setAmountDelta(amountDelta);
+        entry.setCountDelta(countDelta);
+        entry.setAmount(position.amount());
+        entry.setDonationDate(position.date());
+        entry.setContributionType(position.contributionType());
+        entry.setRecordedBy(position.recordedBy());
+        ledgerRepository.save(entry);
+    }
+
+    // ==================== READING ====================
+    /**
+     * Everything recorded for a donation, oldest first, including after it was voided.
+     */
+    @Transactional(readOnly = true)
+    public List<DonationLedgerEntry> history(Long donationId) {
+        return ledgerRepository.findByDonationIdOrderByIdAsc(donationId);
+    }
+
+    /**
+     * Current balance of a faithful's donations for a year: snapshot plus tail.
+     */
+    @Transactional(readOnly = true)
+    public Balance balance(long faithfulId, int year) {
+        Optional<DonationBalanceSnapshot> snapshot = snapshotRepository.findByFaithfulIdAndYear(faithfulId, year);
+        int snapshotVersion = snapshot.map(DonationBalanceSnapshot::getVersion).orElse(0);
+        // [amountDelta, countDelta, lastVersion]
+        Object[] tail = ledgerRepository.sumTail(faithfulId, year, snapshotVersion).get(0);
+        return new Balance(faithfulId, year,
+                snapshot.map(DonationBalanceSnapshot::getTotal).orElse(BigDecimal.ZERO).add(toBigDecimal(tail[0])),
+                snapshot.map(DonationBalanceSnapshot::getDonationCount).orElse(0) + ((Number) tail[1]).intValue(),
+                tail[2] != null ? ((Number) tail[2]).intValue() : snapshotVersion,
+                snapshotVersion);
+    }
+
+    /**
+     * Current balances of all of a faithful's contribution years, most recent first, in two queries.
+     */
+    @Transactional(readOnly = true)
+    public List<Balance> balances(long faithfulId) {
+        Map<Integer, DonationBalanceSnapshot> snapshots = snapshotRepository.findByFaithfulId(faithfulId).stream()
+                .collect(Collectors.toMap(DonationBalanceSnapshot::getYear, Function.identity()));
+        // [year, amountDelta, countDelta, lastVersion]
+        Map<Integer, Object[]> tails = ledgerRepository.sumTailsByFaithful(faithfulId).stream()
+                .collect(Collectors.toMap(row -> (Integer) row[0], Function.identity()));
+
+        Set<Integer> years = new TreeSet<>(Comparator.reverseOrder());
+        years.addAll(snapshots.keySet());
+        years.addAll(tails.keySet());
+        List<Balance> balances = new ArrayList<>(years.size());
+        for (Integer year : years) {
+            DonationBalanceSnapshot snapshot = snapshots.get(year);
+            Object[] tail = tails.get(year);
+            BigDecimal total = snapshot != null ? snapshot.getTotal() : BigDecimal.ZERO;
+            int donations = snapshot != null ? snapshot.getDonationCount() : 0;
+            int snapshotVersion = snapshot != null ? snapshot.getVersion() : 0;
+            int version = snapshotVersion;
+            if (tail != null) {
+                total = total.add(toBigDecimal(tail[1]));
+                donations += ((Number) tail[2]).intValue();
+                version = ((Number) tail[3]).intValue();
+            }
+            balances.add(new Balance(faithfulId, year, total, donations, version, snapshotVersion));
+        }
+        return balances;
+    }
+
+    /**
+     * Total of a faithful's donations over all contribution years, from their balances.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal total(long faithfulId) {
+        return balances(faithfulId).stream().map(Balance::total).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Total of every faithful's donations for a contribution year: the year's snapshots plus their tails,
+     * in two queries that read one row per stream and the entries past its snapshot.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal yearTotal(int year) {
+        return toBigDecimal(snapshotRepository.sumTotalsByYear(year))
+                .add(toBigDecimal(jdbcTemplate.queryForObject(SUM_YEAR_TAILS, Object.class, year)));
+    }
+
+    /**
+     * Balance of a stream folded from its first entry, ignoring snapshots; for checking them.
+     */
+    @Transactional(readOnly = true)
+    public Balance replay(long faithfulId, int year) {
+        long total = 0;
+        int donations = 0;
+        int version = 0;
+        for (DonationLedgerEntry entry : ledgerRepository.findByFaithfulIdAndYearOrderByVersionAsc(faithfulId, year)) {
+            total = MinorUnits.add(total, MinorUnits.of(entry.getAmountDelta()));
+            donations += entry.getCountDelta();
+            version = entry.getVersion();
+        }
+        return new Balance(faithfulId, year, MinorUnits.toBigDecimal(total), donations, version, 0);
+    }
+
+    // ==================== SNAPSHOTS ====================
+    /**
+     * Periodic maintenance: enters donations the ledger has not seen, then folds long tails into their snapshots.
+     * The first run waits a full interval, so short-lived contexts never start one.
+     */
+    @Scheduled(fixedDelayString = "${parish.ledger.snapshot-interval:PT15M}",
+            initialDelayString = "${parish.ledger.snapshot-interval:PT15M}")
+    public void maintain() {
+        recordUnledgeredDonations();
+        takeSnapshots();
+    }
+
+    /**
+     * Advances the snapshot of every stream with at least {@code snapshot-after-entries} entries past it.
+     *
+     * @return number of snapshots written
+     */
+    public int takeSnapshots() {
+        Integer taken = writeTransaction.execute(status -> {
+            // [faithfulId, year, amountDelta, countDelta, lastVersion, snapshotId]
+            List<Object[]> tails = ledgerRepository.findTailsToSnapshot(properties.getSnapshotAfterEntries());
+            Map<Long, DonationBalanceSnapshot> existing = snapshotRepository.findAllById(tails.stream()
+                            .map(tail -> (Long) tail[5]).filter(Objects::nonNull).toList()).stream()
+                    .collect(Collectors.toMap(DonationBalanceSnapshot::getId, Function.identity()));
+
+            LocalDateTime now = LocalDateTime.now();
+            List<DonationBalanceSnapshot> snapshots = new ArrayList<>(tails.size());
+            for (Object[] tail : tails) {
+                DonationBalanceSnapshot snapshot = tail[5] != null ? existing.get((Long) tail[5]) : null;
+                if (snapshot == null) {
+                    snapshot = new DonationBalanceSnapshot();
+                    snapshot.setFaithfulId((Long) tail[0]);
+                    snapshot.setYear((Integer) tail[1]);
+                    snapshot.setTotal(BigDecimal.ZERO);
+                    snapshot.setDonationCount(0);
+                }
+                snapshot.setTotal(snapshot.getTotal().add(toBigDecimal(tail[2])));
+                snapshot.setDonationCount(snapshot.getDonationCount() + ((Number) tail[3]).intValue());
+                snapshot.setVersion(((Number) tail[4]).intValue());
+                snapshot.setTakenAt(now);
+                snapshots.add(snapshot);
+            }
+            snapshotRepository.saveAll(snapshots);
+            return snapshots.size();
+        });
+        if (taken > 0) {
+            log.info("Advanced {} donation balance snapshots", taken);
+        }
+        return taken;
+    }
+
+    /**
+     * Replays the whole ledger in stream order through a forward-only cursor and replaces every snapshot
+     * with the folded result. Run after restoring the ledger, or to check snapshots against their history.
+     */
+    public Replay rebuildSnapshots() {
+        long started = System.nanoTime();
+        Replay replay = writeTransaction.execute(status -> {
+            List<Fold> folded = new ArrayList<>();
+            long[] entries = {0};
+            jdbcTemplate.query(JdbcCursors.forwardOnly(SELECT_LEDGER_IN_STREAM_ORDER, properties.getFetchSize(), List.of()),
+                    (ResultSet rs) -> {
+                        long faithfulId = rs.getLong(1);
+                        int year = rs.getInt(2);
+                        Fold stream = folded.isEmpty() ? null : folded.get(folded.size() - 1);
+                        if (stream == null || stream.faithfulId != faithfulId || stream.year != year) {
+                            stream = new Fold(faithfulId, year);
+                            folded.add(stream);
+                        }
+                        stream.version = rs.getInt(3);
+                        stream.total = MinorUnits.add(stream.total, MinorUnits.of(rs.getBigDecimal(4)));
+                        stream.donations += rs.getInt(5);
+                        entries[0]++;
+                    });
+
+            // Written once the cursor is closed, since MySQL allows nothing else on a connection that is streaming
+            jdbcTemplate.update("DELETE FROM donation_balance_snapshots");
+            long[] ids = idAllocator.next(DonationBalanceSnapshot.class, folded.size());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>(folded.size());
+            for (int i = 0; i < folded.size(); i++) {
+                Fold stream = folded.get(i);
+                rows.add(new Object[]{ids[i], stream.faithfulId, stream.year, stream.version,
+                        MinorUnits.toBigDecimal(stream.total), stream.donations, now});
+            }
+            jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, rows);
+            return new Replay(entries[0], folded.size(), 0);
+        });
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Replayed {} ledger entries into {} snapshots in {} ms", replay.entries(), replay.streams(), elapsedMillis);
+        return new Replay(replay.entries(), replay.streams(), elapsedMillis);
+    }
+
+    // ==================== BACKFILL ====================
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isBackfillOnStartup()) {
+            recordUnledgeredDonations();
+        }
+    }
+
+    /**
+     * Enters every donation that has no ledger entry yet as created: those recorded before the ledger
+     * existed, and those written with plain JDBC (imports, the synthetic dataset). Runs in batches of
+     * {@code backfill-batch-size} donations, one transaction each, so it can stop and resume anywhere.
+     * A batch waits for live appends to its streams, then drops the donations those entered in the meantime;
+     * one whose new stream is started by a live append meanwhile is rolled back and left for the next run.
+     *
+     * @return number of donations entered
+     */
+    public int recordUnledgeredDonations() {
+        int batchSize = properties.getBackfillBatchSize();
+        long afterId = 0;
+        int recorded = 0;
+        while (true) {
+            long after = afterId;
+            // [id, faithfulId, year, amount, date, contributionType, recordedBy]
+            List<Object[]> donations = readTransaction.execute(status ->
+                    ledgerRepository.findUnledgeredDonations(after, Limit.of(batchSize)));
+            if (donations.isEmpty()) {
+                break;
+            }
+
+            long[] ids = idAllocator.next(DonationLedgerEntry.class, donations.size());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            Integer entered;
+            try {
+                entered = writeTransaction.execute(status -> {
+                    Set<Long> faithfulIds = new HashSet<>();
+                    for (Object[] donation : donations) {
+                        faithfulIds.add((Long) donation[1]);
+                    }
+                    Map<Stream, Integer> lastVersions = lockHeads(faithfulIds);
+                    // Live updates and deletes enter a donation under the same locks; those that did since the read are skipped
+                    Set<Long> alreadyEntered = enteredDonations(donations.stream().map(d -> (Long) d[0]).toList());
+                    List<Object[]> pending = donations.stream().filter(d -> !alreadyEntered.contains((Long) d[0])).toList();
+
+                    Map<Stream, Integer> counts = new TreeMap<>();
+                    for (Object[] donation : pending) {
+                        counts.merge(new Stream((Long) donation[1], (Integer) donation[2]), 1, Integer::sum);
+                    }
+                    // Last version before this batch, advanced as its entries are numbered
+                    Map<Stream, Integer> versions = claimVersions(counts, lastVersions);
+                    List<Object[]> rows = new ArrayList<>(pending.size());
+                    for (int i = 0; i < pending.size(); i++) {
+                        Object[] donation = pending.get(i);
+                        Stream stream = new Stream((Long) donation[1], (Integer) donation[2]);
+                        int version = versions.merge(stream, 1, Integer::sum);
+                        rows.add(new Object[]{ids[i], stream.faithfulId(), stream.year(), version, donation[0],
+                                LedgerEntryType.CREATED.name(), donation[3], 1, donation[3],
+                                Date.valueOf((LocalDate) donation[4]), donation[5], donation[6], now});
+                    }
+                    jdbcTemplate.batchUpdate(INSERT_ENTRY, rows);
+                    return rows.size();
+                });
+            } catch (DataAccessException e) {
+                log.warn("Stopped entering donations into the ledger after {}; the rest are left for the next run: {}",
+                        recorded, e.getMessage());
+                break;
+            }
+            recorded += entered;
+            afterId = (Long) donations.get(donations.size() - 1)[0];
+        }
+        if (recorded > 0) {
+            log.info("Entered {} donations into the ledger", recorded);
+        }
+        return recorded;
+    }
+
+    /**
+     * Locks the existing heads of every stream of the given faithful until the caller's transaction ends.
+     *
+     * @return per locked stream, its last version
+     */
+    private Map<Stream, Integer> lockHeads(Set<Long> faithfulIds) {
+        String placeholders = String.join(", ", Collections.nCopies(faithfulIds.size(), "?"));
+        Map<Stream, Integer> lastVersions = new HashMap<>();
+        jdbcTemplate.query("SELECT faithful_id, contribution_year, last_version FROM donation_ledger_streams " +
+                        "WHERE faithful_id IN (" + placeholders + ") FOR UPDATE",
+                (ResultSet rs) -> {
+                    lastVersions.put(new Stream(rs.getLong(1), rs.getInt(2)), rs.getInt(3));
+                }, faithfulIds.toArray());
+        return lastVersions;
+    }
+
+    /**
+     * Claims {@code count} versions on each of several streams whose heads {@link #lockHeads} locked: advances
+     * the existing heads and starts the missing streams. A stream started concurrently fails the insert,
+     * and with it the batch.
+     *
+     * @return per stream, the last version before the claimed ones
+     */
+    private Map<Stream, Integer> claimVersions(Map<Stream, Integer> counts, Map<Stream, Integer> lockedHeads) {
+        Map<Stream, Integer> lastVersions = new HashMap<>();
+        counts.keySet().forEach(stream -> {
+            Integer last = lockedHeads.get(stream);
+            if (last != null) {
+                lastVersions.put(stream, last);
+            }
+        });
+
+        List<Object[]> advanced = new ArrayList<>();
+        List<Object[]> started = new ArrayList<>();
+        counts.forEach((stream, count) -> {
+            Integer last = lastVersions.putIfAbsent(stream, 0);
+            if (last != null) {
+                advanced.add(new Object[]{last + count, stream.faithfulId(), stream.year()});
+            } else {
+                started.add(new Object[]{stream.faithfulId(), stream.year(), count});
+            }
+        });
+        jdbcTemplate.batchUpdate(SET_LAST_VERSION, advanced);
+        jdbcTemplate.batchUpdate(INSERT_STREAM, started);
+        return lastVersions;
+    }
+
+    // SUM over a NUMERIC column comes back as BigDecimal, but COALESCE(..., 0) may widen it on some dialects
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+}
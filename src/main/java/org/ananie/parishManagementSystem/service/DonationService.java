@@ -1,15 +1,21 @@
 package org.ananie.parishManagementSystem.service;
 
+import io.micrometer.core.annotation.Timed;
 import org.ananie.parishManagementSystem.dto.request.DonationRequestDTO;
 import org.ananie.parishManagementSystem.dto.request.DonationUpdateDTO;
 import org.ananie.parishManagementSystem.dto.response.DonationResponseDTO;
 import org.ananie.parishManagementSystem.dto.response.DonationSummaryDTO;
 import org.ananie.parishManagementSystem.entity.Donation;
 import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.Delta;
 import org.ananie.parishManagementSystem.repository.DonationRepository;
 import org.ananie.parishManagementSystem.repository.FaithfulRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -23,16 +29,28 @@ import java.util.stream.Collectors;
  * Handles business logic, validation, and DTO-Entity conversions.
  */
 @Service
+@Timed("parish.service")
 @Transactional
 public class DonationService {
 
     private final DonationRepository donationRepository;
     private final FaithfulRepository faithfulRepository;
+    private final StatisticsCache statisticsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DonationLedger ledger;
+
+    private static final Set<DataType> DONATION_DATA = EnumSet.of(DataType.DONATION);
+    private static final Set<DataType> DONATION_AND_FAITHFUL_DATA = EnumSet.of(DataType.DONATION, DataType.FAITHFUL);
 
     @Autowired
-    public DonationService(DonationRepository donationRepository, FaithfulRepository faithfulRepository) {
+    public DonationService(DonationRepository donationRepository, FaithfulRepository faithfulRepository,
+                           StatisticsCache statisticsCache, ApplicationEventPublisher eventPublisher,
+                           DonationLedger ledger) {
         this.donationRepository = donationRepository;
         this.faithfulRepository = faithfulRepository;
+        this.statisticsCache = statisticsCache;
+        this.eventPublisher = eventPublisher;
+        this.ledger = ledger;
     }
 
     // ==================== CREATE ====================
@@ -59,6 +77,8 @@ public class DonationService {
 
         // Save and return
         Donation savedDonation = donationRepository.save(donation);
+        ledger.recordCreated(savedDonation);
+        publishChange(savedDonation, Delta.created(savedDonation.getId()).withAmountChange(savedDonation.getAmount()));
         return convertToResponseDTO(savedDonation);
     }
 
@@ -125,6 +145,10 @@ public class DonationService {
     public DonationResponseDTO updateDonation(Long id, DonationUpdateDTO updateDTO) {
         Donation donation = donationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Ituro ntiribonetse (ID: " + id + ")"));
+        // Announced before the update as well, so results for the old date and year are dropped
+        publishChange(donation, null);
+        BigDecimal previousAmount = donation.getAmount();
+        DonationLedger.Position previousPosition = DonationLedger.Position.of(donation);
 
         // Update only non-null fields
         if (updateDTO.getYear() != null) {
@@ -153,18 +177,23 @@ public class DonationService {
         }
 
         Donation updatedDonation = donationRepository.save(donation);
+        ledger.recordAdjusted(previousPosition, updatedDonation);
+        publishChange(updatedDonation, Delta.updated(id)
+                .withAmountChange(updatedDonation.getAmount().subtract(previousAmount)));
         return convertToResponseDTO(updatedDonation);
     }
 
     // ==================== DELETE ====================
     /**
      * Delete a donation by ID.
+     * The row goes; the donation's history stays in the ledger, closed by a void entry.
      */
     public void deleteDonation(Long id) {
-        if (!donationRepository.existsById(id)) {
-            throw new IllegalArgumentException("Ituro ntiribonetse (ID: " + id + ")");
-        }
-        donationRepository.deleteById(id);
+        Donation donation = donationRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Ituro ntiribonetse (ID: " + id + ")"));
+        ledger.recordVoided(donation);
+        donationRepository.delete(donation);
+        publishChange(donation, Delta.deleted(id).withAmountChange(donation.getAmount().negate()));
     }
 
     /**
@@ -172,34 +201,43 @@ public class DonationService {
      */
     public void deleteAllDonationsByFaithful(Long faithfulId) {
         List<Donation> donations = donationRepository.findByFaithfulId(faithfulId);
+        donations.forEach(ledger::recordVoided);
         donationRepository.deleteAll(donations);
+        donations.forEach(donation -> publishChange(donation,
+                Delta.deleted(donation.getId()).withAmountChange(donation.getAmount().negate())));
     }
 
     // ==================== SUMMARY & STATISTICS ====================
+    // Served through StatisticsCache: cached until a donation in range changes, and concurrent
+    // identical calls (e.g. everyone opening the dashboard at once) share one computation.
+    // The per-faithful and per-year totals are ledger balances (snapshot plus tail), so donations written
+    // with plain JDBC count from the ledger's next backfill (on startup and every snapshot interval).
     /**
      * Get total donations for a faithful member.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public BigDecimal getTotalDonationsByFaithful(Long faithfulId) {
-        BigDecimal total = donationRepository.getTotalDonationsByFaithful(faithfulId);
-        return total != null ? total : BigDecimal.ZERO;
+        return statisticsCache.get("donationTotalByFaithful:" + faithfulId, null, null, DONATION_DATA,
+                () -> ledger.total(faithfulId));
     }
 
     /**
      * Get total donations for a specific year (overall parish total).
      * Equivalent to getTotalContributions(year) from JavaFX app.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public BigDecimal getTotalDonationsByYear(Integer year) {
-        BigDecimal total = donationRepository.getTotalDonationsByYear(year);
-        return total != null ? total : BigDecimal.ZERO;
+        return statisticsCache.get("donationTotalByYear", firstDayOf(year), lastDayOf(year), DONATION_DATA,
+                () -> ledger.yearTotal(year));
     }
 
     /**
      * Get total donations for all years combined.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public BigDecimal getTotalAllDonations() {
-        return donationRepository.findAll().stream()
-                .map(Donation::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return statisticsCache.get("donationTotal", null, null, DONATION_DATA,
+                donationRepository::getTotalAllDonations);
     }
 
     /**
@@ -213,50 +251,47 @@ public class DonationService {
     /**
      * Get donation summary (totals, averages, counts) for a specific period.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public DonationSummaryDTO getDonationSummary(LocalDate startDate, LocalDate endDate, String period) {
-        List<Donation> donations = donationRepository.findByDateBetween(startDate, endDate);
+        return statisticsCache.get("donationSummary:" + period, startDate, endDate, DONATION_DATA,
+                () -> computeDonationSummary(startDate, endDate, period));
+    }
 
-        if (donations.isEmpty()) {
+    private DonationSummaryDTO computeDonationSummary(LocalDate startDate, LocalDate endDate, String period) {
+        // Aggregated in the database: [count, total, max, min]
+        Object[] summary = donationRepository.summarizeDonationsBetween(startDate, endDate).get(0);
+        Long count = (Long) summary[0];
+
+        if (count == 0) {
             return new DonationSummaryDTO(BigDecimal.ZERO, 0L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, period);
         }
 
-        BigDecimal total = donations.stream()
-                .map(Donation::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        Long count = (long) donations.size();
-
+        BigDecimal total = (BigDecimal) summary[1];
         BigDecimal average = total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
 
-        BigDecimal max = donations.stream()
-                .map(Donation::getAmount)
-                .max(BigDecimal::compareTo)
-                .orElse(BigDecimal.ZERO);
-
-        BigDecimal min = donations.stream()
-                .map(Donation::getAmount)
-                .min(BigDecimal::compareTo)
-                .orElse(BigDecimal.ZERO);
-
-        return new DonationSummaryDTO(total, count, average, max, min, period);
+        return new DonationSummaryDTO(total, count, average, (BigDecimal) summary[2], (BigDecimal) summary[3], period);
     }
 
     /**
      * Get available years that have donation records (for year filter dropdown).
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Integer> getAvailableYears() {
-        return donationRepository.findAll().stream()
-                .map(Donation::getYear)
-                .distinct()
-                .sorted(Comparator.reverseOrder()) // Most recent first
-                .collect(Collectors.toList());
+        return statisticsCache.get("donationYears", null, null, DONATION_DATA,
+                donationRepository::findDistinctYears); // Most recent first
     }
 
     /**
      * Get donations grouped by contribution type for a specific year.
      * Returns Map of type -> total amount.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, BigDecimal> getTotalsByContributionType(Integer year) {
+        return statisticsCache.get("donationTotalsByType", firstDayOf(year), lastDayOf(year), DONATION_DATA,
+                () -> computeTotalsByContributionType(year));
+    }
+
+    private Map<String, BigDecimal> computeTotalsByContributionType(Integer year) {
         List<Object[]> results = donationRepository.getTotalByContributionTypeAndYear(year);
 
         Map<String, BigDecimal> totals = new HashMap<>();
@@ -272,7 +307,13 @@ public class DonationService {
      * Get monthly donation summary for a specific year.
      * Returns Map of month (1-12) -> total amount.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<Integer, BigDecimal> getMonthlyDonationSummary(Integer year) {
+        return statisticsCache.get("donationMonthlySummary", firstDayOf(year), lastDayOf(year), DONATION_DATA,
+                () -> computeMonthlyDonationSummary(year));
+    }
+
+    private Map<Integer, BigDecimal> computeMonthlyDonationSummary(Integer year) {
         List<Object[]> results = donationRepository.getMonthlyDonationSummary(year);
 
         Map<Integer, BigDecimal> monthlySummary = new HashMap<>();
@@ -288,7 +329,13 @@ public class DonationService {
      * Get top donors for a specific year.
      * Returns list of faithful IDs with their total donations.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Map<String, Object>> getTopDonorsByYear(Integer year, int limit) {
+        return statisticsCache.get("donationTopDonors:" + limit, firstDayOf(year), lastDayOf(year),
+                DONATION_AND_FAITHFUL_DATA, () -> computeTopDonorsByYear(year, limit));
+    }
+
+    private List<Map<String, Object>> computeTopDonorsByYear(Integer year, int limit) {
         List<Object[]> results = donationRepository.getTopDonorsByYear(year);
 
         return results.stream()
@@ -310,51 +357,64 @@ public class DonationService {
      * Get donations totals grouped by SubParish for a specific year.
      * Returns Map of SubParish name -> total amount.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, BigDecimal> getTotalsBySubParish(Integer year) {
-        List<Donation> donations;
-        if (year != null) {
-            donations = donationRepository.findByYear(year);
-        } else {
-            donations = donationRepository.findAll();
-        }
+        return statisticsCache.get("donationTotalsBySubParish", firstDayOf(year), lastDayOf(year),
+                DONATION_AND_FAITHFUL_DATA, () -> computeTotalsBySubParish(year));
+    }
 
-        Map<String, BigDecimal> totals = new HashMap<>();
-        for (Donation donation : donations) {
-            Faithful faithful = donation.getFaithful();
-            if (faithful != null && faithful.getSubparish() != null) {
-                String subparish = faithful.getSubparish();
-                totals.merge(subparish, donation.getAmount(), BigDecimal::add);
-            }
-        }
-        return totals;
+    // A query per case rather than one "year IS NULL OR" predicate, so the year's plan can use its index
+    private Map<String, BigDecimal> computeTotalsBySubParish(Integer year) {
+        return toTotalsMap(year != null
+                ? donationRepository.getTotalsBySubParishInYear(year)
+                : donationRepository.getTotalsBySubParish());
     }
 
     /**
      * Get donations totals grouped by BEC for a specific SubParish and year.
      * Returns Map of BEC name -> total amount.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, BigDecimal> getTotalsByBecInSubParish(String subParishName, Integer year) {
-        List<Donation> donations;
-        if (year != null) {
-            donations = donationRepository.findByYear(year);
-        } else {
-            donations = donationRepository.findAll();
-        }
+        return statisticsCache.get("donationTotalsByBec:" + subParishName, firstDayOf(year), lastDayOf(year),
+                DONATION_AND_FAITHFUL_DATA, () -> computeTotalsByBecInSubParish(subParishName, year));
+    }
 
+    private Map<String, BigDecimal> computeTotalsByBecInSubParish(String subParishName, Integer year) {
+        return toTotalsMap(year != null
+                ? donationRepository.getTotalsByBecInSubParishInYear(subParishName, year)
+                : donationRepository.getTotalsByBecInSubParish(subParishName));
+    }
+
+    // [name, total_amount] rows grouped in the database
+    private static Map<String, BigDecimal> toTotalsMap(List<Object[]> rows) {
         Map<String, BigDecimal> totals = new HashMap<>();
-        for (Donation donation : donations) {
-            Faithful faithful = donation.getFaithful();
-            if (faithful != null &&
-                    subParishName.equals(faithful.getSubparish()) &&
-                    faithful.getBasicEcclesialCommunity() != null) {
-
-                String bec = faithful.getBasicEcclesialCommunity();
-                totals.merge(bec, donation.getAmount(), BigDecimal::add);
-            }
+        for (Object[] row : rows) {
+            totals.put((String) row[0], (BigDecimal) row[1]);
         }
         return totals;
     }
 
+    // ==================== CHANGE EVENTS ====================
+    /**
+     * Announces a donation change for both its payment date and its contribution year,
+     * which may differ (e.g. a 2024 contribution paid in January 2025).
+     * The delta, if any, is forwarded to the live dashboard feed.
+     */
+    private void publishChange(Donation donation, Delta delta) {
+        eventPublisher.publishEvent(ParishDataChangedEvent.of(DataType.DONATION,
+                donation.getDate(), firstDayOf(donation.getYear())).withDelta(delta));
+    }
+
+    // A null year means all years, i.e. an open-ended range
+    private static LocalDate firstDayOf(Integer year) {
+        return year != null ? LocalDate.of(year, 1, 1) : null;
+    }
+
+    private static LocalDate lastDayOf(Integer year) {
+        return year != null ? LocalDate.of(year, 12, 31) : null;
+    }
+
     // ==================== DTO CONVERSION ====================
     /**
      * Convert Donation entity to DonationResponseDTO.
@@ -0,0 +1,367 @@
+package org.ananie.parishManagementSystem.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.DonationStatementProperties;
+import org.ananie.parishManagementSystem.repository.JdbcCursors;
+import org.ananie.parishManagementSystem.statements.DonorStatement;
+import org.ananie.parishManagementSystem.statements.DonorStatement.Line;
+import org.ananie.parishManagementSystem.statements.StatementCheckpoint;
+import org.ananie.parishManagementSystem.statements.StatementFormat;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Batch job producing the annual donation statements, one file per contributing faithful.
+ * The year's donations are read once, through a forward-only cursor sorted by faithful, and
+ * grouped into statements in the same pass. Every {@code chunkSize} statements are rendered in
+ * parallel on the render pool; once the whole chunk is on disk a checkpoint records the last
+ * faithful written, so an interrupted run resumes after it instead of starting over.
+ * Optionally the statements are packed into {@code statements-<year>.zip} at the end.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Service
+public class DonationStatementJob implements DisposableBean {
+
+    public enum State {QUEUED, RUNNING, COMPLETED, FAILED, INTERRUPTED}
+
+    /**
+     * Progress of a run; {@code statements} includes those written before a resume.
+     */
+    public record Status(int year, StatementFormat format, State state, long donors, long statements,
+                         long resumedAfterFaithfulId, LocalDateTime startedAt, LocalDateTime finishedAt,
+                         String output, String error) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DonationStatementProperties properties;
+    private final TransactionTemplate readTransaction;
+    // Runs are queued on a single coordinator thread; rendering fans out to the render pool
+    private final ExecutorService coordinator;
+    private final ExecutorService renderers;
+    private final Map<Integer, Run> runs = new ConcurrentHashMap<>();
+
+    public DonationStatementJob(JdbcTemplate jdbcTemplate,
+                                DonationStatementProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.coordinator = Executors.newSingleThreadExecutor(daemonThreads("statement-job"));
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.renderers = Executors.newFixedThreadPool(threads, daemonThreads("statement-render"));
+    }
+
+    // ==================== RUNNING ====================
+
+    /**
+     * Queues a run for the year and returns at once; follow it with {@link #status(int)}.
+     * A checkpoint left by an unfinished run in the same format is resumed unless {@code fromScratch};
+     * otherwise the statements and checkpoint of the year's previous run are deleted first.
+     *
+     * @throws IllegalStateException when a run for the year is already queued or running
+     */
+    public synchronized Status start(int year, StatementFormat format, boolean zip, boolean fromScratch) {
+        Run run = register(year, format);
+        coordinator.submit(() -> generate(run, zip, fromScratch));
+        return run.status();
+    }
+
+    /**
+     * Runs the job for the year on the calling thread and returns its final status.
+     */
+    public Status run(int year, StatementFormat format, boolean zip, boolean fromScratch) {
+        Run run;
+        synchronized (this) {
+            run = register(year, format);
+        }
+        generate(run, zip, fromScratch);
+        return run.status();
+    }
+
+    /**
+     * Status of the latest run for the year in this process, or else of the checkpoint a previous
+     * process left behind.
+     */
+    public Optional<Status> status(int year) {
+        Run run = runs.get(year);
+        if (run != null) {
+            return Optional.of(run.status());
+        }
+        try {
+            return StatementCheckpoint.load(directoryFor(year)).map(checkpoint -> new Status(year, checkpoint.format(),
+                    checkpoint.completed() ? State.COMPLETED : State.INTERRUPTED, 0, checkpoint.statements(),
+                    0, null, null, directoryFor(year).toString(), null));
+        } catch (IOException e) {
+            log.warn("Could not read the statement checkpoint for {}: {}", year, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Run register(int year, StatementFormat format) {
+        Run current = runs.get(year);
+        if (current != null && (current.state == State.QUEUED || current.state == State.RUNNING)) {
+            throw new IllegalStateException("Statements for " + year + " are already being generated");
+        }
+        Run run = new Run(year, format);
+        runs.put(year, run);
+        return run;
+    }
+
+    private void generate(Run run, boolean zip, boolean fromScratch) {
+        run.state = State.RUNNING;
+        run.startedAt = LocalDateTime.now();
+        Path directory = directoryFor(run.year);
+        try {
+            Files.createDirectories(directory);
+            Optional<StatementCheckpoint> resumable = StatementCheckpoint.load(directory)
+                    .filter(saved -> !fromScratch && !saved.completed() && saved.format() == run.format);
+            if (resumable.isEmpty()) {
+                // Statements of donors gone since, or in another format, would otherwise end up in the zip
+                clear(directory);
+            }
+            StatementCheckpoint checkpoint = resumable.orElseGet(() -> StatementCheckpoint.start(run.year, run.format));
+            if (checkpoint.lastFaithfulId() > 0) {
+                log.info("Resuming {} statements after faithful {} ({} already written)",
+                        run.year, checkpoint.lastFaithfulId(), checkpoint.statements());
+            }
+            run.resumedAfterFaithfulId = checkpoint.lastFaithfulId();
+            run.statements.set(checkpoint.statements());
+
+            StatementCheckpoint last = readTransaction.execute(status -> writeStatements(run, directory, checkpoint));
+            last.complete().save(directory);
+
+            run.output = (zip ? pack(run, directory) : directory).toString();
+            run.state = State.COMPLETED;
+            log.info("Statements {}: {} written to {}", run.year, run.statements.get(), run.output);
+        } catch (Exception e) {
+            run.error = e.getMessage();
+            run.state = State.FAILED;
+            log.error("Statements {} failed after {} statements; the next run resumes from the last checkpoint",
+                    run.year, run.statements.get(), e);
+        } finally {
+            run.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    // ==================== READING ====================
+
+    private StatementCheckpoint writeStatements(Run run, Path directory, StatementCheckpoint checkpoint) {
+        String quote = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getIdentifierQuoteString()).trim();
+        String date = quote + "date" + quote;
+        String year = quote + "year" + quote;
+
+        run.donors = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT faithful_id) FROM donations WHERE "
+                + year + " = ?", Long.class, run.year);
+
+        String sql = "SELECT d.faithful_id, f.name, f.firstname, f.parish, f.subparish, f.basic_ecclesial_community, " +
+                "d." + date + ", d.amount, d.contribution_type, d.payment_method, d.reference_number " +
+                "FROM donations d JOIN faithfuls f ON f.id = d.faithful_id " +
+                "WHERE d." + year + " = ? AND d.faithful_id > ? " +
+                "ORDER BY d.faithful_id, d." + date + ", d.id";
+        ChunkWriter chunks = new ChunkWriter(run, directory, checkpoint);
+        jdbcTemplate.query(JdbcCursors.forwardOnly(sql, properties.getFetchSize(),
+                List.of(run.year, checkpoint.lastFaithfulId())), chunks);
+        chunks.finish();
+        return chunks.checkpoint;
+    }
+
+    /**
+     * Groups consecutive rows of the same faithful into a statement and hands statements
+     * to the render pool a chunk at a time.
+     */
+    private class ChunkWriter implements RowCallbackHandler {
+
+        private final Run run;
+        private final Path directory;
+        private final List<DonorStatement> chunk;
+        private StatementCheckpoint checkpoint;
+
+        private long faithfulId = -1;
+        private String[] donor;
+        private List<Line> lines;
+
+        ChunkWriter(Run run, Path directory, StatementCheckpoint checkpoint) {
+            this.run = run;
+            this.directory = directory;
+            this.checkpoint = checkpoint;
+            this.chunk = new ArrayList<>(properties.getChunkSize());
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long rowFaithfulId = rs.getLong(1);
+            if (rowFaithfulId != faithfulId) {
+                endStatement();
+                faithfulId = rowFaithfulId;
+                donor = new String[]{rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5), rs.getString(6)};
+                lines = new ArrayList<>();
+            }
+            lines.add(new Line(rs.getObject(7, LocalDate.class), rs.getBigDecimal(8),
+                    rs.getString(9), rs.getString(10), rs.getString(11)));
+        }
+
+        void finish() {
+            endStatement();
+            flush();
+        }
+
+        private void endStatement() {
+            if (lines == null) {
+                return;
+            }
+            chunk.add(new DonorStatement(run.year, faithfulId, donor[0], donor[1], donor[2], donor[3], donor[4],
+                    List.copyOf(lines)));
+            lines = null;
+            if (chunk.size() >= properties.getChunkSize()) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<Future<?>> rendered = new ArrayList<>(chunk.size());
+            for (DonorStatement statement : chunk) {
+                rendered.add(renderers.submit(() -> {
+                    write(directory, statement, run.format);
+                    run.statements.incrementAndGet();
+                    return null;
+                }));
+            }
+            try {
+                for (Future<?> future : rendered) {
+                    future.get();
+                }
+                checkpoint = checkpoint.advance(chunk.get(chunk.size() - 1).faithfulId(), chunk.size());
+                checkpoint.save(directory);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rendered.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("Interrupted while rendering statements", e);
+            } catch (ExecutionException | IOException e) {
+                throw new IllegalStateException("Could not write statements: " + e.getMessage(), e);
+            }
+            log.info("Statements {}: {}/{} written", run.year, run.statements.get(), run.donors);
+            chunk.clear();
+        }
+    }
+
+    // ==================== WRITING ====================
+
+    private static void write(Path directory, DonorStatement statement, StatementFormat format) throws IOException {
+        Path file = directory.resolve("statement-" + statement.faithfulId() + "." + format.getExtension());
+        Files.writeString(file, format.render(statement), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Removes the statements and checkpoint a previous run left in the year's directory.
+     */
+    private static void clear(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(DonationStatementJob::isRunOutput)::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static boolean isRunOutput(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith("statement-") || name.startsWith(StatementCheckpoint.FILE_NAME);
+    }
+
+    private Path pack(Run run, Path directory) throws IOException {
+        Path zipFile = properties.getOutputDirectory().resolve("statements-" + run.year + ".zip");
+        String suffix = "." + run.format.getExtension();
+        try (OutputStream out = Files.newOutputStream(zipFile);
+             ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+             Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.getFileName().toString().endsWith(suffix)).sorted()::iterator) {
+                zip.putNextEntry(new ZipEntry(file.getFileName().toString()));
+                Files.copy(file, zip);
+                zip.closeEntry();
+            }
+        }
+        return zipFile;
+    }
+
+    private Path directoryFor(int year) {
+        return properties.getOutputDirectory().resolve(String.valueOf(year));
+    }
+
+    @Override
+    public void destroy() {
+        coordinator.shutdownNow();
+        renderers.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Mutable progress of one run, read by status requests while the coordinator updates it.
+     */
+    private static final class Run {
+
+        final int year;
+        final StatementFormat format;
+        final AtomicLong statements = new AtomicLong();
+        volatile State state = State.QUEUED;
+        volatile long donors;
+        volatile long resumedAfterFaithfulId;
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+        volatile String output;
+        volatile String error;
+
+        Run(int year, StatementFormat format) {
+            this.year = year;
+            this.format = format;
+        }
+
+        Status status() {
+            return new Status(year, format, state, donors, statements.get(), resumedAfterFaithfulId,
+                    startedAt, finishedAt, output, error);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.ananie.parishManagementSystem.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.RegisterExportProperties;
+import org.ananie.parishManagementSystem.export.TableWriter;
+import org.ananie.parishManagementSystem.repository.JdbcCursors;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Exports the faithful register one row at a time. The rows are read through a forward-only,
+ * read-only JDBC cursor ({@link JdbcCursors}) and handed to the writer as they arrive, without entities, a persistence
+ * context or a result list, so memory use does not depend on the size of the register.
+ * Ministries and lapse history are not part of the register export.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Service
+@Timed("parish.service")
+@RequiredArgsConstructor
+public class FaithfulRegisterExporter {
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("Id", "id", Long.class),
+            new Column("Name", "name", String.class),
+            new Column("First name", "firstname", String.class),
+            new Column("Father's name", "father_name", String.class),
+            new Column("Mother's name", "mother_name", String.class),
+            new Column("Godparent", "godparent_name", String.class),
+            new Column("Date of birth", "date_of_birth", LocalDate.class),
+            new Column("Date of baptism", "date_of_baptism", LocalDate.class),
+            new Column("Baptism ID", "baptism_id", String.class),
+            new Column("Baptism minister", "baptism_minister", String.class),
+            new Column("Date of first communion", "date_of_first_communion", LocalDate.class),
+            new Column("Date of confirmation", "date_of_confirmation", LocalDate.class),
+            new Column("Confirmation ID", "confirmation_id", String.class),
+            new Column("Date of matrimony", "date_of_matrimony", LocalDate.class),
+            new Column("Matrimony ID", "matrimony_id", String.class),
+            new Column("Spouse name", "spouse_name", String.class),
+            new Column("Spouse baptism ID", "spouse_baptism_id", String.class),
+            new Column("Diocese", "diocese", String.class),
+            new Column("Parish", "parish", String.class),
+            new Column("Subparish", "subparish", String.class),
+            new Column("Basic ecclesial community", "basic_ecclesial_community", String.class),
+            new Column("Relocated", "has_relocated", String.class),
+            new Column("New parish", "new_parish_name", String.class),
+            new Column("Deceased", "is_deceased", String.class),
+            new Column("Date of death", "date_of_death", LocalDate.class));
+
+    private static final String SELECT = COLUMNS.stream()
+            .map(Column::sqlName)
+            .collect(Collectors.joining(", ", "SELECT ", " FROM faithfuls"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RegisterExportProperties properties;
+
+    /**
+     * Register column: header text, source column and the Java type it is read as.
+     */
+    private record Column(String header, String sqlName, Class<?> type) {
+    }
+
+    /**
+     * Narrows the export to a parish, subparish and/or basic ecclesial community; null means any.
+     */
+    public record RegisterFilter(String parish, String subparish, String basicEcclesialCommunity) {
+    }
+
+    /**
+     * Writes the header and every matching faithful, in id order, to the writer.
+     * The writer is not finished, so the caller can complete the document.
+     *
+     * @return the number of faithful written
+     */
+    @Transactional(readOnly = true)
+    public long export(RegisterFilter filter, TableWriter writer) throws IOException {
+        long started = System.nanoTime();
+        writer.writeRow(COLUMNS.stream().map(Column::header).toList());
+
+        List<Object> parameters = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(SELECT).append(" WHERE 1 = 1");
+        appendCondition(sql, parameters, "parish", filter.parish());
+        appendCondition(sql, parameters, "subparish", filter.subparish());
+        appendCondition(sql, parameters, "basic_ecclesial_community", filter.basicEcclesialCommunity());
+        sql.append(" ORDER BY id");
+
+        long[] rows = {0};
+        List<Object> row = new ArrayList<>(COLUMNS.size());
+        try {
+            jdbcTemplate.query(JdbcCursors.forwardOnly(sql.toString(), properties.getFetchSize(), parameters), (ResultSet rs) -> {
+                row.clear();
+                for (int i = 0; i < COLUMNS.size(); i++) {
+                    row.add(rs.getObject(i + 1, COLUMNS.get(i).type()));
+                }
+                try {
+                    writer.writeRow(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // The client went away or the stream failed; stop reading the cursor
+            throw e.getCause();
+        }
+
+        log.info("Exported {} faithful ({}) in {} ms", rows[0], filter, (System.nanoTime() - started) / 1_000_000);
+        return rows[0];
+    }
+
+    private static void appendCondition(StringBuilder sql, List<Object> parameters, String column, String value) {
+        if (value != null && !value.isBlank()) {
+            sql.append(" AND ").append(column).append(" = ?");
+            parameters.add(value);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package org.ananie.parishManagementSystem.service;
 
+import io.micrometer.core.annotation.Timed;
 import org.ananie.parishManagementSystem.dto.request.CreateFaithfulRequest;
 import org.ananie.parishManagementSystem.dto.response.FaithfulDTO;
 import org.ananie.parishManagementSystem.entity.Faithful;
 import org.ananie.parishManagementSystem.entity.LapseEvent;
 import org.ananie.parishManagementSystem.entity.Ministry;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.Delta;
 import org.ananie.parishManagementSystem.repository.FaithfulRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,14 +22,17 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("parish.service")
 @Transactional
 public class FaithfulService {
 
     private final FaithfulRepository faithfulRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public FaithfulService(FaithfulRepository faithfulRepository) {
+    public FaithfulService(FaithfulRepository faithfulRepository, ApplicationEventPublisher eventPublisher) {
         this.faithfulRepository = faithfulRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -49,6 +57,8 @@ public class FaithfulService {
 
         Faithful faithful = convertToEntity(request);
         Faithful savedFaithful = faithfulRepository.save(faithful);
+        eventPublisher.publishEvent(ParishDataChangedEvent.of(DataType.FAITHFUL)
+                .withDelta(Delta.created(savedFaithful.getId())));
         return convertToDTO(savedFaithful);
     }
 
@@ -171,6 +181,8 @@ public class FaithfulService {
         // Update fields
         updateEntityFromRequest(existingFaithful, request);
         Faithful updatedFaithful = faithfulRepository.save(existingFaithful);
+        eventPublisher.publishEvent(ParishDataChangedEvent.of(DataType.FAITHFUL)
+                .withDelta(Delta.updated(id)));
         return convertToDTO(updatedFaithful);
     }
     /**
@@ -181,6 +193,8 @@ public class FaithfulService {
             throw new IllegalArgumentException("Faithful not found with id: " + id);
         }
         faithfulRepository.deleteById(id);
+        eventPublisher.publishEvent(ParishDataChangedEvent.of(DataType.FAITHFUL)
+                .withDelta(Delta.deleted(id)));
     }
 
     /**
@@ -0,0 +1,138 @@
+package org.ananie.parishManagementSystem.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.IntentionAllocationProperties;
+import org.ananie.parishManagementSystem.repository.IntentionRepository;
+import org.ananie.parishManagementSystem.repository.MassRepository;
+import org.ananie.parishManagementSystem.service.IntentionAllocator.AllocationPlan;
+import org.ananie.parishManagementSystem.service.IntentionAllocator.MassSlot;
+import org.ananie.parishManagementSystem.service.IntentionAllocator.PendingIntention;
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Batch job that assigns unassigned intentions to upcoming masses.
+ * Loads only id/date/type columns, plans in memory with IntentionAllocator,
+ * then writes the plan in bulk updates of at most {@code batchSize} rows per transaction.
+ * Each run only looks at intentions still without a mass, so it is incremental and safe to re-run.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Service
+public class IntentionAllocationService {
+
+    private final IntentionRepository intentionRepository;
+    private final MassRepository massRepository;
+    private final IntentionAllocationProperties properties;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public IntentionAllocationService(IntentionRepository intentionRepository,
+                                      MassRepository massRepository,
+                                      IntentionAllocationProperties properties,
+                                      PlatformTransactionManager transactionManager) {
+        this.intentionRepository = intentionRepository;
+        this.massRepository = massRepository;
+        this.properties = properties;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Nightly run of the allocator.
+     */
+    @Scheduled(cron = "${parish.intentions.allocation.cron:0 30 1 * * *}")
+    public void allocateScheduled() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        allocatePendingIntentions(LocalDate.now());
+    }
+
+    /**
+     * Assigns pending intentions to masses between today and the configured horizon.
+     *
+     * @param today first date a mass may be used
+     * @return number of intentions assigned in this run
+     */
+    public int allocatePendingIntentions(LocalDate today) {
+        LocalDate horizon = today.plusDays(properties.getHorizonDays());
+        log.info("Allocating pending intentions to masses between {} and {}", today, horizon);
+
+        List<MassSlot> slots = readTransaction.execute(status -> loadMassSlots(today, horizon));
+        List<PendingIntention> pending = readTransaction.execute(status -> loadPendingIntentions(horizon));
+
+        if (slots.isEmpty() || pending.isEmpty()) {
+            log.info("Nothing to allocate ({} masses, {} pending intentions)", slots.size(), pending.size());
+            return 0;
+        }
+
+        long started = System.nanoTime();
+        AllocationPlan plan = new IntentionAllocator(properties.getPreferenceWindowDays())
+                .plan(pending, slots, today);
+        log.debug("Planned {} intentions onto {} masses in {} ms",
+                plan.allocatedCount(), plan.intentionIdsByMass().size(), (System.nanoTime() - started) / 1_000_000);
+
+        int assigned = writePlan(plan);
+        log.info("Allocated {} intentions, {} still waiting for a mass", assigned, plan.unallocatedIds().size());
+        return assigned;
+    }
+
+    // ============================================================================
+    // HELPER METHODS
+    // ============================================================================
+
+    private List<MassSlot> loadMassSlots(LocalDate start, LocalDate end) {
+        Map<Long, Long> carried = new HashMap<>();
+        for (Object[] row : intentionRepository.countIntentionsPerMassBetween(start, end)) {
+            carried.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<MassSlot> slots = new ArrayList<>();
+        for (Object[] row : massRepository.findMassSlotsBetween(start, end)) {
+            Long massId = (Long) row[0];
+            Integer capacity = (Integer) row[3];
+            int total = capacity != null ? capacity : properties.getDefaultMassCapacity();
+            int remaining = total - carried.getOrDefault(massId, 0L).intValue();
+            slots.add(new MassSlot(massId, (LocalDate) row[1], (Long) row[2], remaining));
+        }
+        return slots;
+    }
+
+    private List<PendingIntention> loadPendingIntentions(LocalDate horizon) {
+        List<PendingIntention> pending = new ArrayList<>();
+        for (Object[] row : intentionRepository.findPendingAllocationRows(horizon)) {
+            pending.add(new PendingIntention(
+                    (Long) row[0], (IntentionType) row[1], (LocalDate) row[2], (Long) row[3]));
+        }
+        return pending;
+    }
+
+    /**
+     * Writes the plan mass by mass, committing every batch so a failure loses at most one batch.
+     */
+    private int writePlan(AllocationPlan plan) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int assigned = 0;
+
+        for (Map.Entry<Long, List<Long>> entry : plan.intentionIdsByMass().entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                Integer updated = writeTransaction.execute(status -> intentionRepository.assignToMass(
+                        massRepository.getReferenceById(entry.getKey()), batch));
+                assigned += updated != null ? updated : 0;
+            }
+        }
+        return assigned;
+    }
+}
@@ -0,0 +1,181 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Greedy planner that places pending intentions on upcoming masses.
+ * Works purely in memory on lightweight rows, so it can be tested and benchmarked
+ * without a database; IntentionAllocationService handles loading and writing.
+ *
+ * Rules, in order of precedence:
+ * - an intention is never placed on a mass before its requested date;
+ * - a mass never receives more intentions than its remaining capacity;
+ * - intentions are served by type priority (DECEASED first), then by requested date;
+ * - a preferred celebrant wins over an earlier mass, as long as it falls within the preference window.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public class IntentionAllocator {
+
+    /**
+     * Order in which intention types are served when masses run short of capacity.
+     */
+    static final List<IntentionType> TYPE_PRIORITY = List.of(
+            IntentionType.DECEASED,
+            IntentionType.ANNIVERSARY,
+            IntentionType.SICK,
+            IntentionType.SPECIAL_NEED,
+            IntentionType.THANKSGIVING,
+            IntentionType.PATRON_SAINT,
+            IntentionType.BIRTHDAY,
+            IntentionType.OTHER
+    );
+
+    private static final Map<IntentionType, Integer> PRIORITY_RANK = new EnumMap<>(IntentionType.class);
+
+    static {
+        for (int rank = 0; rank < TYPE_PRIORITY.size(); rank++) {
+            PRIORITY_RANK.put(TYPE_PRIORITY.get(rank), rank);
+        }
+    }
+
+    private final int preferenceWindowDays;
+
+    public IntentionAllocator(int preferenceWindowDays) {
+        this.preferenceWindowDays = Math.max(0, preferenceWindowDays);
+    }
+
+    /**
+     * An intention waiting for a mass.
+     */
+    public record PendingIntention(Long id, IntentionType type, LocalDate requestedDate, Long preferredCelebrantId) {
+    }
+
+    /**
+     * An upcoming mass with the number of intentions it can still take.
+     */
+    public record MassSlot(Long massId, LocalDate date, Long celebrantId, int remainingCapacity) {
+    }
+
+    /**
+     * Result of a planning run: intention IDs grouped by the mass they go to,
+     * plus the intentions no mass could take.
+     */
+    public record AllocationPlan(Map<Long, List<Long>> intentionIdsByMass, List<Long> unallocatedIds) {
+
+        public int allocatedCount() {
+            return intentionIdsByMass.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    /**
+     * Plans the allocation of pending intentions onto the given masses.
+     *
+     * @param pending intentions without a mass
+     * @param slots upcoming masses with their remaining capacity
+     * @param today first date a mass may be used; overdue intentions go to the earliest mass from here
+     * @return the allocation plan
+     */
+    public AllocationPlan plan(List<PendingIntention> pending, List<MassSlot> slots, LocalDate today) {
+        NavigableMap<LocalDate, List<OpenSlot>> openSlots = new TreeMap<>();
+        for (MassSlot slot : slots) {
+            if (slot.remainingCapacity() > 0 && !slot.date().isBefore(today)) {
+                openSlots.computeIfAbsent(slot.date(), d -> new ArrayList<>())
+                        .add(new OpenSlot(slot.massId(), slot.celebrantId(), slot.remainingCapacity()));
+            }
+        }
+
+        List<PendingIntention> queue = new ArrayList<>(pending);
+        queue.sort(Comparator
+                .comparingInt((PendingIntention p) -> PRIORITY_RANK.getOrDefault(p.type(), TYPE_PRIORITY.size()))
+                .thenComparing(p -> earliestDate(p, today))
+                .thenComparing(PendingIntention::id));
+
+        Map<Long, List<Long>> assignments = new LinkedHashMap<>();
+        List<Long> unallocated = new ArrayList<>();
+
+        for (PendingIntention intention : queue) {
+            Map.Entry<LocalDate, List<OpenSlot>> first = openSlots.ceilingEntry(earliestDate(intention, today));
+            if (first == null) {
+                unallocated.add(intention.id());
+                continue;
+            }
+
+            LocalDate date = first.getKey();
+            OpenSlot chosen = null;
+            if (intention.preferredCelebrantId() != null) {
+                LocalDate windowEnd = date.plusDays(preferenceWindowDays);
+                for (Map.Entry<LocalDate, List<OpenSlot>> entry : openSlots.subMap(date, true, windowEnd, true).entrySet()) {
+                    chosen = findCelebrantSlot(entry.getValue(), intention.preferredCelebrantId());
+                    if (chosen != null) {
+                        date = entry.getKey();
+                        break;
+                    }
+                }
+            }
+            if (chosen == null) {
+                date = first.getKey();
+                chosen = leastLoadedSlot(first.getValue());
+            }
+
+            assignments.computeIfAbsent(chosen.massId, id -> new ArrayList<>()).add(intention.id());
+            chosen.remaining--;
+            if (chosen.remaining == 0) {
+                List<OpenSlot> sameDay = openSlots.get(date);
+                sameDay.remove(chosen);
+                if (sameDay.isEmpty()) {
+                    openSlots.remove(date);
+                }
+            }
+        }
+
+        return new AllocationPlan(assignments, unallocated);
+    }
+
+    // ============================================================================
+    // HELPER METHODS
+    // ============================================================================
+
+    private static LocalDate earliestDate(PendingIntention intention, LocalDate today) {
+        LocalDate requested = intention.requestedDate();
+        return requested == null || requested.isBefore(today) ? today : requested;
+    }
+
+    private static OpenSlot findCelebrantSlot(List<OpenSlot> slots, Long celebrantId) {
+        for (OpenSlot slot : slots) {
+            if (celebrantId.equals(slot.celebrantId)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Spreads intentions across masses of the same day instead of filling the first one.
+     */
+    private static OpenSlot leastLoadedSlot(List<OpenSlot> slots) {
+        OpenSlot best = slots.get(0);
+        for (OpenSlot slot : slots) {
+            if (slot.remaining > best.remaining) {
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    private static final class OpenSlot {
+        private final Long massId;
+        private final Long celebrantId;
+        private int remaining;
+
+        private OpenSlot(Long massId, Long celebrantId, int remaining) {
+            this.massId = massId;
+            this.celebrantId = celebrantId;
+            this.remaining = remaining;
+        }
+    }
+}
@@ -1,10 +1,26 @@
 package org.ananie.parishManagementSystem.service;
 
+import org.ananie.parishManagementSystem.dto.request.IntentionRequestDTO;
+import org.ananie.parishManagementSystem.dto.response.IntentionListResponseDTO;
+import org.ananie.parishManagementSystem.dto.response.IntentionResponseDTO;
 import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.Delta;
+import org.ananie.parishManagementSystem.exception.ResourceNotFoundException;
+import org.ananie.parishManagementSystem.exception.ValidationException;
+import org.ananie.parishManagementSystem.repository.FaithfulRepository;
+import org.ananie.parishManagementSystem.repository.MassRepository;
+import org.ananie.parishManagementSystem.repository.PriestRepository;
 import org.ananie.parishManagementSystem.utilities.IntentionType;
 import org.ananie.parishManagementSystem.repository.IntentionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -17,8 +33,140 @@ public class IntentionService {
     @Autowired
     private IntentionRepository intentionRepository;
 
+    @Autowired
+    private UnpaidIntentionCounter unpaidIntentionCounter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MassRepository massRepository;
+
+    @Autowired
+    private FaithfulRepository faithfulRepository;
+
+    @Autowired
+    private PriestRepository priestRepository;
+
+    /**
+     * Records a new intention. Without a mass it waits for the allocator, which honours the preferred celebrant.
+     */
+    @Transactional
+    public IntentionResponseDTO createIntention(IntentionRequestDTO request) {
+        Intention intention = new Intention();
+        applyRequest(intention, request);
+        return mapToResponseDTO(save(intention, true, false, null));
+    }
+
+    /**
+     * Replaces an intention's details with the request's.
+     */
+    @Transactional
+    public IntentionResponseDTO updateIntention(Long id, IntentionRequestDTO request) {
+        Intention intention = intentionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Intention not found with ID: " + id));
+        // Taken from the managed entity before it changes; a query afterwards would flush the new values first
+        boolean wasUnpaid = !intention.isPaid();
+        LocalDate previousDate = intention.getRequestedDate();
+        applyRequest(intention, request);
+        return mapToResponseDTO(save(intention, false, wasUnpaid, previousDate));
+    }
+
+    private void applyRequest(Intention intention, IntentionRequestDTO request) {
+        if (request.getFaithfulId() == null && (request.getExternalFaithfulName() == null
+                || request.getExternalFaithfulName().isBlank())) {
+            throw new ValidationException("Either faithfulId or externalFaithfulName is required");
+        }
+        intention.setIntentionType(request.getIntentionType());
+        intention.setIntentionText(request.getIntentionText());
+        intention.setRequestedDate(request.getRequestedDate());
+        if (request.getIsPaid() != null) {
+            intention.setPaid(request.getIsPaid());
+        }
+        intention.setMass(request.getMassId() != null ? massRepository.getReferenceById(request.getMassId()) : null);
+        intention.setFaithful(request.getFaithfulId() != null
+                ? faithfulRepository.getReferenceById(request.getFaithfulId()) : null);
+        intention.setExternalFaithfulName(request.getFaithfulId() == null ? request.getExternalFaithfulName() : null);
+        intention.setPreferredCelebrant(request.getPreferredCelebrantId() != null
+                ? priestRepository.getReferenceById(request.getPreferredCelebrantId()) : null);
+    }
+
+    private IntentionResponseDTO mapToResponseDTO(Intention intention) {
+        IntentionResponseDTO dto = new IntentionResponseDTO();
+        dto.setId(intention.getId());
+        dto.setIntentionType(intention.getIntentionType());
+        dto.setIntentionText(intention.getIntentionText());
+        dto.setRequestedDate(intention.getRequestedDate());
+        dto.setIsPaid(intention.isPaid());
+        dto.setCreatedAt(intention.getCreatedAt());
+        Mass mass = intention.getMass();
+        if (mass != null) {
+            dto.setMass(new IntentionResponseDTO.MassSummaryDTO(mass.getId(), mass.getEventDate(),
+                    mass.getMassType() != null ? mass.getMassType().name() : null,
+                    mass.getMainCelebrant() != null ? mass.getMainCelebrant().getNames() : null));
+        }
+        if (intention.getFaithful() != null) {
+            dto.setFaithfulId(intention.getFaithful().getId());
+            dto.setRequestorName(intention.getFaithful().getName());
+        } else {
+            dto.setExternalFaithfulName(intention.getExternalFaithfulName());
+            dto.setRequestorName(intention.getExternalFaithfulName());
+        }
+        dto.setPreferredCelebrantId(intention.getPreferredCelebrant() != null
+                ? intention.getPreferredCelebrant().getId() : null);
+        return dto;
+    }
+
+    /**
+     * Saves a new or detached intention, reading its stored paid status and date to adjust the
+     * unpaid counter and announce both dates. An intention already managed by the current
+     * transaction would be flushed before that read; such changes go through {@link #updateIntention}.
+     */
+    @Transactional
     public Intention saveIntention(Intention intention) {
-        return intentionRepository.save(intention);
+        boolean isNew = intention.getId() == null;
+        boolean wasUnpaid = false;
+        LocalDate previousDate = null;
+        if (!isNew) {
+            wasUnpaid = Boolean.FALSE.equals(intentionRepository.findPaidStatusById(intention.getId()));
+            previousDate = intentionRepository.findRequestedDateById(intention.getId());
+        }
+        return save(intention, isNew, wasUnpaid, previousDate);
+    }
+
+    private Intention save(Intention intention, boolean isNew, boolean wasUnpaid, LocalDate previousDate) {
+        Intention saved = intentionRepository.save(intention);
+
+        boolean isUnpaid = !saved.isPaid();
+        unpaidIntentionCounter.adjustAfterCommit((isUnpaid ? 1 : 0) - (wasUnpaid ? 1 : 0));
+        eventPublisher.publishEvent(ParishDataChangedEvent.of(DataType.INTENTION, previousDate, saved.getRequestedDate())
+                .withDelta(isNew ? Delta.created(saved.getId()) : Delta.updated(saved.getId())));
+        return saved;
+    }
+
+    /**
+     * Marks an intention as paid. Calling it on an already paid intention is a no-op.
+     */
+    @Transactional
+    public void markAsPaid(Long intentionId) {
+        if (!intentionRepository.existsById(intentionId)) {
+            throw new ResourceNotFoundException("Intention not found with ID: " + intentionId);
+        }
+        if (intentionRepository.markPaid(intentionId) > 0) {
+            unpaidIntentionCounter.adjustAfterCommit(-1);
+            eventPublisher.publishEvent(ParishDataChangedEvent.of(
+                    DataType.INTENTION, intentionRepository.findRequestedDateById(intentionId))
+                    .withDelta(Delta.updated(intentionId)));
+        }
+    }
+
+    public long countUnpaidIntentions() {
+        return unpaidIntentionCounter.get();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<IntentionListResponseDTO> getUnpaidIntentions(Pageable pageable) {
+        return intentionRepository.findUnpaidSummaries(pageable);
     }
 
     public List<Intention> getIntentionsByPeriod(LocalDate start, LocalDate end) {
@@ -48,4 +196,4 @@ public class IntentionService {
 
         return counts;
     }
-}
\ No newline at end of file
+}
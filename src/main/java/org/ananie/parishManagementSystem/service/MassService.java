@@ -1,5 +1,6 @@
 package org.ananie.parishManagementSystem.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ananie.parishManagementSystem.dto.request.MassRequestDTO;
@@ -7,11 +8,15 @@ import org.ananie.parishManagementSystem.dto.response.MassListResponseDTO;
 import org.ananie.parishManagementSystem.dto.response.MassResponseDTO;
 import org.ananie.parishManagementSystem.entity.Mass;
 import org.ananie.parishManagementSystem.entity.Priest;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.Delta;
 import org.ananie.parishManagementSystem.exception.ResourceNotFoundException;
 import org.ananie.parishManagementSystem.exception.ValidationException;
 import org.ananie.parishManagementSystem.repository.MassRepository;
 import org.ananie.parishManagementSystem.repository.PriestRepository;
 import org.ananie.parishManagementSystem.utilities.MassType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,12 +36,15 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
+@Timed("parish.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MassService {
 
     private final MassRepository massRepository;
     private final PriestRepository priestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriestWorkloadAggregator workloadAggregator;
 
     // ============================================================================
     // CRUD OPERATIONS
@@ -74,7 +82,10 @@ public class MassService {
 
         // Save and return
         Mass savedMass = massRepository.save(mass);
+        workloadAggregator.massSaved(List.of(), savedMass);
         log.info("Mass created successfully with ID: {}", savedMass.getId());
+        eventPublisher.publishEvent(ParishDataChangedEvent.of(DataType.MASS, savedMass.getEventDate())
+                .withDelta(Delta.created(savedMass.getId())));
 
         return mapToResponseDTO(savedMass);
     }
@@ -131,6 +142,9 @@ public class MassService {
         // Validate request
         validateMassRequest(requestDTO);
 
+        LocalDate previousDate = existingMass.getEventDate();
+        List<PriestWorkloadAggregator.Cell> previousCells = workloadAggregator.cellsOf(existingMass);
+
         // Update main celebrant if changed
         if (!existingMass.getMainCelebrant().getId().equals(requestDTO.getMainCelebrantId())) {
             Priest newMainCelebrant = priestRepository.findById(requestDTO.getMainCelebrantId())
@@ -150,7 +164,10 @@ public class MassService {
 
         // Save and return
         Mass updatedMass = massRepository.save(existingMass);
+        workloadAggregator.massSaved(previousCells, updatedMass);
         log.info("Mass updated successfully with ID: {}", updatedMass.getId());
+        eventPublisher.publishEvent(ParishDataChangedEvent.of(DataType.MASS, previousDate, updatedMass.getEventDate())
+                .withDelta(Delta.updated(id)));
 
         return mapToResponseDTO(updatedMass);
     }
@@ -166,12 +183,17 @@ public class MassService {
     public void deleteMass(Long id) {
         log.info("Deleting mass with ID: {}", id);
 
-        if (!massRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Mass not found with ID: " + id);
-        }
+        Mass mass = massRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Mass not found with ID: " + id));
 
-        massRepository.deleteById(id);
+        workloadAggregator.massRemoved(workloadAggregator.cellsOf(mass));
+        massRepository.delete(mass);
         log.info("Mass deleted successfully with ID: {}", id);
+
+        // Intentions go with the mass; their requested dates are not known here
+        eventPublisher.publishEvent(ParishDataChangedEvent.of(DataType.MASS, mass.getEventDate())
+                .withDelta(Delta.deleted(id)));
+        eventPublisher.publishEvent(ParishDataChangedEvent.of(DataType.INTENTION));
     }
 
     // ============================================================================
@@ -329,6 +351,7 @@ public class MassService {
         mass.setMassType(requestDTO.getMassType());
         mass.setLiturgicalSeason(requestDTO.getLiturgicalSeason());
         mass.setReadings(requestDTO.getReadings());
+        mass.setIntentionCapacity(requestDTO.getIntentionCapacity());
         mass.setMainCelebrant(mainCelebrant);
         mass.setConcelebrants(concelebrants);
 
@@ -349,6 +372,7 @@ public class MassService {
         mass.setMassType(requestDTO.getMassType());
         mass.setLiturgicalSeason(requestDTO.getLiturgicalSeason());
         mass.setReadings(requestDTO.getReadings());
+        mass.setIntentionCapacity(requestDTO.getIntentionCapacity());
         mass.setEventDate(requestDTO.getMassDate());
         mass.setLocation(requestDTO.getLocation());
         mass.setUpdatedAt(LocalDateTime.now());
@@ -373,6 +397,7 @@ public class MassService {
         dto.setMassType(mass.getMassType());
         dto.setLiturgicalSeason(mass.getLiturgicalSeason());
         dto.setReadings(mass.getReadings());
+        dto.setIntentionCapacity(mass.getIntentionCapacity());
         dto.setMassDate(mass.getEventDate());
         dto.setLocation(mass.getLocation());
         dto.setCreatedAt(mass.getCreatedAt());
@@ -0,0 +1,145 @@
+package org.ananie.parishManagementSystem.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.entity.Priest;
+import org.ananie.parishManagementSystem.entity.PriestWorkload;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.repository.MassRepository;
+import org.ananie.parishManagementSystem.repository.PriestRepository;
+import org.ananie.parishManagementSystem.repository.PriestWorkloadRepository;
+import org.ananie.parishManagementSystem.utilities.CelebrantRole;
+import org.ananie.parishManagementSystem.utilities.MassType;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the priest_workload table (priest × month × mass type × role) in step with masses.
+ * MassService takes the cells of a mass before changing it and hands them back with the saved
+ * mass; only the cells that differ are incremented or decremented, in the caller's transaction.
+ * Incrementing a cell locks it until commit, so masses saved at the same time for one cell take turns.
+ * {@link #rebuild()} recomputes the whole table from the masses.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriestWorkloadAggregator {
+
+    private final PriestWorkloadRepository workloadRepository;
+    private final MassRepository massRepository;
+    private final PriestRepository priestRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator idAllocator;
+
+    private static final String INSERT_CELL = "INSERT INTO priest_workload (id, priest_id, mass_year_month, mass_type, " +
+            "celebrant_role, mass_count) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Cells are locked in this order, so two masses touching the same cells cannot deadlock
+    private static final Comparator<Cell> CELL_ORDER = Comparator.comparing(Cell::priestId)
+            .thenComparingInt(Cell::yearMonth)
+            .thenComparing(Cell::massType)
+            .thenComparing(Cell::role);
+
+    /**
+     * One workload cell a mass contributes a count of one to.
+     */
+    public record Cell(Long priestId, int yearMonth, MassType massType, CelebrantRole role) {
+    }
+
+    /**
+     * Cells the mass currently counts towards. Call it before changing the mass to capture its old cells.
+     */
+    public List<Cell> cellsOf(Mass mass) {
+        List<Cell> cells = new ArrayList<>();
+        if (mass.getEventDate() == null || mass.getMassType() == null) {
+            return cells;
+        }
+        int yearMonth = mass.getEventDate().getYear() * 100 + mass.getEventDate().getMonthValue();
+        if (mass.getMainCelebrant() != null) {
+            cells.add(new Cell(mass.getMainCelebrant().getId(), yearMonth, mass.getMassType(), CelebrantRole.MAIN));
+        }
+        if (mass.getConcelebrants() != null) {
+            for (Priest concelebrant : mass.getConcelebrants()) {
+                cells.add(new Cell(concelebrant.getId(), yearMonth, mass.getMassType(), CelebrantRole.CONCELEBRANT));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Moves a saved mass from its previous cells (empty for a new mass) to its current ones.
+     */
+    @Transactional
+    public void massSaved(List<Cell> previousCells, Mass mass) {
+        Map<Cell, Long> deltas = new TreeMap<>(CELL_ORDER);
+        previousCells.forEach(cell -> deltas.merge(cell, -1L, Long::sum));
+        cellsOf(mass).forEach(cell -> deltas.merge(cell, 1L, Long::sum));
+        deltas.forEach(this::apply);
+    }
+
+    /**
+     * Removes a deleted mass from the cells it counted towards.
+     */
+    @Transactional
+    public void massRemoved(List<Cell> previousCells) {
+        previousCells.stream().sorted(CELL_ORDER).forEach(cell -> apply(cell, -1L));
+    }
+
+    /**
+     * Recomputes the table from the masses, e.g. after masses were changed outside MassService.
+     */
+    @Transactional
+    public void rebuild() {
+        workloadRepository.deleteAllInBatch();
+
+        List<PriestWorkload> cells = new ArrayList<>();
+        addRebuiltCells(cells, massRepository.countMainCelebrationCells(), CelebrantRole.MAIN);
+        addRebuiltCells(cells, massRepository.countConcelebrationCells(), CelebrantRole.CONCELEBRANT);
+        // Flushed here so callers sharing the transaction see the cells from plain SQL too
+        workloadRepository.saveAllAndFlush(cells);
+
+        log.info("Rebuilt priest workload table with {} cells", cells.size());
+    }
+
+    private void addRebuiltCells(List<PriestWorkload> cells, List<Object[]> rows, CelebrantRole role) {
+        for (Object[] row : rows) {
+            cells.add(new PriestWorkload(priestRepository.getReferenceById((Long) row[0]),
+                    (Integer) row[1], (MassType) row[2], role, (Long) row[3]));
+        }
+    }
+
+    private void apply(Cell cell, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (addToCell(cell, delta) == 0 && delta > 0) {
+            // Written straight away rather than at flush, so a cell another mass created meanwhile shows up
+            // here as a duplicate key and can be incremented instead; the priest must be in the table first
+            workloadRepository.flush();
+            try {
+                jdbcTemplate.update(INSERT_CELL, idAllocator.next(PriestWorkload.class), cell.priestId(),
+                        cell.yearMonth(), cell.massType().name(), cell.role().name(), delta);
+            } catch (DuplicateKeyException e) {
+                addToCell(cell, delta);
+            }
+        } else if (delta < 0) {
+            workloadRepository.deleteIfEmpty(cell.priestId(), cell.yearMonth(), cell.massType(), cell.role());
+        }
+    }
+
+    private int addToCell(Cell cell, long delta) {
+        return workloadRepository.addToCell(cell.priestId(), cell.yearMonth(), cell.massType(), cell.role(), delta);
+    }
+}
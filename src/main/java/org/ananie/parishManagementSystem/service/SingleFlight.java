@@ -0,0 +1,74 @@
+package org.ananie.parishManagementSystem.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller computes the value,
+ * callers arriving while it runs wait for and share its result (or its exception).
+ * Nothing is kept once the computation finishes; that is the cache's job.
+ *
+ * @param <K> key type, compared with equals/hashCode
+ */
+class SingleFlight<K> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("statistics.requests")
+                .tag("cache", name).tag("result", "executed")
+                .description("Computations started because no identical one was in flight")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("statistics.requests")
+                .tag("cache", name).tag("result", "coalesced")
+                .description("Callers that shared the result of an identical in-flight computation")
+                .register(meterRegistry);
+        Gauge.builder("statistics.requests.in.flight", inFlight, ConcurrentHashMap::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T execute(K key, Supplier<T> computation) {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return (T) await(running);
+        }
+
+        executed.increment();
+        try {
+            T value = computation.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
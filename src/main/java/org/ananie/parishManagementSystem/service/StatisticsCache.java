@@ -0,0 +1,128 @@
+package org.ananie.parishManagementSystem.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.StatisticsProperties;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Size-bounded cache of statistics results, keyed by query name and date range.
+ * Entries are evicted by Caffeine's TinyLFU policy when the cache is full, and selectively
+ * invalidated when a committed write touches a date inside their range.
+ * Concurrent misses for the same key are coalesced into a single computation, even with
+ * caching switched off, so a burst of identical dashboard requests runs the queries once.
+ * Hit/miss/eviction counts are exported as the {@code cache.*} meters with tag {@code cache=statistics};
+ * coalescing as {@code statistics.requests} (result=executed|coalesced).
+ *
+ * Only the caller that actually computes a result opens a (read-only) transaction, so cache hits
+ * and coalesced callers never take a database connection. Callers should therefore not hold a
+ * transaction of their own around {@link #get}.
+ *
+ * Cached values are shared between callers and must not be modified.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Component
+public class StatisticsCache {
+
+    /**
+     * Cache key: the query, its inclusive date range (null bounds mean open-ended) and the
+     * kinds of data the result is computed from.
+     */
+    record Key(String name, LocalDate start, LocalDate end, Set<DataType> dependsOn) {
+
+        boolean isAffectedBy(ParishDataChangedEvent event) {
+            return dependsOn.contains(event.type()) && event.affects(start, end);
+        }
+    }
+
+    private final boolean enabled;
+    private final boolean coalesce;
+    private final Cache<Key, Object> cache;
+    private final SingleFlight<Key> singleFlight;
+    private final TransactionTemplate readTransaction;
+
+    // Bumped on every invalidation so a result computed from pre-change data is not stored afterwards
+    private final AtomicLong generation = new AtomicLong();
+
+    public StatisticsCache(StatisticsProperties properties, MeterRegistry meterRegistry,
+                           PlatformTransactionManager transactionManager) {
+        this.enabled = properties.isCacheEnabled();
+        this.coalesce = properties.isCoalesceRequests();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxEntries())
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "statistics");
+        this.singleFlight = new SingleFlight<>("statistics", meterRegistry);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Returns the cached result for the key, computing and storing it on a miss.
+     *
+     * @param name      query name, unique per method and non-date arguments
+     * @param start     first date the result covers, or null
+     * @param end       last date the result covers, or null
+     * @param dependsOn kinds of data whose changes invalidate the result
+     * @param loader    computes the result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name, LocalDate start, LocalDate end, Set<DataType> dependsOn, Supplier<T> loader) {
+        Key key = new Key(name, start, end, dependsOn);
+        if (enabled) {
+            Object cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return (T) cached;
+            }
+        }
+        return coalesce ? singleFlight.execute(key, () -> load(key, loader)) : load(key, loader);
+    }
+
+    private <T> T load(Key key, Supplier<T> loader) {
+        long before = generation.get();
+        T value = readTransaction.execute(status -> loader.get());
+        if (enabled && value != null && generation.get() == before) {
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Drops every cached result that may include the changed data.
+     * Runs after the writing transaction commits, or immediately when there is none.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(ParishDataChangedEvent event) {
+        generation.incrementAndGet();
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(key -> key.isAffectedBy(event));
+        log.debug("{} change on {} invalidated {} statistics entries",
+                event.type(), event.dates(), before - cache.asMap().size());
+    }
+
+    /**
+     * Drops all cached results.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,135 @@
+package org.ananie.parishManagementSystem.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.StatisticsProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs a group of independent statistics queries, either one after another in a single
+ * read-only transaction (default) or concurrently, each in its own read-only transaction
+ * and therefore on its own pooled connection. Concurrent mode is switched on with
+ * {@code parish.statistics.parallel-queries}; the number of queries in flight is capped by
+ * {@code parish.statistics.max-concurrent-queries} across all callers.
+ *
+ * <pre>
+ * StatisticsQueryExecutor.Fork fork = queryExecutor.fork();
+ * Supplier&lt;Long&gt; total = fork.submit(() -&gt; repository.countSomething());
+ * fork.join();
+ * total.get();
+ * </pre>
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Component
+public class StatisticsQueryExecutor implements DisposableBean {
+
+    private final boolean parallel;
+    private final TransactionTemplate readTransaction;
+    private final ExecutorService executor;
+
+    public StatisticsQueryExecutor(StatisticsProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this.parallel = properties.isParallelQueries();
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+
+        if (parallel) {
+            // A fixed pool is the concurrency limit: extra queries wait in the queue, not on the connection pool
+            int threads = Math.max(1, properties.getMaxConcurrentQueries());
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "stats-query-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            log.info("Statistics queries run concurrently, at most {} at a time", threads);
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Starts a new group of queries.
+     */
+    public Fork fork() {
+        return new Fork();
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A group of queries submitted together. Results are available once {@link #join()} returns.
+     */
+    public final class Fork {
+
+        private final List<Runnable> pending = new ArrayList<>();
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        private Fork() {
+        }
+
+        /**
+         * Adds a query to the group. In concurrent mode it starts right away.
+         *
+         * @param query the repository call(s) to run
+         * @return supplier of the query result, usable after {@link #join()}
+         */
+        public <T> Supplier<T> submit(Supplier<T> query) {
+            CompletableFuture<T> future;
+            if (parallel) {
+                future = CompletableFuture.supplyAsync(() -> readTransaction.execute(status -> query.get()), executor);
+            } else {
+                CompletableFuture<T> result = new CompletableFuture<>();
+                pending.add(() -> result.complete(query.get()));
+                future = result;
+            }
+            futures.add(future);
+            return () -> unwrap(future);
+        }
+
+        /**
+         * Waits for every submitted query. Rethrows the first failure.
+         */
+        public void join() {
+            if (!pending.isEmpty()) {
+                readTransaction.executeWithoutResult(status -> pending.forEach(Runnable::run));
+                pending.clear();
+            }
+            futures.forEach(StatisticsQueryExecutor::unwrap);
+        }
+    }
+
+    private static <T> T unwrap(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package org.ananie.parishManagementSystem.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.dto.response.DashboardCountsDTO;
+import org.ananie.parishManagementSystem.dto.response.IntentionListResponseDTO;
 import org.ananie.parishManagementSystem.entity.*;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.ananie.parishManagementSystem.exception.ValidationException;
 import org.ananie.parishManagementSystem.repository.*;
 import org.ananie.parishManagementSystem.utilities.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -19,11 +32,16 @@ import java.util.stream.Collectors;
  * This service consolidates all statistical methods to keep other service classes
  * focused on their core CRUD operations.
  *
+ * The summary methods that issue several independent queries hand them to
+ * {@link StatisticsQueryExecutor}, which owns their transactions and may run them concurrently.
+ * Their results are kept in {@link StatisticsCache} until a write touches the dates they cover.
+ *
  * @author Parish Management System
  * @version 2.0
  */
 @Slf4j
 @Service
+@Timed("parish.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StatisticsService {
@@ -32,6 +50,66 @@ public class StatisticsService {
     private final IntentionRepository intentionRepository;
     private final PriestRepository priestRepository;
     private final EventRepository eventRepository;
+    private final UnpaidIntentionCounter unpaidIntentionCounter;
+    private final StatisticsQueryExecutor queryExecutor;
+    private final StatisticsCache statisticsCache;
+    private final PeriodComparisonRepository periodComparisonRepository;
+    private final PriestWorkloadRepository priestWorkloadRepository;
+
+    // Kinds of data each cached result is computed from, for invalidation on writes
+    private static final Set<DataType> MASS_DATA = EnumSet.of(DataType.MASS, DataType.PRIEST);
+    private static final Set<DataType> INTENTION_DATA = EnumSet.of(DataType.INTENTION);
+    private static final Set<DataType> PERIOD_DATA = EnumSet.of(DataType.MASS, DataType.INTENTION);
+    private static final Set<DataType> DASHBOARD_DATA = EnumSet.of(DataType.MASS, DataType.INTENTION, DataType.PRIEST);
+    private static final Set<DataType> COMPARISON_DATA =
+            EnumSet.of(DataType.MASS, DataType.INTENTION, DataType.DONATION, DataType.FAITHFUL);
+
+    // Bounds the size of the generated comparison query
+    private static final int MAX_COMPARISON_PERIODS = 60;
+
+    private static final Comparator<PriestWorkloadRow> BUSIEST_FIRST =
+            Comparator.comparingLong(PriestWorkloadRow::total).reversed().thenComparing(PriestWorkloadRow::priestId);
+
+    /**
+     * Counts compared between periods. Constant names match the metric names returned by
+     * PeriodComparisonRepository; the keys match the original two-period result.
+     */
+    private enum ComparisonMetric {
+        MASSES("masses", "mass"),
+        INTENTIONS("intentions", "intention"),
+        DONATIONS("donations", "donation"),
+        NEW_FAITHFUL("newFaithful", "newFaithful");
+
+        private final String key;
+        private final String changeKey;
+
+        ComparisonMetric(String key, String changeKey) {
+            this.key = key;
+            this.changeKey = changeKey;
+        }
+    }
+
+    /**
+     * Masses one priest celebrated over a period, as main celebrant and as concelebrant.
+     */
+    private record PriestWorkloadRow(Long priestId, String names, PriestType priestType, String email,
+                                     String phone, boolean assigned, long mainCount, long concelebrationCount) {
+
+        long total() {
+            return mainCount + concelebrationCount;
+        }
+
+        PriestWorkloadRow plus(long main, long concelebrations) {
+            return new PriestWorkloadRow(priestId, names, priestType, email, phone, assigned,
+                    mainCount + main, concelebrationCount + concelebrations);
+        }
+    }
+
+    /**
+     * A labelled inclusive date range to compare, e.g. ("Lent 2025", 2025-03-05, 2025-04-17).
+     */
+    public record ComparisonPeriod(String label, LocalDate start, LocalDate end) {
+    }
 
     // ============================================================================
     // MASS STATISTICS
@@ -45,43 +123,12 @@ public class StatisticsService {
      * @param end the end date
      * @return map containing various mass statistics
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getMassStatistics(LocalDate start, LocalDate end) {
         log.debug("Fetching mass statistics between {} and {}", start, end);
 
-        Map<String, Object> stats = new HashMap<>();
-
-        // Total masses in period
-        List<Mass> masses = massRepository.findByEventDateBetween(start, end);
-        stats.put("totalMasses", masses.size());
-
-        // Masses by type
-        List<Object[]> massesByType = massRepository.countMassesByTypeInPeriod(start, end);
-        Map<String, Long> massTypeCounts = new HashMap<>();
-        for (Object[] row : massesByType) {
-            MassType type = (MassType) row[0];
-            Long count = (Long) row[1];
-            massTypeCounts.put(type.toString(), count);
-        }
-        stats.put("massesByType", massTypeCounts);
-
-        // Top celebrating priests in the period
-        List<Object[]> topPriests = massRepository.countMassesByPriestInPeriod(start, end);
-        List<Map<String, Object>> priestStats = new ArrayList<>();
-        for (Object[] row : topPriests) {
-            Priest priest = (Priest) row[0];
-            Long count = (Long) row[1];
-
-            Map<String, Object> priestData = new HashMap<>();
-            priestData.put("priestId", priest.getId());
-            priestData.put("priestName", priest.getNames());
-            priestData.put("priestType", priest.getPriestType().name());
-            priestData.put("massCount", count);
-
-            priestStats.add(priestData);
-        }
-        stats.put("topCelebratingPriests", priestStats);
-
-        return stats;
+        return statisticsCache.get("massStatistics", start, end, MASS_DATA,
+                () -> loadMassStatistics(start, end));
     }
 
     /**
@@ -134,6 +181,7 @@ public class StatisticsService {
 
     /**
      * Gets the top N celebrating priests across all time.
+     * Masses celebrated as main celebrant and as concelebrant both count towards the ranking.
      *
      * @param limit the number of top priests to return
      * @return list of maps containing priest details and mass counts
@@ -141,31 +189,17 @@ public class StatisticsService {
     public List<Map<String, Object>> getTopCelebratingPriests(int limit) {
         log.debug("Fetching top {} celebrating priests", limit);
 
-        List<Object[]> allPriests = massRepository.findTopCelebratingPriests();
-        List<Map<String, Object>> topPriests = new ArrayList<>();
-
-        int count = Math.min(allPriests.size(), limit);
-        for (int i = 0; i < count; i++) {
-            Object[] result = allPriests.get(i);
-            Long priestId = (Long) result[0];
-            Long massCount = (Long) result[1];
-
-            // Fetch priest details
-            int finalI = i;
-            priestRepository.findById(priestId).ifPresent(priest -> {
-                Map<String, Object> priestData = new HashMap<>();
-                priestData.put("rank", finalI + 1);
-                priestData.put("priestId", priest.getId());
-                priestData.put("priestName", priest.getNames());
-                priestData.put("priestType", priest.getPriestType().name());
-                priestData.put("email", priest.getEmail());
-                priestData.put("massCount", massCount);
-
-                topPriests.add(priestData);
-            });
+        List<PriestWorkloadRow> topPriests = loadPriestWorkload(null, null, limit);
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (int i = 0; i < topPriests.size(); i++) {
+            PriestWorkloadRow row = topPriests.get(i);
+            Map<String, Object> priestData = mapPriestWorkload(row);
+            priestData.put("rank", i + 1);
+            priestData.put("email", row.email());
+            result.add(priestData);
         }
 
-        return topPriests;
+        return result;
     }
 
     /**
@@ -177,24 +211,8 @@ public class StatisticsService {
     public List<Map<String, Object>> getAllCelebratingPriests() {
         log.debug("Fetching all celebrating priests with mass counts");
 
-        List<Object[]> results = massRepository.findTopCelebratingPriests();
-        return results.stream()
-                .map(result -> {
-                    Long priestId = (Long) result[0];
-                    Long massCount = (Long) result[1];
-
-                    return priestRepository.findById(priestId)
-                            .map(priest -> {
-                                Map<String, Object> data = new HashMap<>();
-                                data.put("priestId", priest.getId());
-                                data.put("priestName", priest.getNames());
-                                data.put("priestType", priest.getPriestType().name());
-                                data.put("massCount", massCount);
-                                return data;
-                            })
-                            .orElse(null);
-                })
-                .filter(Objects::nonNull)
+        return loadPriestWorkload(null, null, 0).stream()
+                .map(this::mapPriestWorkload)
                 .collect(Collectors.toList());
     }
 
@@ -210,36 +228,21 @@ public class StatisticsService {
      * @param end the end date
      * @return map containing various intention statistics
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getIntentionStatistics(LocalDate start, LocalDate end) {
         log.debug("Fetching intention statistics between {} and {}", start, end);
 
-        Map<String, Object> stats = new HashMap<>();
-
-        // Total intentions
-        Long totalIntentions = intentionRepository.countIntentionsBetween(start, end);
-        stats.put("totalIntentions", totalIntentions);
-
-        // Intentions by type
-        List<Object[]> intentionsByType = intentionRepository.countIntentionsByTypeInPeriod(start, end);
-        Map<String, Long> intentionTypeCounts = new HashMap<>();
-        for (Object[] row : intentionsByType) {
-            IntentionType type = (IntentionType) row[0];
-            Long count = (Long) row[1];
-            intentionTypeCounts.put(type.toString(), count);
-        }
-        stats.put("intentionsByType", intentionTypeCounts);
-
-        // Deceased intentions specifically
-        Long deceasedIntentions = intentionRepository.countDeceasedIntentionsBetween(start, end);
-        stats.put("deceasedIntentions", deceasedIntentions);
+        Map<String, Object> stats = new HashMap<>(statisticsCache.get("intentionStatistics", start, end,
+                INTENTION_DATA, () -> loadIntentionStatistics(start, end)));
 
-        // Payment statistics
-        List<Intention> unpaidIntentions = intentionRepository.findByIsPaidFalse();
-        stats.put("unpaidIntentionsCount", unpaidIntentions.size());
+        // Payment statistics come from the live counter, so they are added after the cache lookup
+        long totalIntentions = (Long) stats.get("totalIntentions");
+        long unpaidIntentions = unpaidIntentionCounter.get();
+        stats.put("unpaidIntentionsCount", unpaidIntentions);
 
         // Calculate payment rate
         if (totalIntentions > 0) {
-            double paymentRate = ((double) (totalIntentions - unpaidIntentions.size()) / totalIntentions) * 100;
+            double paymentRate = ((double) (totalIntentions - unpaidIntentions) / totalIntentions) * 100;
             stats.put("paymentRate", String.format("%.2f%%", paymentRate));
         } else {
             stats.put("paymentRate", "N/A");
@@ -273,39 +276,39 @@ public class StatisticsService {
     /**
      * Gets all unpaid intentions with detailed information.
      * Useful for financial tracking and follow-up.
+     * Requestor and mass are resolved in the query, so no lazy association is touched.
      *
      * @return list of maps containing unpaid intention details
      */
     public List<Map<String, Object>> getUnpaidIntentionsDetails() {
         log.debug("Fetching unpaid intentions with details");
 
-        List<Intention> unpaidIntentions = intentionRepository.findByIsPaidFalse();
-
-        return unpaidIntentions.stream()
-                .map(intention -> {
-                    Map<String, Object> details = new HashMap<>();
-                    details.put("intentionId", intention.getId());
-                    details.put("intentionType", intention.getIntentionType().name());
-                    details.put("intentionText", intention.getIntentionText());
-                    details.put("requestedDate", intention.getRequestedDate());
-
-                    // Requestor information
-                    String requestorName = intention.getFaithful() != null
-                            ? intention.getFaithful().getName()
-                            : intention.getExternalFaithfulName();
-                    details.put("requestorName", requestorName);
-
-                    // Mass information if available
-                    if (intention.getMass() != null) {
-                        details.put("massId", intention.getMass().getId());
-                        details.put("massDate", intention.getMass().getEventDate());
-                    }
-
-                    return details;
-                })
+        return intentionRepository.findUnpaidSummaries(Pageable.unpaged()).stream()
+                .map(this::mapUnpaidIntention)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets one page of unpaid intentions, oldest request first.
+     *
+     * @param pageable the page to fetch
+     * @return page of unpaid intention details
+     */
+    public Page<Map<String, Object>> getUnpaidIntentionsDetails(Pageable pageable) {
+        log.debug("Fetching unpaid intentions page {}", pageable);
+
+        return intentionRepository.findUnpaidSummaries(pageable).map(this::mapUnpaidIntention);
+    }
+
+    /**
+     * Gets the number of unpaid intentions from the maintained counter.
+     *
+     * @return count of unpaid intentions
+     */
+    public long getUnpaidIntentionsCount() {
+        return unpaidIntentionCounter.get();
+    }
+
     /**
      * Gets deceased intentions count for a specific period.
      * Important for memorial services tracking.
@@ -329,39 +332,15 @@ public class StatisticsService {
      *
      * @return map containing various priest statistics
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getPriestStatistics() {
         log.debug("Fetching priest statistics");
 
-        Map<String, Object> stats = new HashMap<>();
-
-        // Total priests
-        Long totalPriests = priestRepository.count();
-        stats.put("totalPriests", totalPriests);
-
-        // Priests by type
-        List<Object[]> priestsByType = priestRepository.countPriestsByType();
-        Map<String, Long> priestTypeCounts = new HashMap<>();
-        for (Object[] row : priestsByType) {
-            PriestType type = (PriestType) row[0];
-            Long count = (Long) row[1];
-            priestTypeCounts.put(type.toString(), count);
-        }
-        stats.put("priestsByType", priestTypeCounts);
-
-        // Active priests (currently assigned)
-        long activePriests = priestRepository.findAll().stream()
-                .filter(Priest::isAssigned)
-                .count();
-        stats.put("activePriests", activePriests);
-        stats.put("inactivePriests", totalPriests - activePriests);
-
-        // Priests celebrating masses this month
         LocalDate startOfMonth = LocalDate.now().withDayOfMonth(1);
         LocalDate endOfMonth = startOfMonth.plusMonths(1).minusDays(1);
-        List<Priest> celebratingPriests = priestRepository.findPriestsCelebratingInPeriod(startOfMonth, endOfMonth);
-        stats.put("priestsCelebratingThisMonth", celebratingPriests.size());
 
-        return stats;
+        return statisticsCache.get("priestStatistics", startOfMonth, endOfMonth, MASS_DATA,
+                () -> loadPriestStatistics(startOfMonth, endOfMonth));
     }
 
     /**
@@ -375,22 +354,11 @@ public class StatisticsService {
     public List<Map<String, Object>> getCelebratingPriestsInPeriod(LocalDate start, LocalDate end) {
         log.debug("Fetching celebrating priests between {} and {}", start, end);
 
-        List<Priest> priests = priestRepository.findPriestsCelebratingInPeriod(start, end);
-
-        return priests.stream()
-                .map(priest -> {
-                    Map<String, Object> priestData = new HashMap<>();
-                    priestData.put("priestId", priest.getId());
-                    priestData.put("priestName", priest.getNames());
-                    priestData.put("priestType", priest.getPriestType().name());
-                    priestData.put("email", priest.getEmail());
-                    priestData.put("phone", priest.getPhone());
-
-                    // Get mass count for this period
-                    Long massCount = massRepository.countMassesByPriestInPeriod(
-                            priest.getId(), start, end);
-                    priestData.put("massCount", massCount);
-
+        return loadPriestWorkload(start, end, 0).stream()
+                .map(row -> {
+                    Map<String, Object> priestData = mapPriestWorkload(row);
+                    priestData.put("email", row.email());
+                    priestData.put("phone", row.phone());
                     return priestData;
                 })
                 .collect(Collectors.toList());
@@ -407,20 +375,10 @@ public class StatisticsService {
     public List<Map<String, Object>> getPriestWorkloadStats(LocalDate start, LocalDate end) {
         log.debug("Fetching priest workload statistics between {} and {}", start, end);
 
-        List<Object[]> results = massRepository.countMassesByPriestInPeriod(start, end);
-
-        return results.stream()
-                .map(result -> {
-                    Priest priest = (Priest) result[0];
-                    Long massCount = (Long) result[1];
-
-                    Map<String, Object> priestStat = new HashMap<>();
-                    priestStat.put("priestId", priest.getId());
-                    priestStat.put("priestName", priest.getNames());
-                    priestStat.put("priestType", priest.getPriestType().name());
-                    priestStat.put("massCount", massCount);
-                    priestStat.put("isAssigned", priest.isAssigned());
-
+        return loadPriestWorkload(start, end, 0).stream()
+                .map(row -> {
+                    Map<String, Object> priestStat = mapPriestWorkload(row);
+                    priestStat.put("isAssigned", row.assigned());
                     return priestStat;
                 })
                 .collect(Collectors.toList());
@@ -469,44 +427,24 @@ public class StatisticsService {
     /**
      * Gets comprehensive dashboard statistics for a given period.
      * Provides a high-level overview of all parish activities.
+     * Runs two queries: one row of scalar counts and the mass-type grouping.
      *
      * @param start the start date
      * @param end the end date
      * @return map containing dashboard metrics
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getDashboardStatistics(LocalDate start, LocalDate end) {
         log.debug("Fetching dashboard statistics between {} and {}", start, end);
 
-        Map<String, Object> dashboard = new HashMap<>();
-
-        // Core counts
-        dashboard.put("totalMasses", massRepository.findByEventDateBetween(start, end).size());
-        dashboard.put("totalIntentions", intentionRepository.countIntentionsBetween(start, end));
-        dashboard.put("totalEvents", eventRepository.countEventsBetween(start, end));
-        dashboard.put("totalPriests", priestRepository.count());
-
-        // Intention details
-        Long deceasedIntentions = intentionRepository.countDeceasedIntentionsBetween(start, end);
-        dashboard.put("deceasedIntentions", deceasedIntentions);
-
-        List<Intention> unpaid = intentionRepository.findByIsPaidFalse();
-        dashboard.put("unpaidIntentions", unpaid.size());
-
-        // Mass types breakdown
-        List<Object[]> massTypes = massRepository.countMassesByTypeInPeriod(start, end);
-        Map<String, Long> massTypeMap = new HashMap<>();
-        for (Object[] row : massTypes) {
-            MassType type = (MassType) row[0];
-            Long count = (Long) row[1];
-            massTypeMap.put(type.name(), count);
-        }
-        dashboard.put("massTypeBreakdown", massTypeMap);
-
-        // Recent activity indicator
+        // The key range also covers today, so a mass added for today refreshes "massesToday"
         LocalDate today = LocalDate.now();
-        int massesToday = massRepository.findByEventDateBetween(today, today).size();
-        dashboard.put("massesToday", massesToday);
+        LocalDate keyStart = start.isBefore(today) ? start : today;
+        LocalDate keyEnd = end.isAfter(today) ? end : today;
 
+        Map<String, Object> dashboard = new HashMap<>(statisticsCache.get("dashboard:" + start + ":" + end + ":" + today,
+                keyStart, keyEnd, DASHBOARD_DATA, () -> loadDashboardStatistics(start, end, today)));
+        dashboard.put("unpaidIntentions", unpaidIntentionCounter.get());
         return dashboard;
     }
 
@@ -517,49 +455,38 @@ public class StatisticsService {
      * @param year the year to analyze
      * @return map containing yearly statistics
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getPeriodStatistics(int year) {
         log.debug("Fetching period statistics for year {}", year);
 
-        LocalDate start = LocalDate.of(year, 1, 1);
-        LocalDate end = LocalDate.of(year, 12, 31);
-
-        Map<String, Object> yearlyStats = new HashMap<>();
-        yearlyStats.put("year", year);
-
-        // Monthly mass breakdowns
-        List<Map<String, Object>> monthlyMasses = new ArrayList<>();
-        for (int month = 1; month <= 12; month++) {
-            LocalDate monthStart = LocalDate.of(year, month, 1);
-            LocalDate monthEnd = monthStart.plusMonths(1).minusDays(1);
-
-            int massCount = massRepository.findByEventDateBetween(monthStart, monthEnd).size();
-
-            Map<String, Object> monthData = new HashMap<>();
-            monthData.put("month", month);
-            monthData.put("monthName", monthStart.getMonth().name());
-            monthData.put("massCount", massCount);
-
-            monthlyMasses.add(monthData);
-        }
-        yearlyStats.put("monthlyMasses", monthlyMasses);
+        return statisticsCache.get("periodStatistics", LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31),
+                PERIOD_DATA, () -> buildYearlyStatistics(year, year).get(year));
+    }
 
-        // Monthly intention offerings
-        List<Object[]> monthlyOfferings = intentionRepository.getMonthlyOfferings(year);
-        List<Map<String, Object>> offeringData = new ArrayList<>();
+    /**
+     * Gets period statistics for every year in a range, for trend charts.
+     * Uses the same two grouped queries as a single year, whatever the number of years.
+     *
+     * @param fromYear first year (inclusive)
+     * @param toYear last year (inclusive)
+     * @return map containing one yearly statistics entry per year, oldest first
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getMultiYearStatistics(int fromYear, int toYear) {
+        log.debug("Fetching period statistics for years {} to {}", fromYear, toYear);
 
-        for (Object[] row : monthlyOfferings) {
-            Map<String, Object> data = new HashMap<>();
-            data.put("month", row[0]);
-            data.put("offeringCount", row[1]);
-            offeringData.add(data);
+        if (toYear < fromYear) {
+            throw new ValidationException("End year must not be before start year");
         }
-        yearlyStats.put("monthlyOfferings", offeringData);
 
-        // Yearly totals
-        yearlyStats.put("totalMassesForYear", massRepository.findByEventDateBetween(start, end).size());
-        yearlyStats.put("totalIntentionsForYear", intentionRepository.countIntentionsBetween(start, end));
-
-        return yearlyStats;
+        return statisticsCache.get("multiYearStatistics", LocalDate.of(fromYear, 1, 1), LocalDate.of(toYear, 12, 31),
+                PERIOD_DATA, () -> {
+                    Map<String, Object> trend = new HashMap<>();
+                    trend.put("fromYear", fromYear);
+                    trend.put("toYear", toYear);
+                    trend.put("years", new ArrayList<>(buildYearlyStatistics(fromYear, toYear).values()));
+                    return trend;
+                });
     }
 
     /**
@@ -572,53 +499,78 @@ public class StatisticsService {
      * @param period2End second period end date
      * @return map containing comparative statistics
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getComparativeStatistics(
             LocalDate period1Start, LocalDate period1End,
             LocalDate period2Start, LocalDate period2End) {
 
         log.debug("Fetching comparative statistics");
 
-        Map<String, Object> comparison = new HashMap<>();
+        Map<String, Object> result = getComparativeStatistics(List.of(
+                new ComparisonPeriod("period1", period1Start, period1End),
+                new ComparisonPeriod("period2", period2Start, period2End)));
 
-        // Period 1 statistics
-        Map<String, Object> period1Stats = new HashMap<>();
-        period1Stats.put("startDate", period1Start);
-        period1Stats.put("endDate", period1End);
-        period1Stats.put("masses", massRepository.findByEventDateBetween(period1Start, period1End).size());
-        period1Stats.put("intentions", intentionRepository.countIntentionsBetween(period1Start, period1End));
+        List<?> periods = (List<?>) result.get("periods");
+        List<?> changes = (List<?>) result.get("changes");
 
-        // Period 2 statistics
-        Map<String, Object> period2Stats = new HashMap<>();
-        period2Stats.put("startDate", period2Start);
-        period2Stats.put("endDate", period2End);
-        period2Stats.put("masses", massRepository.findByEventDateBetween(period2Start, period2End).size());
-        period2Stats.put("intentions", intentionRepository.countIntentionsBetween(period2Start, period2End));
+        Map<String, Object> comparison = new HashMap<>();
+        comparison.put("period1", periods.get(0));
+        comparison.put("period2", periods.get(1));
+        comparison.put("changes", changes.get(0));
+        return comparison;
+    }
 
-        comparison.put("period1", period1Stats);
-        comparison.put("period2", period2Stats);
+    /**
+     * Gets comparative statistics across any number of periods (years, months, liturgical seasons...).
+     * Mass, intention, donation and new-faithful counts for all periods come from one grouped query;
+     * each period is then compared with the one before it.
+     *
+     * @param periods periods to compare, in display order; they may overlap
+     * @return map with "periods" (counts per period) and "changes" (deltas and percentages between consecutive periods)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getComparativeStatistics(List<ComparisonPeriod> periods) {
+        log.debug("Fetching comparative statistics for {} periods", periods.size());
 
-        // Calculate changes
-        int massDifference = (int) period2Stats.get("masses") - (int) period1Stats.get("masses");
-        long intentionDifference = (long) period2Stats.get("intentions") - (long) period1Stats.get("intentions");
+        validateComparisonPeriods(periods);
 
-        Map<String, Object> changes = new HashMap<>();
-        changes.put("massChange", massDifference);
-        changes.put("intentionChange", intentionDifference);
+        LocalDate earliest = periods.stream().map(ComparisonPeriod::start).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate latest = periods.stream().map(ComparisonPeriod::end).max(Comparator.naturalOrder()).orElseThrow();
 
-        // Calculate percentage changes
-        if ((int) period1Stats.get("masses") > 0) {
-            double massPercentChange = ((double) massDifference / (int) period1Stats.get("masses")) * 100;
-            changes.put("massPercentChange", String.format("%.2f%%", massPercentChange));
-        }
+        return statisticsCache.get("comparison:" + periods, earliest, latest, COMPARISON_DATA,
+                () -> buildComparison(periods));
+    }
 
-        if ((long) period1Stats.get("intentions") > 0) {
-            double intentionPercentChange = ((double) intentionDifference / (long) period1Stats.get("intentions")) * 100;
-            changes.put("intentionPercentChange", String.format("%.2f%%", intentionPercentChange));
+    /**
+     * Compares whole calendar years, each with the previous one.
+     *
+     * @param fromYear first year (inclusive)
+     * @param toYear last year (inclusive)
+     * @return comparative statistics, one period per year
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getYearOverYearStatistics(int fromYear, int toYear) {
+        List<ComparisonPeriod> periods = new ArrayList<>();
+        for (int year = fromYear; year <= toYear; year++) {
+            periods.add(new ComparisonPeriod(String.valueOf(year), LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)));
         }
+        return getComparativeStatistics(periods);
+    }
 
-        comparison.put("changes", changes);
-
-        return comparison;
+    /**
+     * Compares calendar months, each with the previous one.
+     *
+     * @param from first month (inclusive)
+     * @param to last month (inclusive)
+     * @return comparative statistics, one period per month
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getMonthOverMonthStatistics(YearMonth from, YearMonth to) {
+        List<ComparisonPeriod> periods = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            periods.add(new ComparisonPeriod(month.toString(), month.atDay(1), month.atEndOfMonth()));
+        }
+        return getComparativeStatistics(periods);
     }
 
     /**
@@ -627,6 +579,7 @@ public class StatisticsService {
      *
      * @return map containing current month statistics
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getCurrentMonthSummary() {
         LocalDate startOfMonth = LocalDate.now().withDayOfMonth(1);
         LocalDate endOfMonth = startOfMonth.plusMonths(1).minusDays(1);
@@ -642,6 +595,7 @@ public class StatisticsService {
      *
      * @return map containing current week statistics
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getCurrentWeekSummary() {
         LocalDate today = LocalDate.now();
         LocalDate startOfWeek = today.minusDays(today.getDayOfWeek().getValue() - 1);
@@ -651,4 +605,365 @@ public class StatisticsService {
 
         return getDashboardStatistics(startOfWeek, endOfWeek);
     }
-}
\ No newline at end of file
+
+    // ============================================================================
+    // HELPER METHODS
+    // ============================================================================
+
+    private Map<String, Object> loadMassStatistics(LocalDate start, LocalDate end) {
+        StatisticsQueryExecutor.Fork fork = queryExecutor.fork();
+        Supplier<List<Object[]>> massesByTypeQuery = fork.submit(() -> massRepository.countMassesByTypeInPeriod(start, end));
+        Supplier<List<PriestWorkloadRow>> topPriestsQuery = fork.submit(() -> loadPriestWorkload(start, end, 0));
+        fork.join();
+
+        Map<String, Object> stats = new HashMap<>();
+
+        // Masses by type; their sum is the total number of masses in the period
+        Map<String, Long> massTypeCounts = new HashMap<>();
+        long totalMasses = 0;
+        for (Object[] row : massesByTypeQuery.get()) {
+            MassType type = (MassType) row[0];
+            Long count = (Long) row[1];
+            massTypeCounts.put(type.toString(), count);
+            totalMasses += count;
+        }
+        stats.put("totalMasses", totalMasses);
+        stats.put("massesByType", massTypeCounts);
+
+        // Top celebrating priests in the period
+        List<Map<String, Object>> priestStats = topPriestsQuery.get().stream()
+                .map(this::mapPriestWorkload)
+                .collect(Collectors.toList());
+        stats.put("topCelebratingPriests", priestStats);
+
+        return stats;
+    }
+
+    private Map<String, Object> loadIntentionStatistics(LocalDate start, LocalDate end) {
+        StatisticsQueryExecutor.Fork fork = queryExecutor.fork();
+        Supplier<Long> totalQuery = fork.submit(() -> intentionRepository.countIntentionsBetween(start, end));
+        Supplier<List<Object[]>> byTypeQuery = fork.submit(() -> intentionRepository.countIntentionsByTypeInPeriod(start, end));
+        Supplier<Long> deceasedQuery = fork.submit(() -> intentionRepository.countDeceasedIntentionsBetween(start, end));
+        fork.join();
+
+        Map<String, Object> stats = new HashMap<>();
+
+        // Total intentions
+        Long totalIntentions = totalQuery.get();
+        stats.put("totalIntentions", totalIntentions);
+
+        // Intentions by type
+        Map<String, Long> intentionTypeCounts = new HashMap<>();
+        for (Object[] row : byTypeQuery.get()) {
+            IntentionType type = (IntentionType) row[0];
+            Long count = (Long) row[1];
+            intentionTypeCounts.put(type.toString(), count);
+        }
+        stats.put("intentionsByType", intentionTypeCounts);
+
+        // Deceased intentions specifically
+        stats.put("deceasedIntentions", deceasedQuery.get());
+
+        return stats;
+    }
+
+    private Map<String, Object> loadPriestStatistics(LocalDate startOfMonth, LocalDate endOfMonth) {
+        StatisticsQueryExecutor.Fork fork = queryExecutor.fork();
+        Supplier<Long> totalQuery = fork.submit(priestRepository::count);
+        Supplier<List<Object[]>> byTypeQuery = fork.submit(priestRepository::countPriestsByType);
+        Supplier<Long> activeQuery = fork.submit(priestRepository::countByIsAssignedTrue);
+        Supplier<Long> celebratingQuery = fork.submit(() ->
+                priestRepository.countPriestsCelebratingInPeriod(startOfMonth, endOfMonth));
+        fork.join();
+
+        Map<String, Object> stats = new HashMap<>();
+
+        // Total priests
+        Long totalPriests = totalQuery.get();
+        stats.put("totalPriests", totalPriests);
+
+        // Priests by type
+        Map<String, Long> priestTypeCounts = new HashMap<>();
+        for (Object[] row : byTypeQuery.get()) {
+            PriestType type = (PriestType) row[0];
+            Long count = (Long) row[1];
+            priestTypeCounts.put(type.toString(), count);
+        }
+        stats.put("priestsByType", priestTypeCounts);
+
+        // Active priests (currently assigned)
+        long activePriests = activeQuery.get();
+        stats.put("activePriests", activePriests);
+        stats.put("inactivePriests", totalPriests - activePriests);
+
+        // Priests celebrating masses this month
+        stats.put("priestsCelebratingThisMonth", celebratingQuery.get());
+
+        return stats;
+    }
+
+    private Map<String, Object> loadDashboardStatistics(LocalDate start, LocalDate end, LocalDate today) {
+        StatisticsQueryExecutor.Fork fork = queryExecutor.fork();
+        // Scalar counts (events, priests, intentions, masses today) in one aggregate query
+        Supplier<DashboardCountsDTO> countsQuery = fork.submit(() ->
+                eventRepository.getDashboardCounts(start, end, today));
+        Supplier<List<Object[]>> massTypesQuery = fork.submit(() -> massRepository.countMassesByTypeInPeriod(start, end));
+        fork.join();
+
+        Map<String, Object> dashboard = new HashMap<>();
+        DashboardCountsDTO counts = countsQuery.get();
+
+        // Mass types breakdown; its sum is the total number of masses
+        Map<String, Long> massTypeMap = new HashMap<>();
+        long totalMasses = 0;
+        for (Object[] row : massTypesQuery.get()) {
+            MassType type = (MassType) row[0];
+            Long count = (Long) row[1];
+            massTypeMap.put(type.name(), count);
+            totalMasses += count;
+        }
+
+        // Core counts
+        dashboard.put("totalMasses", totalMasses);
+        dashboard.put("totalIntentions", counts.getTotalIntentions());
+        dashboard.put("totalEvents", counts.getTotalEvents());
+        dashboard.put("totalPriests", counts.getTotalPriests());
+
+        // Intention details
+        dashboard.put("deceasedIntentions", counts.getDeceasedIntentions());
+
+        dashboard.put("massTypeBreakdown", massTypeMap);
+
+        // Recent activity indicator
+        dashboard.put("massesToday", counts.getMassesToday());
+
+        return dashboard;
+    }
+
+    private void validateComparisonPeriods(List<ComparisonPeriod> periods) {
+        if (periods == null || periods.isEmpty()) {
+            throw new ValidationException("At least one period is required");
+        }
+        if (periods.size() > MAX_COMPARISON_PERIODS) {
+            throw new ValidationException("At most " + MAX_COMPARISON_PERIODS + " periods can be compared");
+        }
+        for (ComparisonPeriod period : periods) {
+            if (period.start() == null || period.end() == null || period.end().isBefore(period.start())) {
+                throw new ValidationException("Invalid period " + period.label() + ": end date must be after start date");
+            }
+        }
+    }
+
+    /**
+     * Runs the grouped period query and derives the changes between consecutive periods.
+     */
+    private Map<String, Object> buildComparison(List<ComparisonPeriod> periods) {
+        List<LocalDate[]> ranges = periods.stream()
+                .map(period -> new LocalDate[]{period.start(), period.end()})
+                .collect(Collectors.toList());
+
+        // One map of metric -> count per period, plus the donation amount
+        List<Map<String, Object>> periodStats = new ArrayList<>();
+        for (ComparisonPeriod period : periods) {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("label", period.label());
+            stats.put("startDate", period.start());
+            stats.put("endDate", period.end());
+            periodStats.add(stats);
+        }
+        for (Object[] row : periodComparisonRepository.countByPeriod(ranges)) {
+            Map<String, Object> stats = periodStats.get((Integer) row[0]);
+            ComparisonMetric metric = ComparisonMetric.valueOf((String) row[1]);
+            stats.put(metric.key, row[2]);
+            if (metric == ComparisonMetric.DONATIONS) {
+                stats.put("donationAmount", row[3]);
+            }
+        }
+
+        List<Map<String, Object>> changes = new ArrayList<>();
+        for (int i = 1; i < periodStats.size(); i++) {
+            Map<String, Object> previous = periodStats.get(i - 1);
+            Map<String, Object> current = periodStats.get(i);
+
+            Map<String, Object> change = new HashMap<>();
+            change.put("from", previous.get("label"));
+            change.put("to", current.get("label"));
+            for (ComparisonMetric metric : ComparisonMetric.values()) {
+                long before = (Long) previous.get(metric.key);
+                long after = (Long) current.get(metric.key);
+                change.put(metric.changeKey + "Change", after - before);
+                putPercentChange(change, metric.changeKey, BigDecimal.valueOf(before), BigDecimal.valueOf(after));
+            }
+            BigDecimal amountBefore = (BigDecimal) previous.get("donationAmount");
+            BigDecimal amountAfter = (BigDecimal) current.get("donationAmount");
+            change.put("donationAmountChange", amountAfter.subtract(amountBefore));
+            putPercentChange(change, "donationAmount", amountBefore, amountAfter);
+            changes.add(change);
+        }
+
+        Map<String, Object> comparison = new HashMap<>();
+        comparison.put("periods", periodStats);
+        comparison.put("changes", changes);
+        return comparison;
+    }
+
+    // Percentage change is left out when the earlier value is zero
+    private void putPercentChange(Map<String, Object> change, String name, BigDecimal previous, BigDecimal current) {
+        if (previous.signum() != 0) {
+            double percentChange = current.subtract(previous).doubleValue() / previous.doubleValue() * 100;
+            change.put(name + "PercentChange", String.format("%.2f%%", percentChange));
+        }
+    }
+
+    /**
+     * Builds yearly statistics for a range of years from two grouped queries:
+     * masses per month, and requested/paid intentions per month.
+     * Months without activity are reported with zero counts.
+     */
+    private Map<Integer, Map<String, Object>> buildYearlyStatistics(int fromYear, int toYear) {
+        int fromYearMonth = fromYear * 100 + 1;
+        int toYearMonth = toYear * 100 + 12;
+
+        Map<Integer, Long> massesByMonth = new HashMap<>();
+        for (Object[] row : massRepository.countMassesByYearMonth(fromYearMonth, toYearMonth)) {
+            massesByMonth.put((Integer) row[0], (Long) row[1]);
+        }
+
+        Map<Integer, long[]> intentionsByMonth = new HashMap<>();
+        for (Object[] row : intentionRepository.countIntentionsByYearMonth(fromYearMonth, toYearMonth)) {
+            long paid = row[2] != null ? ((Number) row[2]).longValue() : 0L;
+            intentionsByMonth.put((Integer) row[0], new long[]{(Long) row[1], paid});
+        }
+
+        Map<Integer, Map<String, Object>> result = new LinkedHashMap<>();
+        for (int year = fromYear; year <= toYear; year++) {
+            List<Map<String, Object>> monthlyMasses = new ArrayList<>();
+            List<Map<String, Object>> offeringData = new ArrayList<>();
+            long totalMasses = 0;
+            long totalIntentions = 0;
+
+            for (int month = 1; month <= 12; month++) {
+                int yearMonth = year * 100 + month;
+                long massCount = massesByMonth.getOrDefault(yearMonth, 0L);
+                long[] intentions = intentionsByMonth.getOrDefault(yearMonth, new long[2]);
+                totalMasses += massCount;
+                totalIntentions += intentions[0];
+
+                Map<String, Object> monthData = new HashMap<>();
+                monthData.put("month", month);
+                monthData.put("monthName", Month.of(month).name());
+                monthData.put("massCount", massCount);
+                monthData.put("intentionCount", intentions[0]);
+                monthlyMasses.add(monthData);
+
+                if (intentions[1] > 0) {
+                    Map<String, Object> data = new HashMap<>();
+                    data.put("month", month);
+                    data.put("offeringCount", intentions[1]);
+                    offeringData.add(data);
+                }
+            }
+
+            Map<String, Object> yearlyStats = new HashMap<>();
+            yearlyStats.put("year", year);
+            yearlyStats.put("monthlyMasses", monthlyMasses);
+            yearlyStats.put("monthlyOfferings", offeringData);
+            yearlyStats.put("totalMassesForYear", totalMasses);
+            yearlyStats.put("totalIntentionsForYear", totalIntentions);
+            result.put(year, yearlyStats);
+        }
+        return result;
+    }
+
+    /**
+     * Priest workload between two dates, busiest first, at most {@code limit} priests (0 for all).
+     * Null bounds are open. Whole months are read from the priest workload table with the limit
+     * applied in the query; partial months at either end are counted from the masses and merged in.
+     */
+    private List<PriestWorkloadRow> loadPriestWorkload(LocalDate start, LocalDate end, int limit) {
+        int fromYearMonth = 0;
+        int toYearMonth = Integer.MAX_VALUE;
+        List<LocalDate[]> partialRanges = new ArrayList<>();
+
+        // Leading partial month, then the range continues from the next whole month
+        if (start != null && start.getDayOfMonth() != 1) {
+            LocalDate endOfMonth = YearMonth.from(start).atEndOfMonth();
+            partialRanges.add(new LocalDate[]{start, end != null && end.isBefore(endOfMonth) ? end : endOfMonth});
+            start = endOfMonth.plusDays(1);
+        }
+        if (start != null) {
+            fromYearMonth = start.getYear() * 100 + start.getMonthValue();
+        }
+        // Trailing partial month, unless the leading one already reached the end of the range
+        if (end != null && (start == null || !end.isBefore(start))) {
+            YearMonth endMonth = YearMonth.from(end);
+            if (!end.equals(endMonth.atEndOfMonth())) {
+                LocalDate startOfMonth = endMonth.atDay(1);
+                partialRanges.add(new LocalDate[]{start != null && start.isAfter(startOfMonth) ? start : startOfMonth, end});
+                endMonth = endMonth.minusMonths(1);
+            }
+            toYearMonth = endMonth.getYear() * 100 + endMonth.getMonthValue();
+        } else if (end != null) {
+            toYearMonth = fromYearMonth - 1;
+        }
+
+        Map<Long, PriestWorkloadRow> rows = new LinkedHashMap<>();
+        if (fromYearMonth <= toYearMonth) {
+            Pageable page = limit > 0 && partialRanges.isEmpty() ? PageRequest.of(0, limit) : Pageable.unpaged();
+            for (Object[] row : priestWorkloadRepository.sumWorkloadByPriest(fromYearMonth, toYearMonth, page)) {
+                rows.put((Long) row[0], toPriestWorkloadRow(row, ((Number) row[6]).longValue(), ((Number) row[7]).longValue()));
+            }
+        }
+        if (partialRanges.isEmpty()) {
+            return new ArrayList<>(rows.values());
+        }
+
+        for (LocalDate[] range : partialRanges) {
+            for (Object[] row : massRepository.countMainCelebrationsByPriestBetween(range[0], range[1])) {
+                rows.merge((Long) row[0], toPriestWorkloadRow(row, (Long) row[6], 0),
+                        (current, added) -> current.plus(added.mainCount(), 0));
+            }
+            for (Object[] row : massRepository.countConcelebrationsByPriestBetween(range[0], range[1])) {
+                rows.merge((Long) row[0], toPriestWorkloadRow(row, 0, (Long) row[6]),
+                        (current, added) -> current.plus(0, added.concelebrationCount()));
+            }
+        }
+        return rows.values().stream()
+                .sorted(BUSIEST_FIRST)
+                .limit(limit > 0 ? limit : Long.MAX_VALUE)
+                .collect(Collectors.toList());
+    }
+
+    private PriestWorkloadRow toPriestWorkloadRow(Object[] row, long mainCount, long concelebrationCount) {
+        return new PriestWorkloadRow((Long) row[0], (String) row[1], (PriestType) row[2], (String) row[3],
+                (String) row[4], (Boolean) row[5], mainCount, concelebrationCount);
+    }
+
+    private Map<String, Object> mapPriestWorkload(PriestWorkloadRow row) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("priestId", row.priestId());
+        data.put("priestName", row.names());
+        data.put("priestType", row.priestType().name());
+        data.put("massCount", row.mainCount());
+        data.put("concelebrationCount", row.concelebrationCount());
+        data.put("totalCelebrations", row.total());
+        return data;
+    }
+
+    private Map<String, Object> mapUnpaidIntention(IntentionListResponseDTO intention) {
+        Map<String, Object> details = new HashMap<>();
+        details.put("intentionId", intention.getId());
+        details.put("intentionType", intention.getIntentionType());
+        details.put("intentionText", intention.getIntentionText());
+        details.put("requestedDate", intention.getRequestedDate());
+        details.put("requestorName", intention.getRequestorName());
+
+        // Mass information if available
+        if (intention.getMassId() != null) {
+            details.put("massId", intention.getMassId());
+            details.put("massDate", intention.getMassDate());
+        }
+
+        return details;
+    }
+}
@@ -0,0 +1,473 @@
+package org.ananie.parishManagementSystem.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.configurations.DatasetGeneratorProperties;
+import org.ananie.parishManagementSystem.entity.Donation;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.entity.LapseEvent;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.entity.Ministry;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.ananie.parishManagementSystem.utilities.MassType;
+import org.ananie.parishManagementSystem.utilities.PriestType;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Fills the database with a realistic, reproducible parish dataset for load and scale testing:
+ * faithful spread over parishes, sub-parishes and basic ecclesial communities with sacrament
+ * history, ministries and lapse events; priests; years of masses with concelebrants; intentions
+ * and donations. Rows are written with batched JDBC in the shape the entities map to, with
+ * identifiers drawn from the entities' own generators, so the data behaves like data written through
+ * the services; the derived year/month columns are generated by the database.
+ * The priest workload table is rebuilt and the Hibernate second-level cache, which the JDBC
+ * writes bypass, is emptied at the end.
+ *
+ * Each table draws from its own random stream derived from the seed, so the same seed on the same
+ * starting database produces the same rows. Generated rows are added to whatever is already there.
+ * On MySQL add {@code rewriteBatchedStatements=true} to the JDBC URL for multi-row inserts.
+ *
+ * The generator only exists under the {@code loadtest} Spring profile, so a production deployment
+ * has no bean able to write synthetic rows, whatever {@code parish.dataset} says.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class SyntheticDatasetGenerator implements ApplicationRunner {
+
+    private static final String[] FIRST_NAMES = {"Marie", "Jean", "Claudine", "Emmanuel", "Josiane", "Pacifique",
+            "Vestine", "Innocent", "Alphonsine", "Théogène", "Immaculée", "Olivier", "Solange", "Fidèle"};
+    private static final String[] FAMILY_NAMES = {"Mukamana", "Habimana", "Uwase", "Niyonzima", "Mukeshimana",
+            "Nsengiyumva", "Uwimana", "Hakizimana", "Nyiraneza", "Bizimana", "Ingabire", "Ndayisaba"};
+    private static final String[] MINISTRIES = {"Umugabuzi w'ingoboka", "Umusomyi", "Umuhereza",
+            "Umukateshiste", "Umuririmbyi", "ubundi butumwa"};
+    private static final String[] LAPSE_TYPES = {"divorced_remarried", "forbidden_group", "irregular_union",
+            "other_lapsed", "public_immorality", "schism"};
+    private static final String[] CONTRIBUTION_TYPES = {"TITHE", "TITHE", "TITHE", "OFFERING", "OFFERING",
+            "SPECIAL_COLLECTION", "BUILDING_FUND"};
+    private static final String[] PAYMENT_METHODS = {"CASH", "CASH", "MOBILE_MONEY", "MOBILE_MONEY", "BANK_TRANSFER", "CHECK"};
+    private static final IntentionType[] INTENTION_TYPES = {IntentionType.DECEASED, IntentionType.DECEASED,
+            IntentionType.DECEASED, IntentionType.THANKSGIVING, IntentionType.THANKSGIVING, IntentionType.SICK,
+            IntentionType.SPECIAL_NEED, IntentionType.ANNIVERSARY, IntentionType.BIRTHDAY,
+            IntentionType.PATRON_SAINT, IntentionType.OTHER};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriestWorkloadAggregator workloadAggregator;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityIdAllocator idAllocator;
+    private final DatasetGeneratorProperties properties;
+
+    public SyntheticDatasetGenerator(JdbcTemplate jdbcTemplate, PriestWorkloadAggregator workloadAggregator,
+                                     EntityManagerFactory entityManagerFactory, EntityIdAllocator idAllocator,
+                                     DatasetGeneratorProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.workloadAggregator = workloadAggregator;
+        this.entityManagerFactory = entityManagerFactory;
+        this.idAllocator = idAllocator;
+        this.properties = properties;
+    }
+
+    /**
+     * Volumes and shape of a generated dataset.
+     *
+     * @param seed                        random seed
+     * @param endDate                     last day of generated history
+     * @param years                       years of masses, intentions and donations before endDate
+     * @param faithfuls                   number of faithful
+     * @param priests                     number of priests
+     * @param parishes                    number of parishes the faithful belong to
+     * @param subParishesPerParish        sub-parishes per parish
+     * @param communitiesPerSubParish     basic ecclesial communities per sub-parish
+     * @param weekdayMasses               masses per weekday
+     * @param sundayMasses                masses per Sunday
+     * @param intentionsPerMass           average intentions read at one mass
+     * @param donationsPerFaithfulPerYear average donations one faithful makes in a year
+     * @param concelebrationRate          share of masses with concelebrants
+     * @param batchSize                   rows per JDBC batch
+     */
+    public record DatasetSpec(long seed, LocalDate endDate, int years, int faithfuls, int priests, int parishes,
+                              int subParishesPerParish, int communitiesPerSubParish, int weekdayMasses,
+                              int sundayMasses, double intentionsPerMass, double donationsPerFaithfulPerYear,
+                              double concelebrationRate, int batchSize) {
+
+        /**
+         * A dataset shaped like a real parish network of the given size: about one priest per
+         * thousand faithful, and mass counts that grow with the number of faithful.
+         */
+        public static DatasetSpec scaledTo(long seed, int faithfuls, int years, LocalDate endDate, int batchSize) {
+            int thousands = Math.max(1, faithfuls / 1_000);
+            int parishes = Math.max(1, faithfuls / 20_000);
+            return new DatasetSpec(seed, endDate, years, faithfuls, Math.max(3, thousands), parishes, 6, 8,
+                    Math.max(1, thousands / 5), Math.max(2, thousands / 2), 3.0, 2.0, 0.2, batchSize);
+        }
+    }
+
+    /**
+     * Generates the dataset configured under {@code parish.dataset} when
+     * {@code parish.dataset.generate-on-startup} is set and the {@code loadtest} profile is active.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isGenerateOnStartup()) {
+            generate(DatasetSpec.scaledTo(properties.getSeed(), properties.getFaithfuls(), properties.getYears(),
+                    LocalDate.now(), properties.getBatchSize()));
+        }
+    }
+
+    /**
+     * Generates a dataset.
+     *
+     * @param spec volumes and shape of the data
+     * @return number of rows written per table, in insertion order
+     */
+    public Map<String, Integer> generate(DatasetSpec spec) {
+        log.info("Generating synthetic dataset: {}", spec);
+        long started = System.nanoTime();
+        String quote = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getIdentifierQuoteString()).trim();
+        LocalDate firstDay = spec.endDate().minusYears(spec.years()).plusDays(1);
+
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        long[] priestIds = generatePriests(spec, rows);
+        long[] faithfulIds = generateFaithfuls(spec, rows);
+        generateMinistriesAndLapses(spec, faithfulIds, rows);
+        generateDonations(spec, faithfulIds, firstDay, quote, rows);
+        MassSchedule masses = generateMasses(spec, priestIds, firstDay, rows);
+        generateConcelebrants(spec, priestIds, masses, rows);
+        generateIntentions(spec, faithfulIds, masses, rows);
+        workloadAggregator.rebuild();
+        // Cached priests, ministries and query results predate these rows, and priest ids may be reused
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictAllRegions();
+
+        log.info("Synthetic dataset generated in {} ms: {}", (System.nanoTime() - started) / 1_000_000, rows);
+        return rows;
+    }
+
+    // ============================================================================
+    // TABLE GENERATORS
+    // ============================================================================
+
+    private long[] generatePriests(DatasetSpec spec, Map<String, Integer> rows) {
+        SplittableRandom random = randomFor(spec, 1);
+        long firstId = maxId("priests") + 1;
+        Timestamp now = Timestamp.valueOf(spec.endDate().atStartOfDay());
+
+        BatchWriter writer = new BatchWriter("INSERT INTO priests (id, amazina, priest_type, ordination_date, " +
+                "email, is_assigned, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", spec.batchSize());
+        long[] ids = new long[spec.priests()];
+        for (int i = 0; i < spec.priests(); i++) {
+            long id = firstId + i;
+            ids[i] = id;
+            PriestType type = i == 0 ? PriestType.RETIRED : random.nextInt(5) == 0 ? PriestType.RELIGIOUS : PriestType.DIOCESAN;
+            LocalDate ordination = spec.endDate().minusDays(365L + random.nextInt(40 * 365));
+            writer.add(id, "Padiri " + pick(random, FIRST_NAMES) + " " + pick(random, FAMILY_NAMES), type.name(),
+                    Date.valueOf(ordination), "priest" + id + "@parish.example",
+                    type != PriestType.RETIRED, now);
+        }
+        rows.put("priests", writer.finish());
+        return ids;
+    }
+
+    private long[] generateFaithfuls(DatasetSpec spec, Map<String, Integer> rows) {
+        SplittableRandom random = randomFor(spec, 2);
+        long idsBefore = maxId("faithfuls");
+        long[] ids = idAllocator.next(Faithful.class, spec.faithfuls());
+        LocalDate today = spec.endDate();
+
+        BatchWriter writer = new BatchWriter("INSERT INTO faithfuls (id, firstname, name, father_name, mother_name, " +
+                "godparent_name, date_of_birth, date_of_baptism, baptism_id, baptism_minister, date_of_first_communion, " +
+                "date_of_confirmation, confirmation_id, date_of_matrimony, matrimony_id, spouse_name, is_deceased, " +
+                "date_of_death, has_relocated, new_parish_name, diocese, parish, subparish, basic_ecclesial_community, " +
+                "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                spec.batchSize());
+        for (int i = 0; i < spec.faithfuls(); i++) {
+            // Sacrament register numbers continue from the existing rows so repeated runs stay unique
+            long number = idsBefore + i + 1;
+            int parish = skewed(random, spec.parishes());
+            int subParish = skewed(random, spec.subParishesPerParish());
+            int community = random.nextInt(spec.communitiesPerSubParish());
+
+            LocalDate birth = today.minusDays(random.nextInt(90 * 365));
+            long ageYears = ChronoUnit.YEARS.between(birth, today);
+            LocalDate baptism = random.nextInt(10) < 8 ? birth.plusDays(30 + random.nextInt(700)) : null;
+            if (baptism != null && baptism.isAfter(today)) {
+                baptism = null;
+            }
+            LocalDate communion = baptism != null && ageYears > 9 && random.nextInt(100) < 85
+                    ? birth.plusYears(8 + random.nextInt(3)) : null;
+            LocalDate confirmation = communion != null && ageYears > 16 && random.nextInt(100) < 70
+                    ? birth.plusYears(13 + random.nextInt(4)) : null;
+            LocalDate matrimony = confirmation != null && ageYears > 25 && random.nextInt(100) < 55
+                    ? birth.plusYears(23 + random.nextInt((int) Math.min(15, ageYears - 23))) : null;
+            boolean deceased = ageYears > 50 && random.nextInt(100) < 5;
+            boolean relocated = !deceased && random.nextInt(100) < 3;
+            LocalDateTime registered = today.minusDays(random.nextInt(15 * 365)).atTime(9 + random.nextInt(8), 0);
+
+            writer.add(ids[i], pick(random, FIRST_NAMES), pick(random, FAMILY_NAMES), pick(random, FAMILY_NAMES),
+                    pick(random, FAMILY_NAMES), pick(random, FIRST_NAMES),
+                    Date.valueOf(birth), date(baptism), baptism != null ? "SYN-B-" + number : null,
+                    baptism != null ? "Padiri " + pick(random, FAMILY_NAMES) : null,
+                    date(communion), date(confirmation), confirmation != null ? "SYN-C-" + number : null,
+                    date(matrimony), matrimony != null ? "SYN-M-" + number : null,
+                    matrimony != null ? pick(random, FIRST_NAMES) + " " + pick(random, FAMILY_NAMES) : null,
+                    deceased ? "true" : null, deceased ? Date.valueOf(today.minusDays(random.nextInt(3 * 365))) : null,
+                    relocated ? "true" : null, relocated ? "Paruwasi " + pick(random, FAMILY_NAMES) : null,
+                    "Kigali", "Paruwasi " + (parish + 1), "Santarali " + (parish + 1) + "." + (subParish + 1),
+                    "Umuryangoremezo " + (parish + 1) + "." + (subParish + 1) + "." + (community + 1),
+                    Timestamp.valueOf(registered));
+        }
+        rows.put("faithfuls", writer.finish());
+        return ids;
+    }
+
+    private void generateMinistriesAndLapses(DatasetSpec spec, long[] faithfulIds, Map<String, Integer> rows) {
+        SplittableRandom random = randomFor(spec, 3);
+        BatchWriter ministries = new BatchWriter(
+                "INSERT INTO ministries (id, faithful_id, ministry_type) VALUES (?, ?, ?)", spec.batchSize());
+        BatchWriter lapses = new BatchWriter("INSERT INTO lapse_events (id, faithful_id, lapse_type, lapse_date, " +
+                "lapse_reason, return_date) VALUES (?, ?, ?, ?, ?, ?)", spec.batchSize());
+        LongSupplier ministryIds = idAllocator.inBlocks(Ministry.class, spec.batchSize());
+        LongSupplier lapseIds = idAllocator.inBlocks(LapseEvent.class, spec.batchSize());
+
+        for (long faithfulId : faithfulIds) {
+            if (random.nextInt(100) < 15) {
+                int first = random.nextInt(MINISTRIES.length);
+                ministries.add(ministryIds.getAsLong(), faithfulId, MINISTRIES[first]);
+                if (random.nextInt(4) == 0) {
+                    ministries.add(ministryIds.getAsLong(), faithfulId, MINISTRIES[(first + 1 + random.nextInt(MINISTRIES.length - 1)) % MINISTRIES.length]);
+                }
+            }
+            if (random.nextInt(100) < 3) {
+                LocalDate lapseDate = spec.endDate().minusDays(random.nextInt(20 * 365));
+                LocalDate returnDate = random.nextBoolean() ? lapseDate.plusDays(30 + random.nextInt(5 * 365)) : null;
+                lapses.add(lapseIds.getAsLong(), faithfulId, pick(random, LAPSE_TYPES), Date.valueOf(lapseDate), "Synthetic",
+                        returnDate != null && !returnDate.isAfter(spec.endDate()) ? Date.valueOf(returnDate) : null);
+            }
+        }
+        rows.put("ministries", ministries.finish());
+        rows.put("lapse_events", lapses.finish());
+    }
+
+    private void generateDonations(DatasetSpec spec, long[] faithfulIds, LocalDate firstDay, String quote,
+                                   Map<String, Integer> rows) {
+        SplittableRandom random = randomFor(spec, 4);
+        BatchWriter writer = new BatchWriter("INSERT INTO donations (id, faithful_id, amount, " + quote + "date" + quote +
+                ", " + quote + "year" + quote + ", contribution_type, payment_method, recorded_by, " +
+                "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", spec.batchSize());
+        LongSupplier ids = idAllocator.inBlocks(Donation.class, spec.batchSize());
+        int days = (int) ChronoUnit.DAYS.between(firstDay, spec.endDate()) + 1;
+        double perFaithful = spec.donationsPerFaithfulPerYear() * days / 365.0;
+
+        for (long faithfulId : faithfulIds) {
+            // A tenth of the faithful never give; the others give around the average
+            int count = random.nextInt(10) == 0 ? 0 : around(random, perFaithful);
+            for (int d = 0; d < count; d++) {
+                LocalDate date = firstDay.plusDays(random.nextInt(days));
+                // Contributions paid in early January often settle the previous year
+                int year = date.getMonthValue() == 1 && random.nextInt(3) == 0 ? date.getYear() - 1 : date.getYear();
+                BigDecimal amount = BigDecimal.valueOf(500L * (1 + (long) (Math.pow(random.nextDouble(), 3) * 100)));
+                writer.add(ids.getAsLong(), faithfulId, amount, Date.valueOf(date), year,
+                        pick(random, CONTRIBUTION_TYPES), pick(random, PAYMENT_METHODS), "synthetic",
+                        Timestamp.valueOf(date.atTime(10, 0)));
+            }
+        }
+        rows.put("donations", writer.finish());
+    }
+
+    /**
+     * Masses in insertion order, with the date and main celebrant of each.
+     */
+    private record MassSchedule(long[] ids, LocalDate[] dates, long[] mainCelebrants) {
+    }
+
+    private MassSchedule generateMasses(DatasetSpec spec, long[] priestIds, LocalDate firstDay,
+                                        Map<String, Integer> rows) {
+        SplittableRandom random = randomFor(spec, 5);
+        BatchWriter writer = new BatchWriter("INSERT INTO events (id, title, description, location, event_category, " +
+                "mass_type, event_date, main_celebrant_id, visibility, created_at) " +
+                "VALUES (?, ?, ?, ?, 'MASS', ?, ?, ?, ?, ?)", spec.batchSize());
+        LongSupplier massIds = idAllocator.inBlocks(Mass.class, spec.batchSize());
+        List<Long> ids = new ArrayList<>();
+        List<LocalDate> dates = new ArrayList<>();
+        List<Long> celebrants = new ArrayList<>();
+
+        for (LocalDate day = firstDay; !day.isAfter(spec.endDate()); day = day.plusDays(1)) {
+            boolean sunday = day.getDayOfWeek() == DayOfWeek.SUNDAY;
+            int count = sunday ? spec.sundayMasses() : spec.weekdayMasses();
+            for (int m = 0; m < count; m++) {
+                MassType type = sunday ? MassType.SUNDAY_MASS
+                        : day.getDayOfWeek() == DayOfWeek.SATURDAY && m == count - 1 ? MassType.VIGIL
+                        : MassType.WEEK_DAY_MASS;
+                addMass(writer, random, massIds, priestIds, day, type, ids, dates, celebrants);
+            }
+            if (!sunday && random.nextInt(10) == 0) {
+                addMass(writer, random, massIds, priestIds, day, MassType.FUNERAL, ids, dates, celebrants);
+            }
+        }
+        rows.put("masses", writer.finish());
+
+        long[] mainCelebrants = celebrants.stream().mapToLong(Long::longValue).toArray();
+        return new MassSchedule(ids.stream().mapToLong(Long::longValue).toArray(), dates.toArray(LocalDate[]::new), mainCelebrants);
+    }
+
+    private void addMass(BatchWriter writer, SplittableRandom random, LongSupplier massIds, long[] priestIds,
+                         LocalDate day, MassType type, List<Long> ids, List<LocalDate> dates, List<Long> celebrants) {
+        long id = massIds.getAsLong();
+        long celebrant = priestIds[random.nextInt(priestIds.length)];
+        writer.add(id, "Misa", type.name(), random.nextInt(4) == 0 ? "Santarali" : "Paruwasi", type.name(),
+                Date.valueOf(day), celebrant, true,
+                Timestamp.valueOf(day.minusDays(7).atStartOfDay()));
+        ids.add(id);
+        dates.add(day);
+        celebrants.add(celebrant);
+    }
+
+    private void generateConcelebrants(DatasetSpec spec, long[] priestIds, MassSchedule masses,
+                                       Map<String, Integer> rows) {
+        SplittableRandom random = randomFor(spec, 6);
+        BatchWriter writer = new BatchWriter(
+                "INSERT INTO mass_concelebrants (mass_id, priest_id) VALUES (?, ?)", spec.batchSize());
+        if (priestIds.length > 1) {
+            for (int m = 0; m < masses.ids().length; m++) {
+                if (random.nextDouble() >= spec.concelebrationRate()) {
+                    continue;
+                }
+                // Concelebrants are the priests following the main celebrant, so they never repeat
+                int main = indexOf(priestIds, masses.mainCelebrants()[m]);
+                int count = 1 + random.nextInt(Math.min(2, priestIds.length - 1));
+                for (int c = 1; c <= count; c++) {
+                    writer.add(masses.ids()[m], priestIds[(main + c) % priestIds.length]);
+                }
+            }
+        }
+        rows.put("mass_concelebrants", writer.finish());
+    }
+
+    private void generateIntentions(DatasetSpec spec, long[] faithfulIds, MassSchedule masses,
+                                    Map<String, Integer> rows) {
+        SplittableRandom random = randomFor(spec, 7);
+        BatchWriter writer = new BatchWriter("INSERT INTO intentions (id, intention_type, intention_text, requested_date, " +
+                "is_paid, mass_id, faithful_id, external_faithful_name, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", spec.batchSize());
+        LongSupplier ids = idAllocator.inBlocks(Intention.class, spec.batchSize());
+
+        for (int m = 0; m < masses.ids().length; m++) {
+            LocalDate massDate = masses.dates()[m];
+            int count = around(random, spec.intentionsPerMass());
+            for (int i = 0; i < count; i++) {
+                LocalDate requested = massDate.minusDays(random.nextInt(30));
+                // One in twenty requests has not been assigned to a mass yet
+                Long massId = random.nextInt(20) == 0 ? null : masses.ids()[m];
+                boolean byFaithful = faithfulIds.length > 0 && random.nextInt(10) < 7;
+                IntentionType type = pick(random, INTENTION_TYPES);
+                writer.add(ids.getAsLong(), type.name(), "Misa ya " + type.name().toLowerCase(), Date.valueOf(requested),
+                        random.nextInt(100) < 85, massId,
+                        byFaithful ? faithfulIds[random.nextInt(faithfulIds.length)] : null,
+                        byFaithful ? null : pick(random, FIRST_NAMES) + " " + pick(random, FAMILY_NAMES),
+                        Timestamp.valueOf(requested.atTime(11, 0)));
+            }
+        }
+        rows.put("intentions", writer.finish());
+    }
+
+    // ============================================================================
+    // HELPER METHODS
+    // ============================================================================
+
+    /**
+     * Collects rows and writes them in JDBC batches of a fixed size.
+     */
+    private final class BatchWriter {
+
+        private final String sql;
+        private final int batchSize;
+        private final List<Object[]> batch;
+        private int written;
+
+        private BatchWriter(String sql, int batchSize) {
+            this.sql = sql;
+            this.batchSize = Math.max(1, batchSize);
+            this.batch = new ArrayList<>(this.batchSize);
+        }
+
+        private void add(Object... row) {
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        private int finish() {
+            flush();
+            return written;
+        }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                written += batch.size();
+                batch.clear();
+            }
+        }
+    }
+
+    private static SplittableRandom randomFor(DatasetSpec spec, int table) {
+        return new SplittableRandom(spec.seed() * 31 + table);
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // Index in [0, size), favouring low values so some parishes are much larger than others
+    private static int skewed(SplittableRandom random, int size) {
+        return (int) (Math.pow(random.nextDouble(), 2) * size);
+    }
+
+    // Non-negative integer whose average is the given mean
+    private static int around(SplittableRandom random, double mean) {
+        int whole = (int) mean;
+        return random.nextInt(Math.max(1, 2 * whole + 1)) + (random.nextDouble() < mean - whole ? 1 : 0);
+    }
+
+    private static int indexOf(long[] values, long value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static Date date(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
@@ -0,0 +1,82 @@
+package org.ananie.parishManagementSystem.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.repository.IntentionRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Running count of unpaid intentions, so dashboards do not have to count them on every refresh.
+ * Seeded from a COUNT query on first use, adjusted by IntentionService when an intention is
+ * saved or marked paid, and re-synchronised periodically to absorb changes made elsewhere
+ * (e.g. intentions removed together with their mass).
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnpaidIntentionCounter {
+
+    private static final long UNINITIALIZED = -1L;
+
+    private final IntentionRepository intentionRepository;
+
+    private final AtomicLong unpaid = new AtomicLong(UNINITIALIZED);
+
+    /**
+     * Current number of unpaid intentions.
+     */
+    public long get() {
+        long value = unpaid.get();
+        return value != UNINITIALIZED ? value : resync();
+    }
+
+    /**
+     * Applies a change in the number of unpaid intentions once the surrounding transaction commits.
+     * Outside a transaction the change is applied immediately.
+     *
+     * @param delta +1 for a new unpaid intention, -1 for one that was paid
+     */
+    public void adjustAfterCommit(long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adjust(delta);
+                }
+            });
+        } else {
+            adjust(delta);
+        }
+    }
+
+    /**
+     * Reloads the counter from the database.
+     *
+     * @return the fresh count
+     */
+    @Scheduled(fixedDelayString = "${parish.intentions.unpaid-counter-resync:PT15M}")
+    public long resync() {
+        long fresh = intentionRepository.countByIsPaidFalse();
+        long previous = unpaid.getAndSet(fresh);
+        if (previous != UNINITIALIZED && previous != fresh) {
+            log.debug("Unpaid intention counter drifted from {} to {}", previous, fresh);
+        }
+        return fresh;
+    }
+
+    private void adjust(long delta) {
+        // Not seeded yet: the next get() will count from the database anyway
+        unpaid.updateAndGet(value -> value == UNINITIALIZED ? value : Math.max(0, value + delta));
+    }
+}
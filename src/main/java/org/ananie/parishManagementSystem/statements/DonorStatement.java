@@ -0,0 +1,39 @@
+package org.ananie.parishManagementSystem.statements;
+
+import org.ananie.parishManagementSystem.utilities.MinorUnits;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One faithful's donations for a year, in date order, as printed on their statement.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public record DonorStatement(int year,
+                             long faithfulId,
+                             String name,
+                             String firstname,
+                             String parish,
+                             String subparish,
+                             String basicEcclesialCommunity,
+                             List<Line> lines) {
+
+    public record Line(LocalDate date, BigDecimal amount, String contributionType,
+                       String paymentMethod, String referenceNumber) {
+    }
+
+    public BigDecimal total() {
+        long total = 0;
+        for (Line line : lines) {
+            total = MinorUnits.add(total, MinorUnits.of(line.amount()));
+        }
+        return MinorUnits.toBigDecimal(total);
+    }
+
+    public String fullName() {
+        return firstname == null || firstname.isBlank() ? name : firstname + " " + name;
+    }
+}
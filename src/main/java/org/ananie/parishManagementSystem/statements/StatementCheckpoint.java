@@ -0,0 +1,73 @@
+package org.ananie.parishManagementSystem.statements;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Progress of a statement run, saved after every chunk. Donors are processed in faithful id order,
+ * so every statement up to and including {@code lastFaithfulId} has been written and a resumed run
+ * starts after it.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public record StatementCheckpoint(int year, StatementFormat format, long lastFaithfulId,
+                                  long statements, boolean completed) {
+
+    public static final String FILE_NAME = "checkpoint.properties";
+
+    public static StatementCheckpoint start(int year, StatementFormat format) {
+        return new StatementCheckpoint(year, format, 0L, 0L, false);
+    }
+
+    public StatementCheckpoint advance(long lastFaithfulId, long written) {
+        return new StatementCheckpoint(year, format, lastFaithfulId, statements + written, false);
+    }
+
+    public StatementCheckpoint complete() {
+        return new StatementCheckpoint(year, format, lastFaithfulId, statements, true);
+    }
+
+    public static Optional<StatementCheckpoint> load(Path directory) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return Optional.of(new StatementCheckpoint(
+                Integer.parseInt(properties.getProperty("year")),
+                StatementFormat.valueOf(properties.getProperty("format")),
+                Long.parseLong(properties.getProperty("lastFaithfulId")),
+                Long.parseLong(properties.getProperty("statements")),
+                Boolean.parseBoolean(properties.getProperty("completed"))));
+    }
+
+    /**
+     * Writes the checkpoint next to the statements, replacing the previous one in a single move
+     * so a crash never leaves a half-written file behind.
+     */
+    public void save(Path directory) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("year", String.valueOf(year));
+        properties.setProperty("format", format.name());
+        properties.setProperty("lastFaithfulId", String.valueOf(lastFaithfulId));
+        properties.setProperty("statements", String.valueOf(statements));
+        properties.setProperty("completed", String.valueOf(completed));
+        Path temporary = directory.resolve(FILE_NAME + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Donation statement run");
+        }
+        Files.move(temporary, directory.resolve(FILE_NAME),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
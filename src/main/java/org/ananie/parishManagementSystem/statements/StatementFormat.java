@@ -0,0 +1,45 @@
+package org.ananie.parishManagementSystem.statements;
+
+import org.ananie.parishManagementSystem.exception.ValidationException;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Formats a donation statement can be rendered in.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public enum StatementFormat {
+
+    TEXT("txt", StatementRenderer::text),
+    HTML("html", StatementRenderer::html);
+
+    private final String extension;
+    private final Function<DonorStatement, String> renderer;
+
+    StatementFormat(String extension, Function<DonorStatement, String> renderer) {
+        this.extension = extension;
+        this.renderer = renderer;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String render(DonorStatement statement) {
+        return renderer.apply(statement);
+    }
+
+    /**
+     * Parses a format name as given in a request, ignoring case.
+     */
+    public static StatementFormat fromName(String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Unsupported statement format: " + name
+                        + " (expected one of " + Arrays.toString(values()).toLowerCase() + ")"));
+    }
+}
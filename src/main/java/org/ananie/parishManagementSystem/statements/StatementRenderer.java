@@ -0,0 +1,78 @@
+package org.ananie.parishManagementSystem.statements;
+
+import org.ananie.parishManagementSystem.statements.DonorStatement.Line;
+
+/**
+ * Renders a donor statement as plain text or as a standalone HTML page.
+ * Pure functions of the statement, so statements can be rendered on any thread.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+final class StatementRenderer {
+
+    private StatementRenderer() {
+    }
+
+    static String text(DonorStatement statement) {
+        StringBuilder out = new StringBuilder(256 + statement.lines().size() * 80);
+        out.append("Donation statement ").append(statement.year()).append('\n');
+        out.append("Faithful: ").append(statement.fullName()).append(" (no. ").append(statement.faithfulId()).append(")\n");
+        appendIfPresent(out, "Parish: ", statement.parish());
+        appendIfPresent(out, "Subparish: ", statement.subparish());
+        appendIfPresent(out, "Basic ecclesial community: ", statement.basicEcclesialCommunity());
+        out.append('\n');
+        out.append(String.format("%-12s %-20s %-16s %-20s %14s%n", "Date", "Contribution", "Payment", "Reference", "Amount"));
+        for (Line line : statement.lines()) {
+            out.append(String.format("%-12s %-20s %-16s %-20s %14s%n", line.date(),
+                    orEmpty(line.contributionType()), orEmpty(line.paymentMethod()),
+                    orEmpty(line.referenceNumber()), line.amount().toPlainString()));
+        }
+        out.append('\n');
+        out.append(String.format("Total (%d donations): %s%n", statement.lines().size(), statement.total().toPlainString()));
+        return out.toString();
+    }
+
+    static String html(DonorStatement statement) {
+        StringBuilder out = new StringBuilder(512 + statement.lines().size() * 160);
+        out.append("<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>Donation statement ")
+                .append(statement.year()).append(" - ").append(escape(statement.fullName())).append("</title>")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}")
+                .append("th,td{border:1px solid #999;padding:4px 8px}td.amount{text-align:right}</style>")
+                .append("</head><body>\n");
+        out.append("<h1>Donation statement ").append(statement.year()).append("</h1>\n");
+        out.append("<p>").append(escape(statement.fullName())).append(" (no. ").append(statement.faithfulId()).append(")");
+        for (String place : new String[]{statement.parish(), statement.subparish(), statement.basicEcclesialCommunity()}) {
+            if (place != null && !place.isBlank()) {
+                out.append("<br>").append(escape(place));
+            }
+        }
+        out.append("</p>\n<table><tr><th>Date</th><th>Contribution</th><th>Payment</th><th>Reference</th><th>Amount</th></tr>\n");
+        for (Line line : statement.lines()) {
+            out.append("<tr><td>").append(line.date())
+                    .append("</td><td>").append(escape(orEmpty(line.contributionType())))
+                    .append("</td><td>").append(escape(orEmpty(line.paymentMethod())))
+                    .append("</td><td>").append(escape(orEmpty(line.referenceNumber())))
+                    .append("</td><td class=\"amount\">").append(line.amount().toPlainString())
+                    .append("</td></tr>\n");
+        }
+        out.append("<tr><th colspan=\"4\">Total (").append(statement.lines().size()).append(" donations)</th>")
+                .append("<th class=\"amount\">").append(statement.total().toPlainString()).append("</th></tr>\n");
+        out.append("</table>\n</body></html>\n");
+        return out.toString();
+    }
+
+    private static void appendIfPresent(StringBuilder out, String label, String value) {
+        if (value != null && !value.isBlank()) {
+            out.append(label).append(value).append('\n');
+        }
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
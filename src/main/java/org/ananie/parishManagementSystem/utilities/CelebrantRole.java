@@ -0,0 +1,6 @@
+package org.ananie.parishManagementSystem.utilities;
+
+public enum CelebrantRole {
+    MAIN,
+    CONCELEBRANT
+}
@@ -0,0 +1,10 @@
+package org.ananie.parishManagementSystem.utilities;
+
+/**
+ * What a donation ledger entry records: the donation being recorded, a change to it, or its removal.
+ */
+public enum LedgerEntryType {
+    CREATED,
+    ADJUSTED,
+    VOIDED
+}
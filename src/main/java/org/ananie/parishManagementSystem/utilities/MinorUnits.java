@@ -0,0 +1,73 @@
+package org.ananie.parishManagementSystem.utilities;
+
+import java.math.BigDecimal;
+
+/**
+ * Money as a primitive {@code long} count of hundredths, for aggregating many amounts in memory
+ * without a BigDecimal per addition. Hundredths match the {@code NUMERIC(10, 2)} amount columns, so
+ * any stored amount converts exactly even though Rwandan francs are not divided in practice.
+ * Arithmetic throws ArithmeticException on overflow instead of wrapping; amounts are converted
+ * back to BigDecimal only where they leave the aggregation.
+ *
+ * @author Parish Management System
+ * @version 2.0
+ */
+public final class MinorUnits {
+
+    /**
+     * Decimal places of the amounts represented, i.e. one unit is 10^-SCALE of the currency.
+     */
+    public static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    /**
+     * Exact conversion of an amount; null counts as zero.
+     *
+     * @throws ArithmeticException if the amount has more than {@link #SCALE} decimals or does not fit
+     */
+    public static long of(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(SCALE).longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public static long add(long augend, long addend) {
+        return Math.addExact(augend, addend);
+    }
+
+    public static long subtract(long minuend, long subtrahend) {
+        return Math.subtractExact(minuend, subtrahend);
+    }
+
+    public static long sum(long[] amounts) {
+        return sum(amounts, 0, amounts.length);
+    }
+
+    /**
+     * Sum of {@code amounts[from, to)}.
+     */
+    public static long sum(long[] amounts, int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            total = Math.addExact(total, amounts[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Adds each amount to the total of its group: {@code totals[groups[i]] += amounts[i]} for every row.
+     * Grouped sums over parallel columns, without boxing or a map lookup per row.
+     *
+     * @param groups group index of each row, below {@code totals.length}
+     */
+    public static void sumInto(long[] totals, int[] groups, long[] amounts, int rows) {
+        for (int i = 0; i < rows; i++) {
+            int group = groups[i];
+            totals[group] = Math.addExact(totals[group], amounts[i]);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+-- One-off backfill for the stored month/year columns used by the monthly reports.
+-- Run it once on existing databases before their first migration; from V6 on the columns are
+-- generated by the database and cannot be assigned.
+UPDATE donations SET donation_month = MONTH(date) WHERE donation_month IS NULL;
+UPDATE intentions SET requested_year_month = YEAR(requested_date) * 100 + MONTH(requested_date)
+    WHERE requested_year_month IS NULL AND requested_date IS NOT NULL;
+UPDATE priests SET ordination_year = YEAR(ordination_date)
+    WHERE ordination_year IS NULL AND ordination_date IS NOT NULL;
+UPDATE events SET event_year_month = YEAR(event_date) * 100 + MONTH(event_date)
+    WHERE event_year_month IS NULL AND event_date IS NOT NULL;
+
+-- Priest workload table, maintained on mass writes from then on (PriestWorkloadAggregator.rebuild() does the same).
+DELETE FROM priest_workload;
+INSERT INTO priest_workload (priest_id, mass_year_month, mass_type, celebrant_role, mass_count)
+    SELECT main_celebrant_id, event_year_month, mass_type, 'MAIN', COUNT(*) FROM events
+    WHERE event_category = 'MASS' AND main_celebrant_id IS NOT NULL AND event_year_month IS NOT NULL
+    GROUP BY main_celebrant_id, event_year_month, mass_type;
+INSERT INTO priest_workload (priest_id, mass_year_month, mass_type, celebrant_role, mass_count)
+    SELECT c.priest_id, e.event_year_month, e.mass_type, 'CONCELEBRANT', COUNT(*)
+    FROM mass_concelebrants c JOIN events e ON e.id = c.mass_id
+    WHERE e.event_year_month IS NOT NULL
+    GROUP BY c.priest_id, e.event_year_month, e.mass_type;
@@ -0,0 +1,31 @@
+-- One-off migration for existing MySQL databases from AUTO_INCREMENT ids to the pooled-lo sequences the
+-- entities now use. MySQL has no sequences, so Hibernate keeps each one in a single-row table; it reads
+-- next_val as the first id of a block of 50 and advances it by 50. Run once, with the application stopped.
+-- H2 needs nothing: its databases are in memory and the h2 migrations create real sequences on every start.
+CREATE TABLE faithfuls_seq (next_val BIGINT);
+INSERT INTO faithfuls_seq SELECT COALESCE(MAX(id), 0) + 1 FROM faithfuls;
+CREATE TABLE ministries_seq (next_val BIGINT);
+INSERT INTO ministries_seq SELECT COALESCE(MAX(id), 0) + 1 FROM ministries;
+CREATE TABLE lapse_events_seq (next_val BIGINT);
+INSERT INTO lapse_events_seq SELECT COALESCE(MAX(id), 0) + 1 FROM lapse_events;
+CREATE TABLE donations_seq (next_val BIGINT);
+INSERT INTO donations_seq SELECT COALESCE(MAX(id), 0) + 1 FROM donations;
+CREATE TABLE events_seq (next_val BIGINT);
+INSERT INTO events_seq SELECT COALESCE(MAX(id), 0) + 1 FROM events;
+CREATE TABLE intentions_seq (next_val BIGINT);
+INSERT INTO intentions_seq SELECT COALESCE(MAX(id), 0) + 1 FROM intentions;
+CREATE TABLE priest_workload_seq (next_val BIGINT);
+INSERT INTO priest_workload_seq SELECT COALESCE(MAX(id), 0) + 1 FROM priest_workload;
+
+-- Drop AUTO_INCREMENT so the id columns match a database created by V1__baseline_schema.sql. MySQL refuses
+-- to modify a column that foreign keys reference while the checks are on; the type stays BIGINT NOT NULL,
+-- so every foreign key is still valid afterwards.
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE faithfuls MODIFY id BIGINT NOT NULL;
+ALTER TABLE ministries MODIFY id BIGINT NOT NULL;
+ALTER TABLE lapse_events MODIFY id BIGINT NOT NULL;
+ALTER TABLE donations MODIFY id BIGINT NOT NULL;
+ALTER TABLE events MODIFY id BIGINT NOT NULL;
+ALTER TABLE intentions MODIFY id BIGINT NOT NULL;
+ALTER TABLE priest_workload MODIFY id BIGINT NOT NULL;
+SET FOREIGN_KEY_CHECKS = 1;
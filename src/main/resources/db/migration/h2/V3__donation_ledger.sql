@@ -0,0 +1,38 @@
+-- Append-only donation ledger and its per faithful and year balance snapshots.
+-- Donations recorded before this migration are entered into the ledger by DonationLedger on startup.
+
+CREATE SEQUENCE donation_ledger_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE donation_balance_snapshots_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE donation_ledger (
+    id BIGINT NOT NULL,
+    faithful_id BIGINT NOT NULL,
+    contribution_year INTEGER NOT NULL,
+    stream_version INTEGER NOT NULL,
+    donation_id BIGINT NOT NULL,
+    entry_type ENUM ('CREATED', 'ADJUSTED', 'VOIDED') NOT NULL,
+    amount_delta NUMERIC(12, 2) NOT NULL,
+    count_delta INTEGER NOT NULL,
+    amount NUMERIC(10, 2) NOT NULL,
+    donation_date DATE NOT NULL,
+    contribution_type VARCHAR(50),
+    recorded_by VARCHAR(100),
+    recorded_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_donation_ledger_stream_version UNIQUE (faithful_id, contribution_year, stream_version)
+);
+
+CREATE TABLE donation_balance_snapshots (
+    id BIGINT NOT NULL,
+    faithful_id BIGINT NOT NULL,
+    contribution_year INTEGER NOT NULL,
+    stream_version INTEGER NOT NULL,
+    total NUMERIC(12, 2) NOT NULL,
+    donation_count INTEGER NOT NULL,
+    taken_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_donation_balance_snapshots_stream UNIQUE (faithful_id, contribution_year)
+);
+
+-- DonationLedgerRepository.findByDonationIdOrderByIdAsc, and the backfill's NOT EXISTS probe
+CREATE INDEX idx_donation_ledger_donation ON donation_ledger (donation_id);
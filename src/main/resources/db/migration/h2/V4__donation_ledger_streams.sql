@@ -0,0 +1,13 @@
+-- Head of each ledger stream: the last version handed out. Appending to a stream first bumps its
+-- head, which locks the row until commit, so concurrent appends to one stream take turns instead
+-- of both claiming the same next version.
+
+CREATE TABLE donation_ledger_streams (
+    faithful_id BIGINT NOT NULL,
+    contribution_year INTEGER NOT NULL,
+    last_version INTEGER NOT NULL,
+    PRIMARY KEY (faithful_id, contribution_year)
+);
+
+INSERT INTO donation_ledger_streams (faithful_id, contribution_year, last_version)
+SELECT faithful_id, contribution_year, MAX(stream_version) FROM donation_ledger GROUP BY faithful_id, contribution_year;
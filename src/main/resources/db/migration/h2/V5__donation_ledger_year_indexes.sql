@@ -0,0 +1,3 @@
+-- DonationLedger.yearTotal: a contribution year's snapshots, and its stream heads to find the tails from
+CREATE INDEX idx_donation_balance_snapshots_year ON donation_balance_snapshots (contribution_year);
+CREATE INDEX idx_donation_ledger_streams_year ON donation_ledger_streams (contribution_year);
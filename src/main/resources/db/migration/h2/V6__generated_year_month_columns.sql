@@ -0,0 +1,10 @@
+-- The stored year/month columns become generated columns, so rows written by any path
+-- (JPA, JDBC batches, bulk UPDATEs, manual fixes) always agree with their date.
+-- Existing values are recomputed from the dates; the indexes on them are kept.
+
+ALTER TABLE donations ALTER COLUMN donation_month INTEGER GENERATED ALWAYS AS (MONTH("date"));
+ALTER TABLE intentions ALTER COLUMN requested_year_month INTEGER
+    GENERATED ALWAYS AS (YEAR(requested_date) * 100 + MONTH(requested_date));
+ALTER TABLE priests ALTER COLUMN ordination_year INTEGER GENERATED ALWAYS AS (YEAR(ordination_date));
+ALTER TABLE events ALTER COLUMN event_year_month INTEGER
+    GENERATED ALWAYS AS (YEAR(event_date) * 100 + MONTH(event_date));
@@ -0,0 +1,193 @@
+-- Schema as the entities mapped it when migrations were introduced.
+-- Databases created by Hibernate before then are recorded as this version without running it
+-- (spring.flyway.baseline-on-migrate); run db/backfill-year-month.sql and db/identity-to-sequences.sql
+-- on them first. Constraint names are the ones Hibernate generated, so such databases match this
+-- script exactly.
+
+-- Hibernate emulates the id sequences with single-row tables holding the next value
+CREATE TABLE faithfuls_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO faithfuls_seq VALUES (1);
+CREATE TABLE ministries_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO ministries_seq VALUES (1);
+CREATE TABLE lapse_events_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO lapse_events_seq VALUES (1);
+CREATE TABLE donations_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO donations_seq VALUES (1);
+CREATE TABLE events_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO events_seq VALUES (1);
+CREATE TABLE intentions_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO intentions_seq VALUES (1);
+CREATE TABLE priest_workload_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO priest_workload_seq VALUES (1);
+
+CREATE TABLE faithfuls (
+    id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    firstname VARCHAR(100),
+    father_name VARCHAR(100),
+    mother_name VARCHAR(100),
+    godparent_name VARCHAR(100),
+    date_of_birth DATE,
+    date_of_baptism DATE,
+    baptism_id VARCHAR(50),
+    baptism_minister VARCHAR(100),
+    date_of_first_communion DATE,
+    date_of_confirmation DATE,
+    confirmation_id VARCHAR(50),
+    date_of_matrimony DATE,
+    matrimony_id VARCHAR(50),
+    spouse_name VARCHAR(100),
+    spouse_baptism_id VARCHAR(50),
+    level_diaconate VARCHAR(255),
+    date_diaconate DATE,
+    level_priesthood VARCHAR(255),
+    date_priesthood DATE,
+    level_episcopate VARCHAR(255),
+    date_episcopate DATE,
+    congregation_name VARCHAR(100),
+    has_temporal_profession VARCHAR(255),
+    date_temporal_profession DATE,
+    has_permanent_profession VARCHAR(255),
+    date_permanent_profession DATE,
+    other_ministry_details VARCHAR(255),
+    has_relocated VARCHAR(255),
+    new_parish_name VARCHAR(100),
+    is_deceased VARCHAR(255),
+    date_of_death DATE,
+    diocese VARCHAR(50),
+    parish VARCHAR(100),
+    subparish VARCHAR(100),
+    basic_ecclesial_community VARCHAR(100),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UKedi95qbuv2qdcxyag8amr9fqg UNIQUE (baptism_id),
+    CONSTRAINT UK96h75jghlcvrl07k0emxqonbc UNIQUE (confirmation_id),
+    CONSTRAINT UK90lm3sr60jf8d301tcw95a4o5 UNIQUE (matrimony_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE ministries (
+    id BIGINT NOT NULL,
+    faithful_id BIGINT NOT NULL,
+    ministry_type VARCHAR(50) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FKeim6to5xv809wyftppmh065sb FOREIGN KEY (faithful_id) REFERENCES faithfuls (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE lapse_events (
+    id BIGINT NOT NULL,
+    faithful_id BIGINT NOT NULL,
+    lapse_type VARCHAR(50) NOT NULL,
+    lapse_date DATE,
+    lapse_reason VARCHAR(500),
+    return_date DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT FK3setobfldiq46cwfo1jgb874b FOREIGN KEY (faithful_id) REFERENCES faithfuls (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE donations (
+    id BIGINT NOT NULL,
+    faithful_id BIGINT NOT NULL,
+    amount DECIMAL(10, 2) NOT NULL,
+    `date` DATE NOT NULL,
+    donation_month INTEGER,
+    `year` INTEGER NOT NULL,
+    contribution_type VARCHAR(50),
+    payment_method VARCHAR(50),
+    reference_number VARCHAR(100),
+    notes VARCHAR(500),
+    recorded_by VARCHAR(100),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FK30hjv01s40rxhpnon19dj824r FOREIGN KEY (faithful_id) REFERENCES faithfuls (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE priests (
+    id BIGINT NOT NULL,
+    amazina VARCHAR(255) NOT NULL,
+    priest_type ENUM ('BISHOP','DEACON','DIOCESAN','EXTERN','RELIGIOUS','RETIRED','SEMINARIAN') NOT NULL,
+    ordination_date DATE,
+    ordination_year INTEGER,
+    birth_date DATE,
+    parish_of_origin VARCHAR(255),
+    email VARCHAR(255),
+    phone VARCHAR(255),
+    profile_picture_url VARCHAR(255),
+    is_assigned BIT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UKjtvctpscl73f83jtxk3amb5ol UNIQUE (email)
+) ENGINE = InnoDB;
+
+-- Single table for the Event hierarchy; event_category is the discriminator
+CREATE TABLE events (
+    id BIGINT NOT NULL,
+    event_category VARCHAR(31) NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    description VARCHAR(100) NOT NULL,
+    event_date DATE,
+    event_year_month INTEGER,
+    location VARCHAR(255) NOT NULL,
+    image_url VARCHAR(255),
+    visibility BIT,
+    event_type ENUM ('CATECHESIS','CHILDREN_MINISTRY','CONFESSION','MASS','MEETING','OTHER','PILGRIMAGE','YOUTH_MINISTRY'),
+    mass_type ENUM ('DAY_OF_OBLIGATION_MASS','FUNERAL','MASS_FOR_CELEBRATION_OF_SACRAMENTS','MASS_FOR_SPECIAL_GROUP','OTHER','SUNDAY_MASS','VIGIL','WEEK_DAY_MASS') NOT NULL,
+    liturgical_season ENUM ('ADVENT','CHRISTMAS','EASTER','EASTER_TRIDUUM','LENT','ORDINARY_TIME'),
+    readings VARCHAR(255),
+    intention_capacity INTEGER,
+    main_celebrant_id BIGINT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FK58thrgp3fsc2qkp5q63qevtkn FOREIGN KEY (main_celebrant_id) REFERENCES priests (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE mass_concelebrants (
+    mass_id BIGINT NOT NULL,
+    priest_id BIGINT NOT NULL,
+    CONSTRAINT FKm5r6pukscilgwlvuyyes5ywc2 FOREIGN KEY (mass_id) REFERENCES events (id),
+    CONSTRAINT FKbf2ux34thbbn6v2v1xrsn6102 FOREIGN KEY (priest_id) REFERENCES priests (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE intentions (
+    id BIGINT NOT NULL,
+    intention_type ENUM ('ANNIVERSARY','BIRTHDAY','DECEASED','OTHER','PATRON_SAINT','SICK','SPECIAL_NEED','THANKSGIVING') NOT NULL,
+    intention_text VARCHAR(1000) NOT NULL,
+    requested_date DATE,
+    requested_year_month INTEGER,
+    is_paid BIT,
+    mass_id BIGINT,
+    faithful_id BIGINT,
+    external_faithful_name VARCHAR(255),
+    preferred_celebrant_id BIGINT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FKecdrq694mb1f2i94p3v0a2rgj FOREIGN KEY (mass_id) REFERENCES events (id),
+    CONSTRAINT FK5bye86wxymsh1jqbafx8huqum FOREIGN KEY (faithful_id) REFERENCES faithfuls (id),
+    CONSTRAINT FKeuyg6wsqfs0pnv5mcpgmspkjj FOREIGN KEY (preferred_celebrant_id) REFERENCES priests (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE priest_workload (
+    id BIGINT NOT NULL,
+    priest_id BIGINT NOT NULL,
+    mass_year_month INTEGER NOT NULL,
+    mass_type ENUM ('DAY_OF_OBLIGATION_MASS','FUNERAL','MASS_FOR_CELEBRATION_OF_SACRAMENTS','MASS_FOR_SPECIAL_GROUP','OTHER','SUNDAY_MASS','VIGIL','WEEK_DAY_MASS') NOT NULL,
+    celebrant_role ENUM ('CONCELEBRANT','MAIN') NOT NULL,
+    mass_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_priest_workload_cell UNIQUE (priest_id, mass_year_month, mass_type, celebrant_role),
+    CONSTRAINT FKoi64l0gd6h1cjln27pl9jlouh FOREIGN KEY (priest_id) REFERENCES priests (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_faithfuls_created_at ON faithfuls (created_at);
+CREATE INDEX idx_donations_date ON donations (`date`);
+CREATE INDEX idx_donations_year_month ON donations (`year`, donation_month, amount);
+CREATE INDEX idx_priests_ordination_year ON priests (ordination_year);
+CREATE INDEX idx_events_event_date ON events (event_date);
+CREATE INDEX idx_events_year_month ON events (event_year_month, event_category);
+CREATE INDEX idx_intentions_paid_requested ON intentions (is_paid, requested_date);
+CREATE INDEX idx_intentions_requested_date ON intentions (requested_date);
+CREATE INDEX idx_intentions_requested_year_month ON intentions (is_paid, requested_year_month);
+CREATE INDEX idx_priest_workload_year_month ON priest_workload (mass_year_month, priest_id);
@@ -0,0 +1,11 @@
+-- The stored year/month columns become generated columns, so rows written by any path
+-- (JPA, JDBC batches, bulk UPDATEs, manual fixes) always agree with their date.
+-- STORED, because only stored generated columns can be converted from ordinary ones in place;
+-- existing values are recomputed from the dates and the indexes on them are kept.
+
+ALTER TABLE donations MODIFY donation_month INTEGER GENERATED ALWAYS AS (MONTH(`date`)) STORED;
+ALTER TABLE intentions MODIFY requested_year_month INTEGER
+    GENERATED ALWAYS AS (YEAR(requested_date) * 100 + MONTH(requested_date)) STORED;
+ALTER TABLE priests MODIFY ordination_year INTEGER GENERATED ALWAYS AS (YEAR(ordination_date)) STORED;
+ALTER TABLE events MODIFY event_year_month INTEGER
+    GENERATED ALWAYS AS (YEAR(event_date) * 100 + MONTH(event_date)) STORED;
@@ -0,0 +1,64 @@
+package org.ananie.parishManagementSystem.controllers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ananie.parishManagementSystem.configurations.DashboardFeedProperties;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.Delta;
+import org.ananie.parishManagementSystem.service.DashboardFeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class DashboardControllerTest {
+
+    private final DashboardFeedProperties properties = new DashboardFeedProperties();
+    private final DashboardFeed feed = new DashboardFeed(properties, new SimpleMeterRegistry());
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new DashboardController(feed)).build();
+
+    @AfterEach
+    void closeFeed() {
+        feed.destroy();
+    }
+
+    @Test
+    void subscribersReceiveDeltasButNotDateOnlyEvents() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/dashboard/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        feed.onDataChanged(ParishDataChangedEvent.of(DataType.DONATION, LocalDate.of(2025, 3, 2)));
+        feed.onDataChanged(ParishDataChangedEvent.of(DataType.DONATION, LocalDate.of(2025, 3, 2))
+                .withDelta(Delta.created(7L).withAmountChange(new BigDecimal("1500.00"))));
+
+        String body = awaitContent(response, "\"amountChange\"");
+        assertThat(body).contains("event:delta", "id:1", "\"type\":\"DONATION\"", "\"id\":7", "\"countChange\":1");
+        assertThat(body.split("event:delta", -1)).hasSize(2);
+    }
+
+    @Test
+    void subscriptionsBeyondTheLimitAreRefused() throws Exception {
+        properties.setMaxSubscribers(1);
+
+        mockMvc.perform(get("/api/dashboard/stream")).andExpect(request().asyncStarted());
+        mockMvc.perform(get("/api/dashboard/stream")).andExpect(status().isServiceUnavailable());
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!response.getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return response.getContentAsString();
+    }
+}
@@ -0,0 +1,176 @@
+package org.ananie.parishManagementSystem.controllers;
+
+import org.ananie.parishManagementSystem.dto.request.DonationRequestDTO;
+import org.ananie.parishManagementSystem.dto.request.DonationUpdateDTO;
+import org.ananie.parishManagementSystem.entity.Donation;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.service.DonationCube;
+import org.ananie.parishManagementSystem.service.DonationService;
+import org.ananie.parishManagementSystem.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The cube answers group-by and filter combinations without touching the database, and follows
+ * donations created, changed and deleted through the service.
+ */
+@SpringBootTest(properties = "parish.intentions.allocation.enabled=false")
+@AutoConfigureMockMvc
+// A context of its own; closed afterwards so its schedulers do not compete with later timing-sensitive tests
+@DirtiesContext
+class DonationCubeQueryTest {
+
+    private static final int FAITHFULS = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @Autowired
+    private DonationCube cube;
+
+    @Autowired
+    private DonationService donationService;
+
+    private long[] faithfulIds;
+
+    @BeforeEach
+    void seed() {
+        // Even faithful live in Santarali, odd ones in Rususa; each gives 100, 200 and 300 times (i + 1)
+        // in January to March 2024, plus a quarter, as tithes except for March's offering
+        faithfulIds = idAllocator.next(Faithful.class, FAITHFULS);
+        long[] donationIds = idAllocator.next(Donation.class, FAITHFULS * 3 + 1);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> faithfuls = new ArrayList<>();
+        List<Object[]> donations = new ArrayList<>();
+        for (int i = 0; i < FAITHFULS; i++) {
+            faithfuls.add(new Object[]{faithfulIds[i], "Mugisha " + i, "Paruwasi", i % 2 == 0 ? "Santarali" : "Rususa",
+                    "Bec " + i, now});
+            for (int month = 1; month <= 3; month++) {
+                LocalDate date = LocalDate.of(2024, month, 10);
+                donations.add(new Object[]{donationIds[donations.size()], faithfulIds[i],
+                        BigDecimal.valueOf(100L * month * (i + 1)).add(new BigDecimal("0.25")), Date.valueOf(date), 2024,
+                        month == 3 ? "OFFERING" : "TITHE", "CASH", now});
+            }
+        }
+        // Outside every 2024 slice
+        donations.add(new Object[]{donationIds[donations.size()], faithfulIds[0], BigDecimal.valueOf(999),
+                Date.valueOf(LocalDate.of(2023, 12, 20)), 2023, "TITHE", "CASH", now});
+        jdbcTemplate.batchUpdate("INSERT INTO faithfuls (id, name, parish, subparish, basic_ecclesial_community, " +
+                "created_at) VALUES (?, ?, ?, ?, ?, ?)", faithfuls);
+        jdbcTemplate.batchUpdate("INSERT INTO donations (id, faithful_id, amount, \"date\", \"year\", " +
+                "contribution_type, payment_method, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", donations);
+        cube.reload();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM donation_balance_snapshots");
+        jdbcTemplate.update("DELETE FROM donation_ledger_streams");
+        jdbcTemplate.update("DELETE FROM donation_ledger");
+        jdbcTemplate.update("DELETE FROM donations");
+        jdbcTemplate.update("DELETE FROM faithfuls");
+    }
+
+    @Test
+    void slicesAreAnsweredFromMemory() throws Exception {
+        SqlStatementCounter.reset();
+        mockMvc.perform(get("/api/donations/cube").param("groupBy", "subParish,type").param("year", "2024"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy[0]").value("subParish"))
+                .andExpect(jsonPath("$.cells.length()").value(4))
+                .andExpect(jsonPath("$.cells[0].key[0]").value("Rususa"))
+                .andExpect(jsonPath("$.cells[0].key[1]").value("OFFERING"))
+                .andExpect(jsonPath("$.cells[0].total").value(1800.50))
+                .andExpect(jsonPath("$.cells[0].donations").value(2))
+                .andExpect(jsonPath("$.cells[3].key[0]").value("Santarali"))
+                .andExpect(jsonPath("$.cells[3].key[1]").value("TITHE"))
+                .andExpect(jsonPath("$.cells[3].total").value(1201.00))
+                .andExpect(jsonPath("$.cells[3].donations").value(4))
+                .andExpect(jsonPath("$.total").value(6003.00))
+                .andExpect(jsonPath("$.donations").value(12));
+
+        mockMvc.perform(get("/api/donations/cube").param("groupBy", "month")
+                        .param("type", "TITHE").param("from", "2024-02-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cells.length()").value(1))
+                .andExpect(jsonPath("$.cells[0].key[0]").value(2))
+                .andExpect(jsonPath("$.cells[0].total").value(2001.00))
+                .andExpect(jsonPath("$.cells[0].donations").value(4));
+
+        mockMvc.perform(get("/api/donations/cube").param("bec", "Bec 0", "Bec 3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cells[0].total").value(4000.50))
+                .andExpect(jsonPath("$.donations").value(7));
+        SqlStatementCounter.assertSelectCount(0);
+    }
+
+    @Test
+    void followsDonationsWrittenThroughTheService() throws Exception {
+        DonationRequestDTO request = new DonationRequestDTO();
+        request.setFaithfulId(faithfulIds[1]);
+        request.setYear(2024);
+        request.setAmount(BigDecimal.valueOf(50));
+        request.setDate(LocalDate.of(2024, 4, 1));
+        request.setContributionType("BUILDING_FUND");
+        request.setPaymentMethod("MOBILE_MONEY");
+        Long id = donationService.createDonation(request).getId();
+
+        mockMvc.perform(get("/api/donations/cube").param("groupBy", "paymentMethod").param("subParish", "Rususa"))
+                .andExpect(jsonPath("$.cells.length()").value(2))
+                .andExpect(jsonPath("$.cells[0].key[0]").value("CASH"))
+                .andExpect(jsonPath("$.cells[0].total").value(3601.50))
+                .andExpect(jsonPath("$.cells[1].key[0]").value("MOBILE_MONEY"))
+                .andExpect(jsonPath("$.cells[1].total").value(50.00));
+
+        DonationUpdateDTO update = new DonationUpdateDTO();
+        update.setAmount(BigDecimal.valueOf(75));
+        update.setPaymentMethod("BANK_TRANSFER");
+        donationService.updateDonation(id, update);
+
+        mockMvc.perform(get("/api/donations/cube").param("groupBy", "paymentMethod").param("subParish", "Rususa"))
+                .andExpect(jsonPath("$.cells.length()").value(2))
+                .andExpect(jsonPath("$.cells[0].key[0]").value("BANK_TRANSFER"))
+                .andExpect(jsonPath("$.cells[0].total").value(75.00))
+                .andExpect(jsonPath("$.donations").value(7));
+
+        donationService.deleteDonation(id);
+
+        mockMvc.perform(get("/api/donations/cube").param("type", "BUILDING_FUND"))
+                .andExpect(jsonPath("$.cells.length()").value(0))
+                .andExpect(jsonPath("$.donations").value(0));
+    }
+
+    @Test
+    void unknownDimensionsAreRejected() throws Exception {
+        mockMvc.perform(get("/api/donations/cube").param("groupBy", "colour"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/donations/cube").param("colour", "red"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,157 @@
+package org.ananie.parishManagementSystem.controllers;
+
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The register export streams the filtered faithful as CSV or XLSX from a single select.
+ */
+@SpringBootTest(properties = "parish.intentions.allocation.enabled=false")
+@AutoConfigureMockMvc
+// A context of its own; closed afterwards so its schedulers do not compete with later timing-sensitive tests
+@DirtiesContext
+class FaithfulRegisterExportTest {
+
+    private static final int FAITHFULS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @BeforeEach
+    void seed() {
+        long[] ids = idAllocator.next(Faithful.class, FAITHFULS);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < FAITHFULS; i++) {
+            // Every third faithful is in Santarali; the first one's name needs CSV quoting
+            rows.add(new Object[]{ids[i], name(i), "Paruwasi",
+                    i % 3 == 0 ? "Santarali" : "Rususa", "Bec " + i % 2,
+                    Date.valueOf(LocalDate.of(1990, 1, 1).plusDays(i)), Timestamp.valueOf(LocalDateTime.now())});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO faithfuls (id, name, parish, subparish, basic_ecclesial_community, " +
+                "date_of_baptism, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private static String name(int i) {
+        return switch (i) {
+            case 0 -> "Uwase, \"Mama\" Grace";
+            // Would be evaluated as formulas if written as they are
+            case 1 -> "-2+3";
+            case 3 -> "=HYPERLINK(\"http://example.com\")";
+            default -> "Mugisha " + i;
+        };
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM faithfuls");
+    }
+
+    @Test
+    void csvExportIsFilteredAndReadInOneSelect() throws Exception {
+        SqlStatementCounter.reset();
+        MvcResult result = mockMvc.perform(get("/api/faithful/export").param("subParish", "Santarali"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("text/csv")))
+                .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                .andExpect(header().string("Content-Disposition", containsString(".csv")))
+                .andReturn();
+
+        SqlStatementCounter.assertSelectCount(1);
+        String body = new String(result.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8);
+        List<String> lines = List.of(body.substring(1).split("\r\n"));
+        assertThat(body).startsWith("\uFEFF");
+        assertThat(lines).hasSize(1 + FAITHFULS / 3);
+        assertThat(lines.get(0)).startsWith("Id,Name,First name,");
+        assertThat(lines.get(1)).contains(",\"Uwase, \"\"Mama\"\" Grace\",", ",1990-01-01,", ",Santarali,Bec 0,");
+        assertThat(lines.get(2)).contains(",\"'=HYPERLINK(\"\"http://example.com\"\")\",");
+        assertThat(lines.subList(1, lines.size())).allMatch(line -> line.contains(",Santarali,"));
+    }
+
+    @Test
+    void xlsxExportIsAWellFormedWorkbook() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/faithful/export")
+                        .param("format", "xlsx").param("subParish", "Rususa").param("bec", "Bec 1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("application/vnd.openxmlformats")))
+                .andReturn();
+
+        Map<String, byte[]> parts = unzip(result.getResponse().getContentAsByteArray());
+        assertThat(parts).containsKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/styles.xml", "xl/worksheets/sheet1.xml");
+        for (byte[] part : parts.values()) {
+            parse(part);
+        }
+        NodeList rows = parse(parts.get("xl/worksheets/sheet1.xml")).getElementsByTagName("row");
+        // Rususa holds the faithful not divisible by three; Bec 1 the odd ones
+        long expected = IntStream.range(0, FAITHFULS).filter(i -> i % 3 != 0 && i % 2 == 1).count();
+        assertThat(rows.getLength()).isEqualTo(1 + expected);
+        assertThat(rows.item(0).getTextContent()).startsWith("IdNameFirst name");
+        Element name = (Element) ((Element) rows.item(1)).getElementsByTagName("c").item(1);
+        assertThat(name.getTextContent()).isEqualTo("-2+3");
+        assertThat(name.getAttribute("s")).isEqualTo("3");
+        Element id = (Element) ((Element) rows.item(1)).getElementsByTagName("c").item(0);
+        assertThat(id.getAttribute("s")).isEmpty();
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws Exception {
+        mockMvc.perform(get("/api/faithful/export").param("format", "pdf"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static Map<String, byte[]> unzip(byte[] content) throws Exception {
+        Map<String, byte[]> parts = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(content))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                parts.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        return parts;
+    }
+
+    private static Document parse(byte[] xml) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+    }
+}
@@ -0,0 +1,144 @@
+package org.ananie.parishManagementSystem.controllers;
+
+import com.jayway.jsonpath.JsonPath;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.service.IntentionAllocationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A celebrant preferred through the API reaches the allocator, which then skips an earlier mass by
+ * another priest for the preferred priest's mass a few days later.
+ */
+@SpringBootTest(properties = "parish.intentions.allocation.enabled=false")
+@AutoConfigureMockMvc
+// A context of its own; closed afterwards so its schedulers do not compete with later timing-sensitive tests
+@DirtiesContext
+class IntentionPreferredCelebrantTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 5, 1);
+    private static final long OTHER_PRIEST = 9_501;
+    private static final long PREFERRED_PRIEST = 9_502;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @Autowired
+    private IntentionAllocationService allocationService;
+
+    private long earlierMass;
+    private long preferredMass;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO priests (id, amazina, priest_type, created_at) " +
+                "VALUES (?, 'Padiri Yohani', 'DIOCESAN', CURRENT_TIMESTAMP), " +
+                "(?, 'Padiri Petero', 'DIOCESAN', CURRENT_TIMESTAMP)", OTHER_PRIEST, PREFERRED_PRIEST);
+        long[] massIds = idAllocator.next(Mass.class, 2);
+        earlierMass = massIds[0];
+        preferredMass = massIds[1];
+        insertMass(earlierMass, TODAY.plusDays(1), OTHER_PRIEST);
+        insertMass(preferredMass, TODAY.plusDays(4), PREFERRED_PRIEST);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM intentions");
+        jdbcTemplate.update("DELETE FROM priest_workload");
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.update("DELETE FROM priests");
+    }
+
+    @Test
+    void preferredCelebrantGivenOnCreateIsHonoured() throws Exception {
+        String body = mockMvc.perform(post("/api/intentions").with(csrf()).contentType(MediaType.APPLICATION_JSON)
+                        .content(request(PREFERRED_PRIEST)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.preferredCelebrantId").value(PREFERRED_PRIEST))
+                .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(body, "$.id")).longValue();
+
+        allocationService.allocatePendingIntentions(TODAY);
+
+        assertThat(massOf(id)).isEqualTo(preferredMass);
+    }
+
+    @Test
+    void preferredCelebrantGivenOnUpdateIsHonoured() throws Exception {
+        String body = mockMvc.perform(post("/api/intentions").with(csrf()).contentType(MediaType.APPLICATION_JSON)
+                        .content(request(null)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(body, "$.id")).longValue();
+
+        mockMvc.perform(put("/api/intentions/{id}", id).with(csrf()).contentType(MediaType.APPLICATION_JSON)
+                        .content(request(PREFERRED_PRIEST)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.preferredCelebrantId").value(PREFERRED_PRIEST));
+
+        allocationService.allocatePendingIntentions(TODAY);
+
+        assertThat(massOf(id)).isEqualTo(preferredMass);
+    }
+
+    @Test
+    void intentionsWithoutAPreferenceTakeTheEarliestMass() throws Exception {
+        String body = mockMvc.perform(post("/api/intentions").with(csrf()).contentType(MediaType.APPLICATION_JSON)
+                        .content(request(null)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(body, "$.id")).longValue();
+
+        allocationService.allocatePendingIntentions(TODAY);
+
+        assertThat(massOf(id)).isEqualTo(earlierMass);
+    }
+
+    @Test
+    void intentionsNeedARequestor() throws Exception {
+        mockMvc.perform(post("/api/intentions").with(csrf()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"intentionType\":\"THANKSGIVING\",\"intentionText\":\"Gushimira\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String request(Long preferredCelebrantId) {
+        return "{\"intentionType\":\"THANKSGIVING\",\"intentionText\":\"Gushimira\",\"requestedDate\":\"" + TODAY +
+                "\",\"externalFaithfulName\":\"Uwase\"" +
+                (preferredCelebrantId != null ? ",\"preferredCelebrantId\":" + preferredCelebrantId : "") + "}";
+    }
+
+    private void insertMass(long id, LocalDate date, long celebrant) {
+        jdbcTemplate.update("INSERT INTO events (id, title, description, event_date, location, main_celebrant_id, " +
+                "event_category, mass_type, visibility) VALUES (?, 'Misa', 'Misa', ?, 'Paruwasi', ?, 'MASS', " +
+                "'SUNDAY_MASS', false)", id, Date.valueOf(date), celebrant);
+    }
+
+    private Long massOf(long intentionId) {
+        return jdbcTemplate.queryForObject("SELECT mass_id FROM intentions WHERE id = ?", Long.class, intentionId);
+    }
+}
@@ -0,0 +1,162 @@
+package org.ananie.parishManagementSystem.controllers;
+
+import org.ananie.parishManagementSystem.entity.Donation;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.entity.LapseEvent;
+import org.ananie.parishManagementSystem.entity.Ministry;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.support.SqlStatementCounter;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the read endpoints against N+1 queries: every endpoint is called with 1, 10 and 100
+ * faithful (each with a ministry, a lapse event and a donation) and must run no more statements
+ * at 100 rows than at 10. Caching and request coalescing are off so every call reaches the database.
+ */
+@SpringBootTest(properties = {
+        "parish.statistics.cache-enabled=false",
+        "parish.statistics.coalesce-requests=false",
+        "parish.intentions.allocation.enabled=false"
+})
+@AutoConfigureMockMvc
+// A context of its own; closed afterwards so its schedulers do not compete with later timing-sensitive tests
+@DirtiesContext
+class StatementCountScalingTest {
+
+    private static final int[] SCALES = {1, 10, 100};
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final int YEAR = TODAY.getYear();
+
+    // {faithful} and {donation} are replaced with the id of a seeded row at each scale
+    private static final List<String> ENDPOINTS = List.of(
+            "/api/hello",
+            "/api/hello/greet?name=Yohani",
+            "/api/faithful",
+            "/api/faithful/{faithful}",
+            "/api/faithful/search/name?name=Uwase",
+            "/api/faithful/search/parish?parish=Paruwasi",
+            "/api/faithful/search/baptism?baptismId=SCALE-B-0",
+            "/api/faithful/search/confirmation?confirmationId=SCALE-C-0",
+            "/api/faithful/sacraments/completed",
+            "/api/faithful/stats/count",
+            "/api/faithful/search?name=Uwase",
+            "/api/faithful/{faithful}/sacrament-info",
+            "/api/donations",
+            "/api/donations?faithfulId={faithful}",
+            "/api/donations?year=" + YEAR,
+            "/api/donations?startDate=" + TODAY.withDayOfYear(1) + "&endDate=" + TODAY,
+            "/api/donations?contributionType=TITHE",
+            "/api/donations/{donation}",
+            "/api/donations/faithful/{faithful}",
+            "/api/donations/year/" + YEAR,
+            "/api/donations/statistics/faithful/{faithful}/total",
+            "/api/donations/statistics/year/" + YEAR + "/total",
+            "/api/donations/statistics/total",
+            "/api/donations/statistics/summary?startDate=" + TODAY.withDayOfYear(1) + "&endDate=" + TODAY,
+            "/api/donations/statistics/available-years",
+            "/api/donations/statistics/year/" + YEAR + "/by-type",
+            "/api/donations/statistics/year/" + YEAR + "/monthly",
+            "/api/donations/statistics/year/" + YEAR + "/top-donors?limit=10",
+            "/api/donations/statistics/by-subparish?year=" + YEAR,
+            "/api/donations/statistics/by-bec?subParish=Santarali&year=" + YEAR);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @AfterEach
+    void cleanUp() {
+        deleteAll();
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithRowCount() throws Exception {
+        Map<String, List<Long>> counts = new LinkedHashMap<>();
+        for (int scale : SCALES) {
+            deleteAll();
+            seed(scale);
+            long faithfulId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM faithfuls", Long.class);
+            long donationId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM donations", Long.class);
+
+            for (String endpoint : ENDPOINTS) {
+                String uri = endpoint.replace("{faithful}", String.valueOf(faithfulId))
+                        .replace("{donation}", String.valueOf(donationId));
+                SqlStatementCounter.reset();
+                mockMvc.perform(get(uri)).andExpect(status().isOk());
+                counts.computeIfAbsent(endpoint, e -> new ArrayList<>()).add(SqlStatementCounter.total());
+            }
+        }
+
+        SoftAssertions softly = new SoftAssertions();
+        counts.forEach((endpoint, perScale) -> softly.assertThat(perScale.get(2))
+                .as("statements for %s at %s rows: %s", endpoint, List.of(1, 10, 100), perScale)
+                .isLessThanOrEqualTo(perScale.get(1)));
+        softly.assertAll();
+    }
+
+    private void seed(int rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date birth = Date.valueOf(TODAY.minusYears(30));
+        long[] ids = idAllocator.next(Faithful.class, rows);
+        List<Object[]> faithfuls = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            faithfuls.add(new Object[]{ids[i], "Uwase " + i, birth, "SCALE-B-" + i, "SCALE-C-" + i, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO faithfuls (id, name, date_of_birth, date_of_baptism, baptism_id, " +
+                "date_of_first_communion, date_of_confirmation, confirmation_id, date_of_matrimony, parish, " +
+                "subparish, basic_ecclesial_community, created_at) " +
+                "VALUES (?, ?, ?, DATE '2000-01-01', ?, DATE '2005-01-01', DATE '2010-01-01', ?, DATE '2020-01-01', " +
+                "'Paruwasi', 'Santarali', 'Umuryangoremezo', ?)", faithfuls);
+
+        long[] ministryIds = idAllocator.next(Ministry.class, rows);
+        long[] lapseIds = idAllocator.next(LapseEvent.class, rows);
+        long[] donationIds = idAllocator.next(Donation.class, rows);
+        List<Object[]> ministries = new ArrayList<>();
+        List<Object[]> lapses = new ArrayList<>();
+        List<Object[]> donations = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            ministries.add(new Object[]{ministryIds[i], ids[i]});
+            lapses.add(new Object[]{lapseIds[i], ids[i]});
+            donations.add(new Object[]{donationIds[i], ids[i], BigDecimal.valueOf(1000), Date.valueOf(TODAY),
+                    YEAR, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO ministries (id, faithful_id, ministry_type) VALUES (?, ?, 'Umusomyi')",
+                ministries);
+        jdbcTemplate.batchUpdate("INSERT INTO lapse_events (id, faithful_id, lapse_type) VALUES (?, ?, 'other_lapsed')",
+                lapses);
+        jdbcTemplate.batchUpdate("INSERT INTO donations (id, faithful_id, amount, \"date\", \"year\", " +
+                "contribution_type, created_at) VALUES (?, ?, ?, ?, ?, 'TITHE', ?)", donations);
+    }
+
+    private void deleteAll() {
+        for (String table : List.of("donations", "ministries", "lapse_events", "faithfuls")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.ananie.parishManagementSystem.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "parish.intentions.allocation.enabled=false",
+        // Every request counts as slow, so the slow-request log can be inspected
+        "parish.profiling.slow-request-threshold=0ms"
+})
+@AutoConfigureMockMvc
+// A context of its own; closed afterwards so its schedulers do not compete with later timing-sensitive tests
+@DirtiesContext
+@AutoConfigureObservability
+class RequestQueryMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM faithfuls");
+    }
+
+    @Test
+    void requestWorkAndServiceTimingsAreExported() throws Exception {
+        long id = idAllocator.next(Faithful.class);
+        jdbcTemplate.update("INSERT INTO faithfuls (id, name, created_at) VALUES (?, 'Uwase', ?)",
+                id, Timestamp.valueOf(LocalDateTime.now()));
+        long servedBefore = getFaithfulByIdCount();
+
+        mockMvc.perform(get("/api/faithful/{id}", id)).andExpect(status().isOk());
+
+        assertThat(summary("parish.request.statements").totalAmount()).isPositive();
+        assertThat(summary("parish.request.rows").totalAmount()).isPositive();
+        assertThat(summary("parish.request.entities").totalAmount()).isPositive();
+        assertThat(getFaithfulByIdCount()).isEqualTo(servedBefore + 1);
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("parish_request_rows")))
+                .andExpect(content().string(containsString("parish_service_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_entities_loads_total")));
+    }
+
+    @Test
+    void slowRequestsAreKeptWithTheirStatementBreakdown() throws Exception {
+        long id = idAllocator.next(Faithful.class);
+        jdbcTemplate.update("INSERT INTO faithfuls (id, name, created_at) VALUES (?, 'Uwase', ?)",
+                id, Timestamp.valueOf(LocalDateTime.now()));
+        mockMvc.perform(delete("/actuator/slowrequests").with(csrf())).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/faithful/{id}", id)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/slowrequests"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.thresholdMillis").value(0))
+                .andExpect(jsonPath("$.requests.length()").value(1))
+                .andExpect(jsonPath("$.requests[0].uri").value("/api/faithful/{id}"))
+                .andExpect(jsonPath("$.requests[0].status").value(200))
+                .andExpect(jsonPath("$.requests[0].rows").value(1))
+                .andExpect(jsonPath("$.requests[0].topStatements[*].sql", hasItem(containsString("from faithfuls"))))
+                .andExpect(jsonPath("$.requests[0].topStatements[*].executions", everyItem(is(1))));
+    }
+
+    private long getFaithfulByIdCount() {
+        Timer timer = meterRegistry.find("parish.service")
+                .tag("class", "org.ananie.parishManagementSystem.service.FaithfulService")
+                .tag("method", "getFaithfulById")
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private DistributionSummary summary(String name) {
+        return meterRegistry.get(name)
+                .tag("method", "GET")
+                .tag("uri", "/api/faithful/{id}")
+                .summary();
+    }
+}
@@ -0,0 +1,133 @@
+package org.ananie.parishManagementSystem.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the plans of the old YEAR()/MONTH() predicates with the half-open ranges and stored
+ * year-month columns that replaced them, and times both shapes on the same data.
+ * Subclasses bind it to a concrete database. Runs with {@code -Pbenchmark}; the timings go to the log.
+ */
+@Slf4j
+@Tag("benchmark")
+@Import(EntityIdAllocator.class)
+abstract class AbstractDatePredicatePlanTest {
+
+    private static final int ROWS = 20_000;
+    private static final int RUNS = 20;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @BeforeEach
+    void seed() {
+        long[] eventIds = idAllocator.next(Mass.class, ROWS);
+        long[] intentionIds = idAllocator.next(Intention.class, ROWS);
+        List<Object[]> events = new ArrayList<>(ROWS);
+        List<Object[]> intentions = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate date = FIRST_DAY.plusDays(i % 10_000);
+            Date sqlDate = Date.valueOf(date);
+            events.add(new Object[]{eventIds[i], "Event " + i, "Description", sqlDate, "Church"});
+            intentions.add(new Object[]{intentionIds[i], "OTHER", "Intention " + i, sqlDate, i % 3 != 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO events (id, title, description, event_date, location, " +
+                "event_category, mass_type, visibility) VALUES (?, ?, ?, ?, ?, 'MASS', 'SUNDAY_MASS', false)", events);
+        jdbcTemplate.batchUpdate("INSERT INTO intentions (id, intention_type, intention_text, requested_date, " +
+                "is_paid) VALUES (?, ?, ?, ?, ?)", intentions);
+        refreshStatistics();
+    }
+
+    /**
+     * Statistics refresh commits implicitly on both databases, so the seed is not rolled back with the test.
+     */
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM intentions");
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.execute("COMMIT");
+    }
+
+    @Test
+    void eventYearRangeUsesDateIndex() {
+        String legacy = "SELECT id FROM events WHERE YEAR(event_date) = 2010";
+        String sargable = "SELECT id FROM events WHERE event_date >= DATE '2010-01-01' AND event_date < DATE '2011-01-01'";
+
+        compare("events by year", legacy, sargable, "idx_events_event_date");
+    }
+
+    @Test
+    void monthlyOfferingsUseYearMonthIndex() {
+        String legacy = "SELECT MONTH(requested_date), COUNT(*) FROM intentions " +
+                "WHERE YEAR(requested_date) = 2010 AND is_paid = TRUE GROUP BY MONTH(requested_date)";
+        String sargable = "SELECT MOD(requested_year_month, 100), COUNT(*) FROM intentions " +
+                "WHERE requested_year_month BETWEEN 201001 AND 201012 AND is_paid = TRUE " +
+                "GROUP BY requested_year_month";
+
+        compare("monthly offerings", legacy, sargable, "idx_intentions_requested_year_month");
+    }
+
+    private void compare(String label, String legacy, String sargable, String expectedIndex) {
+        String legacyPlan = explain(legacy);
+        String sargablePlan = explain(sargable);
+
+        assertThat(seeksIndex(sargablePlan, expectedIndex))
+                .as("%s should seek %s:%n%s", label, expectedIndex, sargablePlan).isTrue();
+        assertThat(seeksIndex(legacyPlan, expectedIndex))
+                .as("legacy %s cannot seek %s:%n%s", label, expectedIndex, legacyPlan).isFalse();
+        assertThat(jdbcTemplate.queryForList(sargable)).hasSameSizeAs(jdbcTemplate.queryForList(legacy));
+
+        log.info("[{}] {}: legacy {} us, sargable {} us", databaseName(), label,
+                averageMicros(legacy), averageMicros(sargable));
+    }
+
+    private long averageMicros(String sql) {
+        jdbcTemplate.queryForList(sql);
+        long started = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            jdbcTemplate.queryForList(sql);
+        }
+        return (System.nanoTime() - started) / RUNS / 1_000;
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql).stream()
+                .map(Map::values)
+                .map(String::valueOf)
+                .collect(Collectors.joining("\n"));
+    }
+
+    protected abstract String databaseName();
+
+    /**
+     * Updates optimizer statistics after seeding so plans reflect the data.
+     */
+    protected abstract void refreshStatistics();
+
+    /**
+     * Whether the plan uses the index as an access path with a condition,
+     * as opposed to scanning all of it.
+     */
+    protected abstract boolean seeksIndex(String plan, String index);
+}
@@ -0,0 +1,254 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.ananie.parishManagementSystem.entity.Donation;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Calls the hot repository queries, runs EXPLAIN on the SQL Hibernate generated for them, on a schema
+ * built by the migrations, and checks that each one seeks the index the migrations created for it.
+ * Subclasses bind it to a concrete database.
+ */
+@Import(EntityIdAllocator.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class AbstractQueryIndexPlanTest {
+
+    private static final int PRIESTS = 20;
+    private static final int FAITHFULS = 5_000;
+    private static final int DONATIONS = 20_000;
+    private static final int MASSES = 5_000;
+    private static final int INTENTIONS = 10_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MassRepository massRepository;
+
+    @Autowired
+    private IntentionRepository intentionRepository;
+
+    @Autowired
+    private FaithfulRepository faithfulRepository;
+
+    private long[] faithfulIds;
+
+    private long[] priestIds;
+
+    /**
+     * Seeded once outside the test transactions, since refreshing statistics commits anyway.
+     */
+    @BeforeAll
+    void seed() {
+        priestIds = new long[PRIESTS];
+        List<Object[]> priests = new ArrayList<>(PRIESTS);
+        for (int i = 0; i < PRIESTS; i++) {
+            priestIds[i] = 9_100 + i;
+            priests.add(new Object[]{priestIds[i], "Padiri " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO priests (id, amazina, priest_type, created_at) " +
+                "VALUES (?, ?, 'DIOCESAN', CURRENT_TIMESTAMP)", priests);
+
+        faithfulIds = idAllocator.next(Faithful.class, FAITHFULS);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> faithfuls = new ArrayList<>(FAITHFULS);
+        for (int i = 0; i < FAITHFULS; i++) {
+            int subparish = i % 100;
+            faithfuls.add(new Object[]{faithfulIds[i], "Faithful " + i, "Parish " + i % 50, "Subparish " + subparish,
+                    "Bec " + subparish + "-" + i / 100 % 20, i % 2 == 0 ? "S" + i : null, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO faithfuls (id, name, parish, subparish, basic_ecclesial_community, " +
+                "spouse_baptism_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", faithfuls);
+
+        long[] donationIds = idAllocator.next(Donation.class, DONATIONS);
+        List<Object[]> donations = new ArrayList<>(DONATIONS);
+        for (int i = 0; i < DONATIONS; i++) {
+            LocalDate date = FIRST_DAY.plusDays(i % 7_000);
+            donations.add(new Object[]{donationIds[i], faithfulIds[i % FAITHFULS], BigDecimal.valueOf(500 + i % 100),
+                    Date.valueOf(date), date.getYear(), "Type " + i % 20, now});
+        }
+        jdbcTemplate.batchUpdate(sql("INSERT INTO donations (id, faithful_id, amount, {date}, {year}, " +
+                "contribution_type, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)"), donations);
+
+        long[] massIds = idAllocator.next(Mass.class, MASSES);
+        List<Object[]> masses = new ArrayList<>(MASSES);
+        for (int i = 0; i < MASSES; i++) {
+            masses.add(new Object[]{massIds[i], "Misa " + i, Date.valueOf(FIRST_DAY.plusDays(i)), priestIds[i % PRIESTS]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO events (id, title, description, event_date, location, main_celebrant_id, " +
+                "event_category, mass_type, visibility) VALUES (?, ?, 'Misa', ?, 'Paruwasi', ?, 'MASS', 'SUNDAY_MASS', false)",
+                masses);
+
+        long[] intentionIds = idAllocator.next(Intention.class, INTENTIONS);
+        List<Object[]> intentions = new ArrayList<>(INTENTIONS);
+        for (int i = 0; i < INTENTIONS; i++) {
+            LocalDate date = FIRST_DAY.plusDays(i % 7_000);
+            intentions.add(new Object[]{intentionIds[i], "Intention " + i, Date.valueOf(date), i % 20 != 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO intentions (id, intention_type, intention_text, requested_date, " +
+                "is_paid) VALUES (?, 'OTHER', ?, ?, ?)", intentions);
+
+        refreshStatistics();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM intentions");
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.update("DELETE FROM donations");
+        jdbcTemplate.update("DELETE FROM faithfuls");
+        jdbcTemplate.update("DELETE FROM priests");
+    }
+
+    /**
+     * Each hot query as the application calls it, the values of its bind parameters in the order they
+     * appear in the generated SQL, and the index it should seek.
+     */
+    Stream<Arguments> hotQueries() {
+        long faithfulId = faithfulIds[42];
+        long priestId = priestIds[7];
+        LocalDate march2010 = LocalDate.of(2010, 3, 1);
+        return Stream.of(
+                hotQuery("DonationRepository.findByDateBetween",
+                        () -> donationRepository.findByDateBetween(march2010, march2010.plusMonths(1).minusDays(1)),
+                        List.of(march2010, march2010.plusMonths(1).minusDays(1)),
+                        "idx_donations_date"),
+                hotQuery("DonationRepository.findByFaithfulIdAndDateBetween",
+                        () -> donationRepository.findByFaithfulIdAndDateBetween(faithfulId,
+                                LocalDate.of(2001, 1, 1), LocalDate.of(2001, 12, 31)),
+                        List.of(faithfulId, LocalDate.of(2001, 1, 1), LocalDate.of(2001, 12, 31)),
+                        "idx_donations_faithful_date"),
+                hotQuery("DonationRepository.findByContributionTypeAndDateBetween",
+                        () -> donationRepository.findByContributionTypeAndDateBetween("Type 3",
+                                LocalDate.of(2010, 1, 1), LocalDate.of(2010, 12, 31)),
+                        List.of("Type 3", LocalDate.of(2010, 1, 1), LocalDate.of(2010, 12, 31)),
+                        "idx_donations_type_date"),
+                hotQuery("DonationRepository.getTotalsByBecInSubParish",
+                        () -> donationRepository.getTotalsByBecInSubParish("Subparish 7"),
+                        List.of("Subparish 7"),
+                        "idx_faithfuls_subparish_bec"),
+                hotQuery("DonationRepository.getTotalsByBecInSubParishInYear",
+                        () -> donationRepository.getTotalsByBecInSubParishInYear("Subparish 7", 2010),
+                        List.of(2010, "Subparish 7"),
+                        "idx_faithfuls_subparish_bec"),
+                hotQuery("EventRepository.findByEventDateBetween",
+                        () -> eventRepository.findByEventDateBetween(LocalDate.of(2005, 3, 1), LocalDate.of(2005, 3, 31)),
+                        List.of(LocalDate.of(2005, 3, 1), LocalDate.of(2005, 3, 31)),
+                        "idx_events_event_date"),
+                hotQuery("MassRepository.countMassesByPriestInPeriod",
+                        () -> massRepository.countMassesByPriestInPeriod(priestId,
+                                LocalDate.of(2005, 1, 1), LocalDate.of(2005, 12, 31)),
+                        List.of(priestId, LocalDate.of(2005, 1, 1), LocalDate.of(2005, 12, 31)),
+                        "idx_events_celebrant_date"),
+                hotQuery("IntentionRepository.findByRequestedDateBetween",
+                        () -> intentionRepository.findByRequestedDateBetween(march2010, LocalDate.of(2010, 3, 31)),
+                        List.of(march2010, LocalDate.of(2010, 3, 31)),
+                        "idx_intentions_requested_date"),
+                hotQuery("IntentionRepository.findUnpaidSummaries",
+                        () -> intentionRepository.findUnpaidSummaries(PageRequest.of(0, 20)),
+                        List.of(20),
+                        "idx_intentions_paid_requested"),
+                hotQuery("FaithfulRepository.findBySubparish",
+                        () -> faithfulRepository.findBySubparish("Subparish 7"),
+                        List.of("Subparish 7"),
+                        "idx_faithfuls_subparish_bec"),
+                hotQuery("FaithfulRepository.findByBasicEcclesialCommunity",
+                        () -> faithfulRepository.findByBasicEcclesialCommunity("Bec 7-3"),
+                        List.of("Bec 7-3"),
+                        "idx_faithfuls_bec"),
+                hotQuery("FaithfulRepository.findByParish",
+                        () -> faithfulRepository.findByParish("Parish 7"),
+                        List.of("Parish 7"),
+                        "idx_faithfuls_parish"),
+                hotQuery("FaithfulRepository.findBySpouseBaptismId",
+                        () -> faithfulRepository.findBySpouseBaptismId("S42"),
+                        List.of("S42"),
+                        "idx_faithfuls_spouse_baptism_id"),
+                hotQuery("FaithfulRepository.findByName",
+                        () -> faithfulRepository.findByName("Faithful 42"),
+                        List.of("Faithful 42"),
+                        "idx_faithfuls_name"));
+    }
+
+    private static Arguments hotQuery(String query, Runnable call, List<Object> parameters, String index) {
+        return Arguments.of(query, call, parameters, index);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQuerySeeksIndex(String query, Runnable call, List<Object> parameters, String index) {
+        // The first statement is the query itself; a page may be followed by its count query
+        List<String> statements = SqlStatementCounter.capture(call);
+        assertThat(statements).as("[%s] %s executed no SQL", databaseName(), query).isNotEmpty();
+        String sql = statements.get(0);
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("[%s] bind parameters of %s", databaseName(), sql).isEqualTo(parameters.size());
+
+        String plan = explain(sql, parameters);
+
+        assertThat(seeksIndex(plan, index))
+                .as("[%s] %s should seek %s:%n%s%n%s", databaseName(), query, index, sql, plan).isTrue();
+    }
+
+    private String explain(String sql, List<Object> parameters) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, parameters.toArray()).stream()
+                .map(Map::values)
+                .map(String::valueOf)
+                .collect(Collectors.joining("\n"));
+    }
+
+    // {date} and {year} stand for the quoted keyword columns
+    private String sql(String template) {
+        String quote = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getIdentifierQuoteString());
+        return template.replace("{date}", quote + "date" + quote).replace("{year}", quote + "year" + quote);
+    }
+
+    protected abstract String databaseName();
+
+    /**
+     * Updates optimizer statistics after seeding so plans reflect the data.
+     */
+    protected abstract void refreshStatistics();
+
+    /**
+     * Whether the plan uses the index as an access path with a condition,
+     * as opposed to scanning all of it.
+     */
+    protected abstract boolean seeksIndex(String plan, String index);
+}
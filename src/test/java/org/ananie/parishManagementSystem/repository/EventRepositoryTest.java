@@ -0,0 +1,75 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.ananie.parishManagementSystem.dto.response.DashboardCountsDTO;
+import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.entity.Priest;
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.ananie.parishManagementSystem.utilities.MassType;
+import org.ananie.parishManagementSystem.utilities.PriestType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class EventRepositoryTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+    private static final LocalDate END = LocalDate.of(2025, 3, 31);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void dashboardCountsComeFromOneRow() {
+        Priest priest = new Priest();
+        priest.setId(1L);
+        priest.setNames("Padiri Yohani");
+        priest.setPriestType(PriestType.DIOCESAN);
+        entityManager.persist(priest);
+
+        entityManager.persist(mass(START.plusDays(1), priest));
+        entityManager.persist(mass(START.plusDays(9), priest));
+        entityManager.persist(mass(END.plusDays(1), priest));
+
+        entityManager.persist(intention(IntentionType.DECEASED, START.plusDays(2)));
+        entityManager.persist(intention(IntentionType.SICK, START.plusDays(3)));
+        entityManager.persist(intention(IntentionType.DECEASED, END.plusDays(3)));
+        entityManager.flush();
+
+        DashboardCountsDTO counts = eventRepository.getDashboardCounts(START, END, START.plusDays(9));
+
+        assertThat(counts.getTotalEvents()).isEqualTo(2);
+        assertThat(counts.getMassesToday()).isEqualTo(1);
+        assertThat(counts.getTotalPriests()).isEqualTo(1);
+        assertThat(counts.getTotalIntentions()).isEqualTo(2);
+        assertThat(counts.getDeceasedIntentions()).isEqualTo(1);
+    }
+
+    private Mass mass(LocalDate date, Priest celebrant) {
+        Mass mass = new Mass();
+        mass.setTitle("Misa");
+        mass.setDescription("Misa");
+        mass.setLocation("Paruwasi");
+        mass.setMassType(MassType.SUNDAY_MASS);
+        mass.setEventDate(date);
+        mass.setMainCelebrant(celebrant);
+        return mass;
+    }
+
+    private Intention intention(IntentionType type, LocalDate requestedDate) {
+        Intention intention = new Intention();
+        intention.setIntentionType(type);
+        intention.setIntentionText("Intention");
+        intention.setRequestedDate(requestedDate);
+        return intention;
+    }
+}
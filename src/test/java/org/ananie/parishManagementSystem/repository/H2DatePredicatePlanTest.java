@@ -0,0 +1,27 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.regex.Pattern;
+
+@DataJpaTest
+class H2DatePredicatePlanTest extends AbstractDatePredicatePlanTest {
+
+    @Override
+    protected String databaseName() {
+        return "H2";
+    }
+
+    @Override
+    protected void refreshStatistics() {
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * H2 prints the chosen index as a comment, followed by ": condition" when it seeks on it.
+     */
+    @Override
+    protected boolean seeksIndex(String plan, String index) {
+        return Pattern.compile("/\\* PUBLIC\\." + index + ": ", Pattern.CASE_INSENSITIVE).matcher(plan).find();
+    }
+}
@@ -0,0 +1,59 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.entity.LapseEvent;
+import org.ananie.parishManagementSystem.entity.Ministry;
+import org.ananie.parishManagementSystem.support.SqlStatementCounter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * With sequence ids, new faithful and their ministries and lapse events reach the database as
+ * one JDBC batch per table instead of one INSERT per row.
+ */
+@DataJpaTest
+class InsertBatchingTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    void faithfulWithChildrenIsInsertedInOneBatchPerTable(int faithfuls) {
+        SqlStatementCounter.reset();
+        for (int i = 0; i < faithfuls; i++) {
+            entityManager.persist(faithful("Uwase " + i, 3));
+        }
+        entityManager.flush();
+
+        // faithfuls, ministries, lapse events: at most 50 rows each, the JDBC batch size
+        SqlStatementCounter.assertInsertCount(3);
+    }
+
+    private Faithful faithful(String name, int children) {
+        Faithful faithful = new Faithful();
+        faithful.setName(name);
+        List<Ministry> ministries = new ArrayList<>();
+        List<LapseEvent> lapseEvents = new ArrayList<>();
+        for (int i = 0; i < children; i++) {
+            Ministry ministry = new Ministry();
+            ministry.setMinistryType("Umusomyi");
+            ministry.setFaithful(faithful);
+            ministries.add(ministry);
+
+            LapseEvent lapseEvent = new LapseEvent();
+            lapseEvent.setLapseType("other_lapsed");
+            lapseEvent.setFaithful(faithful);
+            lapseEvents.add(lapseEvent);
+        }
+        faithful.setMinistries(ministries);
+        faithful.setLapseEvents(lapseEvents);
+        return faithful;
+    }
+}
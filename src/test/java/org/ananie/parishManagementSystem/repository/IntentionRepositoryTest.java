@@ -0,0 +1,73 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.ananie.parishManagementSystem.dto.response.IntentionListResponseDTO;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class IntentionRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private IntentionRepository intentionRepository;
+
+    @Test
+    void unpaidSummariesResolveRequestorWithoutLoadingEntities() {
+        Faithful faithful = new Faithful();
+        faithful.setName("Mukamana");
+        entityManager.persist(faithful);
+
+        entityManager.persist(intention(IntentionType.DECEASED, false, faithful, null, LocalDate.of(2025, 1, 2)));
+        entityManager.persist(intention(IntentionType.SICK, false, null, "Visitor", LocalDate.of(2025, 1, 1)));
+        entityManager.persist(intention(IntentionType.OTHER, true, faithful, null, LocalDate.of(2025, 1, 3)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(intentionRepository.countByIsPaidFalse()).isEqualTo(2);
+
+        Page<IntentionListResponseDTO> page = intentionRepository.findUnpaidSummaries(PageRequest.of(0, 10));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent())
+                .extracting(IntentionListResponseDTO::getRequestorName)
+                .containsExactly("Visitor", "Mukamana");
+        assertThat(page.getContent().get(1).getIntentionType()).isEqualTo("DECEASED");
+    }
+
+    @Test
+    void monthlyCountsAreGroupedOnStoredYearMonth() {
+        entityManager.persist(intention(IntentionType.DECEASED, true, null, "A", LocalDate.of(2024, 12, 31)));
+        entityManager.persist(intention(IntentionType.SICK, false, null, "B", LocalDate.of(2025, 1, 1)));
+        entityManager.persist(intention(IntentionType.OTHER, true, null, "C", LocalDate.of(2025, 1, 31)));
+        entityManager.persist(intention(IntentionType.OTHER, true, null, "D", LocalDate.of(2025, 3, 15)));
+        entityManager.flush();
+
+        assertThat(intentionRepository.countIntentionsByYearMonth(202501, 202512))
+                .extracting(row -> row[0] + ":" + row[1] + ":" + ((Number) row[2]).longValue())
+                .containsExactlyInAnyOrder("202501:2:1", "202503:1:1");
+    }
+
+    private Intention intention(IntentionType type, boolean paid, Faithful faithful, String externalName,
+                                LocalDate requestedDate) {
+        Intention intention = new Intention();
+        intention.setIntentionType(type);
+        intention.setIntentionText("Intention");
+        intention.setPaid(paid);
+        intention.setFaithful(faithful);
+        intention.setExternalFaithfulName(externalName);
+        intention.setRequestedDate(requestedDate);
+        return intention;
+    }
+}
@@ -0,0 +1,115 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.entity.Priest;
+import org.ananie.parishManagementSystem.support.SqlStatementCounter;
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.ananie.parishManagementSystem.utilities.MassType;
+import org.ananie.parishManagementSystem.utilities.PriestType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Walking the lazy associations of a page of masses (celebrants, intentions and their requesters)
+ * and of faithful (ministries, lapse events) must cost a fixed number of selects, however many
+ * rows are loaded.
+ */
+@DataJpaTest
+class LazyAssociationFetchTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MassRepository massRepository;
+
+    @Autowired
+    private FaithfulRepository faithfulRepository;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void massAssociationsLoadInFixedNumberOfSelects(int masses) {
+        List<Priest> priests = List.of(priest(1L), priest(2L), priest(3L));
+        for (int i = 0; i < masses; i++) {
+            Mass mass = new Mass();
+            mass.setTitle("Misa " + i);
+            mass.setDescription("Misa");
+            mass.setLocation("Paruwasi");
+            mass.setMassType(MassType.WEEK_DAY_MASS);
+            mass.setEventDate(LocalDate.of(2025, 3, 1).plusDays(i));
+            mass.setMainCelebrant(priests.get(i % 3));
+            mass.setConcelebrants(new ArrayList<>(List.of(priests.get((i + 1) % 3))));
+            entityManager.persist(mass);
+            intention(mass, faithful("Uwase " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementCounter.reset();
+        int touched = 0;
+        for (Mass mass : massRepository.findAll()) {
+            touched += mass.getMainCelebrant().getNames().length() + mass.getConcelebrants().size();
+            for (Intention intention : mass.getIntentions()) {
+                touched += intention.getFaithful().getName().length();
+            }
+        }
+
+        assertThat(touched).isPositive();
+        // masses, main celebrants, concelebrants, intentions, requesters
+        SqlStatementCounter.assertSelectCount(5);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void faithfulCollectionsLoadInFixedNumberOfSelects(int faithfuls) {
+        for (int i = 0; i < faithfuls; i++) {
+            faithful("Uwase " + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementCounter.reset();
+        for (Faithful faithful : faithfulRepository.findAll()) {
+            faithful.getMinistries().size();
+            faithful.getLapseEvents().size();
+        }
+
+        // faithful, ministries, lapse events
+        SqlStatementCounter.assertSelectCount(3);
+    }
+
+    private Priest priest(Long id) {
+        Priest priest = new Priest();
+        priest.setId(id);
+        priest.setNames("Padiri " + id);
+        priest.setPriestType(PriestType.DIOCESAN);
+        return entityManager.persist(priest);
+    }
+
+    private Faithful faithful(String name) {
+        Faithful faithful = new Faithful();
+        faithful.setName(name);
+        return entityManager.persist(faithful);
+    }
+
+    private void intention(Mass mass, Faithful faithful) {
+        Intention intention = new Intention();
+        intention.setIntentionType(IntentionType.THANKSGIVING);
+        intention.setIntentionText("Gushimira");
+        intention.setRequestedDate(mass.getEventDate());
+        intention.setMass(mass);
+        intention.setFaithful(faithful);
+        entityManager.persist(intention);
+    }
+}
@@ -0,0 +1,50 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.regex.Pattern;
+
+/**
+ * Same checks against a real MySQL schema built by the mysql migrations; skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class MySqlQueryIndexPlanTest extends AbstractQueryIndexPlanTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Override
+    protected String databaseName() {
+        return "MySQL";
+    }
+
+    @Override
+    protected void refreshStatistics() {
+        jdbcTemplate.execute("ANALYZE TABLE faithfuls, donations, events, intentions");
+    }
+
+    /**
+     * EXPLAIN rows are printed as "{id=1, select_type=SIMPLE, table=..., type=range, ..., key=idx_..., ...}";
+     * a seek shows up as access type range or ref on the expected key.
+     */
+    @Override
+    protected boolean seeksIndex(String plan, String index) {
+        return Pattern.compile("type=(range|ref)\\b.*key=" + index + "\\b", Pattern.CASE_INSENSITIVE)
+                .matcher(plan).find();
+    }
+}
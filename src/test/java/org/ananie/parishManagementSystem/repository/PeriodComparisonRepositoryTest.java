@@ -0,0 +1,92 @@
+package org.ananie.parishManagementSystem.repository;
+
+import org.ananie.parishManagementSystem.entity.Donation;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.ananie.parishManagementSystem.utilities.MassType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PeriodComparisonRepository.class)
+class PeriodComparisonRepositoryTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+    private static final LocalDate APRIL = LocalDate.of(2025, 4, 1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PeriodComparisonRepository periodComparisonRepository;
+
+    @Test
+    void countsEveryMetricForEveryPeriodInOneQuery() {
+        Faithful faithful = new Faithful();
+        faithful.setName("Mukamana");
+        entityManager.persist(faithful);
+
+        entityManager.persist(mass(MARCH.plusDays(2)));
+        entityManager.persist(mass(APRIL.plusDays(5)));
+        entityManager.persist(mass(APRIL.plusDays(6)));
+        entityManager.persist(intention(MARCH.plusDays(30)));
+        entityManager.persist(donation(faithful, APRIL.plusDays(1), "1500.00"));
+        entityManager.persist(donation(faithful, APRIL.plusDays(2), "500.50"));
+        entityManager.flush();
+
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = periodComparisonRepository.countByPeriod(List.of(
+                new LocalDate[]{MARCH, MARCH.plusMonths(1).minusDays(1)},
+                new LocalDate[]{APRIL, APRIL.plusMonths(1).minusDays(1)},
+                new LocalDate[]{MARCH, APRIL.plusMonths(1).minusDays(1)},
+                new LocalDate[]{today, today}));
+
+        List<String> summary = rows.stream()
+                .map(row -> row[0] + ":" + row[1] + "=" + row[2] + (row[3] != null ? "/" + row[3] : ""))
+                .collect(Collectors.toList());
+        assertThat(summary).hasSize(16).contains(
+                "0:MASSES=1", "1:MASSES=2", "2:MASSES=3",
+                "0:INTENTIONS=1", "1:INTENTIONS=0",
+                "0:DONATIONS=0/0", "1:DONATIONS=2/2000.50",
+                "2:NEW_FAITHFUL=0", "3:NEW_FAITHFUL=1");
+    }
+
+    private Mass mass(LocalDate date) {
+        Mass mass = new Mass();
+        mass.setTitle("Misa");
+        mass.setDescription("Misa");
+        mass.setLocation("Paruwasi");
+        mass.setMassType(MassType.SUNDAY_MASS);
+        mass.setEventDate(date);
+        return mass;
+    }
+
+    private Intention intention(LocalDate requestedDate) {
+        Intention intention = new Intention();
+        intention.setIntentionType(IntentionType.OTHER);
+        intention.setIntentionText("Intention");
+        intention.setRequestedDate(requestedDate);
+        return intention;
+    }
+
+    private Donation donation(Faithful faithful, LocalDate date, String amount) {
+        Donation donation = new Donation();
+        donation.setFaithful(faithful);
+        donation.setYear(date.getYear());
+        donation.setDate(date);
+        donation.setAmount(new BigDecimal(amount));
+        return donation;
+    }
+}
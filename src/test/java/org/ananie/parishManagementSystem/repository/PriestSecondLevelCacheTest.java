@@ -0,0 +1,127 @@
+package org.ananie.parishManagementSystem.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.entity.Priest;
+import org.ananie.parishManagementSystem.support.SqlStatementCounter;
+import org.ananie.parishManagementSystem.utilities.PriestType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Priests are served from the second-level and query cache once read, and writes through
+ * Hibernate invalidate what was cached.
+ */
+@SpringBootTest(properties = "parish.intentions.allocation.enabled=false")
+@DirtiesContext
+class PriestSecondLevelCacheTest {
+
+    @Autowired
+    private PriestRepository priestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        priestRepository.saveAll(List.of(priest(9001L, PriestType.DIOCESAN), priest(9002L, PriestType.RELIGIOUS)));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM events");
+        priestRepository.deleteAll();
+    }
+
+    @Test
+    void priestLookupsAreServedFromCache() {
+        priestRepository.findById(9001L).orElseThrow();
+        priestRepository.findAllById(List.of(9001L, 9002L));
+        priestRepository.findByPriestType(PriestType.DIOCESAN);
+
+        SqlStatementCounter.reset();
+        assertThat(priestRepository.findById(9001L)).isPresent();
+        assertThat(priestRepository.findAllById(List.of(9001L, 9002L))).hasSize(2);
+        assertThat(priestRepository.findByPriestType(PriestType.DIOCESAN)).extracting(Priest::getId).containsExactly(9001L);
+
+        SqlStatementCounter.assertSelectCount(0);
+        assertThat(statistics.getDomainDataRegionStatistics("priests").getHitCount()).isPositive();
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void writesInvalidateCachedQueryResults() {
+        assertThat(priestRepository.findByPriestType(PriestType.DIOCESAN)).hasSize(1);
+
+        priestRepository.save(priest(9003L, PriestType.DIOCESAN));
+
+        assertThat(priestRepository.findByPriestType(PriestType.DIOCESAN)).hasSize(2);
+    }
+
+    @Test
+    void assignedPriestsAreCountedByOneCachedQuery() {
+        Priest retired = priest(9003L, PriestType.RETIRED);
+        retired.setAssigned(false);
+        priestRepository.save(retired);
+
+        SqlStatementCounter.reset();
+        assertThat(priestRepository.countByIsAssignedTrue()).isEqualTo(2);
+        assertThat(priestRepository.countByIsAssignedTrue()).isEqualTo(2);
+
+        SqlStatementCounter.assertSelectCount(1);
+    }
+
+    @Test
+    void celebratingPriestsAreCountedByOneQuery() {
+        LocalDate march = LocalDate.of(2030, 3, 1);
+        long[] ids = idAllocator.next(Mass.class, 4);
+        // 9001 celebrates twice in March, 9002 once in March and once in April
+        insertMass(ids[0], march.plusDays(2), 9001L);
+        insertMass(ids[1], march.plusDays(9), 9001L);
+        insertMass(ids[2], march.plusDays(16), 9002L);
+        insertMass(ids[3], march.plusMonths(1), 9002L);
+
+        SqlStatementCounter.reset();
+        assertThat(priestRepository.countPriestsCelebratingInPeriod(march, march.plusMonths(1).minusDays(1))).isEqualTo(2);
+        assertThat(priestRepository.countPriestsCelebratingInPeriod(march.plusMonths(1), march.plusMonths(2))).isEqualTo(1);
+
+        SqlStatementCounter.assertSelectCount(2);
+    }
+
+    private void insertMass(long id, LocalDate date, long celebrant) {
+        jdbcTemplate.update("INSERT INTO events (id, title, description, event_date, location, main_celebrant_id, " +
+                "event_category, mass_type, visibility) VALUES (?, 'Misa', 'Misa', ?, 'Paruwasi', ?, 'MASS', " +
+                "'SUNDAY_MASS', false)", id, Date.valueOf(date), celebrant);
+    }
+
+    private Priest priest(Long id, PriestType type) {
+        Priest priest = new Priest();
+        priest.setId(id);
+        priest.setNames("Padiri " + id);
+        priest.setPriestType(type);
+        return priest;
+    }
+}
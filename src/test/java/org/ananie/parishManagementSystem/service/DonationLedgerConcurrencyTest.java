@@ -0,0 +1,206 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.configurations.DonationLedgerConfiguration;
+import org.ananie.parishManagementSystem.entity.Donation;
+import org.ananie.parishManagementSystem.entity.DonationLedgerEntry;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.repository.DonationRepository;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.repository.FaithfulRepository;
+import org.ananie.parishManagementSystem.utilities.LedgerEntryType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Donations recorded at the same time for one faithful and year all commit, numbered one after the other,
+ * and a donation entered by a live update while the backfill runs is not entered twice.
+ */
+@DataJpaTest
+@Import({EntityIdAllocator.class, DonationLedger.class, DonationLedgerConfiguration.class})
+// Every clerk commits in a transaction of their own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DonationLedgerConcurrencyTest {
+
+    private static final int YEAR = 2024;
+    private static final int CLERKS = 6;
+
+    @Autowired
+    private DonationLedger ledger;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private FaithfulRepository faithfulRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long faithfulId;
+
+    @BeforeEach
+    void setUp() {
+        faithfulId = idAllocator.next(Faithful.class);
+        jdbcTemplate.update("INSERT INTO faithfuls (id, name, parish, created_at) VALUES (?, 'Mugisha', 'Paruwasi', ?)",
+                faithfulId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM donation_ledger_streams");
+        jdbcTemplate.update("DELETE FROM donation_ledger");
+        jdbcTemplate.update("DELETE FROM donations");
+        jdbcTemplate.update("DELETE FROM faithfuls");
+    }
+
+    @Test
+    void concurrentAppendsToOneStreamAllCommit() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clerks = Executors.newFixedThreadPool(CLERKS);
+        try {
+            List<Future<?>> recorded = new ArrayList<>();
+            for (int i = 0; i < CLERKS; i++) {
+                long amount = 100L * (i + 1);
+                recorded.add(clerks.submit(() -> {
+                    start.await();
+                    return transaction.execute(status -> {
+                        ledger.recordCreated(donate(amount));
+                        // Keeps the transaction open while the other clerks append to the same stream
+                        sleep();
+                        return null;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<?> clerk : recorded) {
+                clerk.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            clerks.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForList("SELECT stream_version FROM donation_ledger WHERE faithful_id = ? " +
+                "ORDER BY stream_version", Integer.class, faithfulId))
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, CLERKS).boxed().toList());
+
+        // The backfill carries on from the stream's head
+        long donationId = idAllocator.next(Donation.class);
+        jdbcTemplate.update("INSERT INTO donations (id, faithful_id, amount, \"date\", \"year\", " +
+                        "contribution_type, created_at) VALUES (?, ?, 50, ?, ?, 'TITHE', ?)",
+                donationId, faithfulId, Date.valueOf(LocalDate.of(YEAR, 6, 1)), YEAR, Timestamp.valueOf(LocalDateTime.now()));
+        assertThat(ledger.recordUnledgeredDonations()).isEqualTo(1);
+
+        DonationLedger.Balance balance = ledger.balance(faithfulId, YEAR);
+        assertThat(balance.version()).isEqualTo(CLERKS + 1);
+        assertThat(balance.donations()).isEqualTo(CLERKS + 1);
+        assertThat(balance.total()).isEqualByComparingTo(BigDecimal.valueOf(100L * CLERKS * (CLERKS + 1) / 2 + 50));
+    }
+
+    @Test
+    void donationUpdatedWhileTheBackfillRunsIsEnteredOnce() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // The stream exists, so the backfill waits on its head instead of failing to start it
+        transaction.executeWithoutResult(status -> ledger.recordCreated(donate(100)));
+        long donationId = idAllocator.next(Donation.class);
+        jdbcTemplate.update("INSERT INTO donations (id, faithful_id, amount, \"date\", \"year\", " +
+                        "contribution_type, created_at) VALUES (?, ?, 50, ?, ?, 'TITHE', ?)",
+                donationId, faithfulId, Date.valueOf(LocalDate.of(YEAR, 6, 1)), YEAR, Timestamp.valueOf(LocalDateTime.now()));
+
+        CountDownLatch updated = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> update = threads.submit(() -> transaction.executeWithoutResult(status -> {
+                Donation donation = donationRepository.findById(donationId).orElseThrow();
+                DonationLedger.Position before = DonationLedger.Position.of(donation);
+                donation.setAmount(BigDecimal.valueOf(80));
+                ledger.recordAdjusted(before, donationRepository.save(donation));
+                updated.countDown();
+                await(commit);
+            }));
+            assertThat(updated.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // The backfill reads the donation as not entered yet, then waits for the update's head lock
+            Future<Integer> backfill = threads.submit(ledger::recordUnledgeredDonations);
+            awaitBlockedSession();
+            commit.countDown();
+            update.get(30, TimeUnit.SECONDS);
+            assertThat(backfill.get(30, TimeUnit.SECONDS)).isZero();
+        } finally {
+            threads.shutdownNow();
+        }
+
+        assertThat(ledger.history(donationId)).extracting(DonationLedgerEntry::getEntryType)
+                .containsExactly(LedgerEntryType.CREATED, LedgerEntryType.ADJUSTED);
+        DonationLedger.Balance balance = ledger.balance(faithfulId, YEAR);
+        assertThat(balance.donations()).isEqualTo(2);
+        assertThat(balance.total()).isEqualByComparingTo(BigDecimal.valueOf(180));
+    }
+
+    private Donation donate(long amount) {
+        Donation donation = new Donation();
+        donation.setFaithful(faithfulRepository.getReferenceById(faithfulId));
+        donation.setYear(YEAR);
+        donation.setAmount(BigDecimal.valueOf(amount));
+        donation.setDate(LocalDate.of(YEAR, 6, 1));
+        donation.setContributionType("TITHE");
+        return donationRepository.save(donation);
+    }
+
+    private void awaitBlockedSession() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS " +
+                "WHERE BLOCKER_ID IS NOT NULL", Integer.class) == 0) {
+            assertThat(System.nanoTime()).as("a session waiting for a lock").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.configurations.DonationLedgerConfiguration;
+import org.ananie.parishManagementSystem.entity.Donation;
+import org.ananie.parishManagementSystem.entity.DonationLedgerEntry;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.repository.DonationRepository;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.repository.FaithfulRepository;
+import org.ananie.parishManagementSystem.service.DonationLedger.Balance;
+import org.ananie.parishManagementSystem.support.SqlStatementCounter;
+import org.ananie.parishManagementSystem.utilities.LedgerEntryType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * The ledger keeps every change to a donation, and a faithful's balance for a year read as
+ * snapshot plus tail matches a replay of the whole stream.
+ */
+@DataJpaTest
+@Import({EntityIdAllocator.class, DonationLedger.class, DonationLedgerConfiguration.class})
+class DonationLedgerTest {
+
+    private static final int YEAR = 2024;
+
+    @Autowired
+    private DonationLedger ledger;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private FaithfulRepository faithfulRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    private long faithfulId;
+
+    @BeforeEach
+    void setUp() {
+        faithfulId = idAllocator.next(Faithful.class);
+        jdbcTemplate.update("INSERT INTO faithfuls (id, name, parish, created_at) VALUES (?, 'Mugisha', 'Paruwasi', ?)",
+                faithfulId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Test
+    void adjustmentsAndVoidsStayInTheHistory() {
+        Donation donation = donate(YEAR, 500);
+
+        DonationLedger.Position before = DonationLedger.Position.of(donation);
+        donation.setAmount(BigDecimal.valueOf(700));
+        ledger.recordAdjusted(before, donationRepository.save(donation));
+
+        // Moved to the following contribution year: leaves one stream and joins the other
+        before = DonationLedger.Position.of(donation);
+        donation.setYear(YEAR + 1);
+        ledger.recordAdjusted(before, donationRepository.save(donation));
+
+        ledger.recordVoided(donation);
+        donationRepository.delete(donation);
+
+        List<DonationLedgerEntry> history = ledger.history(donation.getId());
+        assertThat(history).extracting(DonationLedgerEntry::getEntryType).containsExactly(LedgerEntryType.CREATED,
+                LedgerEntryType.ADJUSTED, LedgerEntryType.ADJUSTED, LedgerEntryType.ADJUSTED, LedgerEntryType.VOIDED);
+        assertThat(history).extracting(DonationLedgerEntry::getAmountDelta)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.valueOf(500), BigDecimal.valueOf(200), BigDecimal.valueOf(-700),
+                        BigDecimal.valueOf(700), BigDecimal.valueOf(-700));
+
+        assertThat(ledger.balance(faithfulId, YEAR))
+                .satisfies(balance -> assertThat(balance.total()).isZero())
+                .satisfies(balance -> assertThat(balance.donations()).isZero())
+                .satisfies(balance -> assertThat(balance.version()).isEqualTo(3));
+        assertThat(ledger.balance(faithfulId, YEAR + 1).version()).isEqualTo(2);
+    }
+
+    @Test
+    void balanceIsSnapshotPlusTail() {
+        for (int i = 1; i <= 12; i++) {
+            donate(YEAR, i * 100);
+        }
+        donate(YEAR - 1, 1000);
+
+        // The 2024 stream has a long enough tail, 2023 does not
+        assertThat(ledger.takeSnapshots()).isEqualTo(1);
+        donate(YEAR, 50);
+
+        SqlStatementCounter.reset();
+        Balance balance = ledger.balance(faithfulId, YEAR);
+        SqlStatementCounter.assertSelectCount(2);
+
+        assertThat(balance.snapshotVersion()).isEqualTo(12);
+        assertThat(balance.version()).isEqualTo(13);
+        assertThat(balance.donations()).isEqualTo(13);
+        assertThat(balance.total()).isEqualByComparingTo("7850");
+        assertThat(ledger.replay(faithfulId, YEAR)).satisfies(replayed -> {
+            assertThat(replayed.total()).isEqualByComparingTo(balance.total());
+            assertThat(replayed.donations()).isEqualTo(balance.donations());
+        });
+
+        assertThat(ledger.balances(faithfulId)).extracting(Balance::year, b -> b.total().intValue(), Balance::donations)
+                .containsExactly(tuple(YEAR, 7850, 13), tuple(YEAR - 1, 1000, 1));
+        assertThat(ledger.total(faithfulId)).isEqualByComparingTo("8850");
+        assertThat(ledger.yearTotal(YEAR)).isEqualByComparingTo("7850");
+        assertThat(ledger.yearTotal(YEAR - 1)).isEqualByComparingTo("1000");
+
+        DonationLedger.Replay replay = ledger.rebuildSnapshots();
+        assertThat(replay.entries()).isEqualTo(14);
+        assertThat(replay.streams()).isEqualTo(2);
+        assertThat(ledger.balance(faithfulId, YEAR))
+                .satisfies(rebuilt -> assertThat(rebuilt.snapshotVersion()).isEqualTo(13))
+                .satisfies(rebuilt -> assertThat(rebuilt.total()).isEqualByComparingTo("7850"));
+    }
+
+    @Test
+    void donationsWrittenWithJdbcAreBackfilled() {
+        donate(YEAR, 100);
+        long[] ids = idAllocator.next(Donation.class, 3);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            LocalDate date = LocalDate.of(YEAR, i + 1, 5);
+            rows.add(new Object[]{ids[i], faithfulId, BigDecimal.valueOf(200),
+                    Date.valueOf(date), YEAR, "TITHE", Timestamp.valueOf(LocalDateTime.now())});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO donations (id, faithful_id, amount, \"date\", \"year\", " +
+                "contribution_type, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+
+        assertThat(ledger.recordUnledgeredDonations()).isEqualTo(3);
+        assertThat(ledger.recordUnledgeredDonations()).isZero();
+
+        Balance balance = ledger.balance(faithfulId, YEAR);
+        assertThat(balance.total()).isEqualByComparingTo("700");
+        assertThat(balance.donations()).isEqualTo(4);
+        assertThat(balance.version()).isEqualTo(4);
+    }
+
+    private Donation donate(int year, long amount) {
+        Donation donation = new Donation();
+        donation.setFaithful(faithfulRepository.getReferenceById(faithfulId));
+        donation.setYear(year);
+        donation.setAmount(BigDecimal.valueOf(amount));
+        donation.setDate(LocalDate.of(year, 6, 1));
+        donation.setContributionType("TITHE");
+        Donation saved = donationRepository.save(donation);
+        ledger.recordCreated(saved);
+        return saved;
+    }
+}
@@ -0,0 +1,159 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.configurations.DonationStatementProperties;
+import org.ananie.parishManagementSystem.entity.Donation;
+import org.ananie.parishManagementSystem.entity.Faithful;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.service.DonationStatementJob.State;
+import org.ananie.parishManagementSystem.service.DonationStatementJob.Status;
+import org.ananie.parishManagementSystem.statements.StatementCheckpoint;
+import org.ananie.parishManagementSystem.statements.StatementFormat;
+import org.ananie.parishManagementSystem.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The statement job reads a year's donations in one pass, writes one statement per donor
+ * across chunks and render threads, and resumes after its checkpoint or clears the previous run.
+ */
+@DataJpaTest
+@Import(EntityIdAllocator.class)
+class DonationStatementJobTest {
+
+    private static final int YEAR = 2024;
+    private static final int DONORS = 25;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path outputDirectory;
+
+    private DonationStatementJob job;
+
+    private long[] faithfulIds;
+
+    @BeforeEach
+    void setUp() {
+        DonationStatementProperties properties = new DonationStatementProperties();
+        properties.setOutputDirectory(outputDirectory);
+        properties.setThreads(3);
+        properties.setChunkSize(10);
+        job = new DonationStatementJob(jdbcTemplate, properties, transactionManager);
+
+        // Every donor gives 100, 200 and 300 in the year, plus a gift the year before that stays off the statement
+        faithfulIds = idAllocator.next(Faithful.class, DONORS);
+        long[] donationIds = idAllocator.next(Donation.class, DONORS * 4);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> faithfuls = new ArrayList<>();
+        List<Object[]> donations = new ArrayList<>();
+        for (int i = 0; i < DONORS; i++) {
+            faithfuls.add(new Object[]{faithfulIds[i], "Mugisha " + i, i == 0 ? "Grace & <Hope>" : "Jean", "Paruwasi", now});
+            for (int month = 1; month <= 4; month++) {
+                LocalDate date = LocalDate.of(month == 4 ? YEAR - 1 : YEAR, month, 10);
+                donations.add(new Object[]{donationIds[donations.size()], faithfulIds[i],
+                        BigDecimal.valueOf(month * 100L), Date.valueOf(date), date.getYear(), "TITHE", now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO faithfuls (id, name, firstname, parish, created_at) VALUES (?, ?, ?, ?, ?)",
+                faithfuls);
+        jdbcTemplate.batchUpdate("INSERT INTO donations (id, faithful_id, amount, \"date\", \"year\", " +
+                "contribution_type, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", donations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.destroy();
+    }
+
+    @Test
+    void writesOneStatementPerDonorFromASingleRead() throws Exception {
+        SqlStatementCounter.reset();
+        Status status = job.run(YEAR, StatementFormat.HTML, true, false);
+
+        // Donor count for progress, then the donations cursor
+        SqlStatementCounter.assertSelectCount(2);
+        assertThat(status.state()).isEqualTo(State.COMPLETED);
+        assertThat(status.donors()).isEqualTo(DONORS);
+        assertThat(status.statements()).isEqualTo(DONORS);
+
+        Path yearDirectory = outputDirectory.resolve(String.valueOf(YEAR));
+        try (var files = Files.list(yearDirectory)) {
+            assertThat(files.filter(f -> f.toString().endsWith(".html"))).hasSize(DONORS);
+        }
+        String first = Files.readString(yearDirectory.resolve("statement-" + faithfulIds[0] + ".html"));
+        assertThat(first).contains("Grace &amp; &lt;Hope&gt; Mugisha 0", "2024-01-10", "2024-03-10", "600")
+                .doesNotContain("2023-04-10");
+        assertThat(StatementCheckpoint.load(yearDirectory)).get()
+                .satisfies(checkpoint -> assertThat(checkpoint.completed()).isTrue())
+                .satisfies(checkpoint -> assertThat(checkpoint.statements()).isEqualTo(DONORS));
+        try (ZipFile zip = new ZipFile(status.output())) {
+            assertThat(zip.size()).isEqualTo(DONORS);
+        }
+    }
+
+    @Test
+    void resumesAfterTheLastCheckpoint() throws Exception {
+        Path yearDirectory = Files.createDirectories(outputDirectory.resolve(String.valueOf(YEAR)));
+        // As left by a run that stopped after its first chunk of ten
+        StatementCheckpoint.start(YEAR, StatementFormat.TEXT).advance(faithfulIds[9], 10).save(yearDirectory);
+
+        Status status = job.run(YEAR, StatementFormat.TEXT, false, false);
+
+        assertThat(status.state()).isEqualTo(State.COMPLETED);
+        assertThat(status.resumedAfterFaithfulId()).isEqualTo(faithfulIds[9]);
+        assertThat(status.statements()).isEqualTo(DONORS);
+        assertThat(yearDirectory.resolve("statement-" + faithfulIds[9] + ".txt")).doesNotExist();
+        assertThat(Files.readString(yearDirectory.resolve("statement-" + faithfulIds[10] + ".txt")))
+                .contains("Total (3 donations): 600");
+    }
+
+    @Test
+    void startingFromScratchClearsThePreviousRun() throws Exception {
+        Path yearDirectory = Files.createDirectories(outputDirectory.resolve(String.valueOf(YEAR)));
+        // A donor whose donations have since been removed, and a half-finished run in another format
+        Files.writeString(yearDirectory.resolve("statement-999999.html"), "stale");
+        Files.writeString(yearDirectory.resolve("statement-" + faithfulIds[0] + ".txt"), "stale");
+        StatementCheckpoint.start(YEAR, StatementFormat.TEXT).advance(faithfulIds[9], 10).save(yearDirectory);
+
+        Status status = job.run(YEAR, StatementFormat.HTML, true, true);
+
+        assertThat(status.state()).isEqualTo(State.COMPLETED);
+        assertThat(status.resumedAfterFaithfulId()).isZero();
+        try (var files = Files.list(yearDirectory)) {
+            assertThat(files.map(f -> f.getFileName().toString()).filter(name -> name.startsWith("statement-")))
+                    .hasSize(DONORS)
+                    .allMatch(name -> name.endsWith(".html"))
+                    .doesNotContain("statement-999999.html");
+        }
+        try (ZipFile zip = new ZipFile(status.output())) {
+            assertThat(zip.size()).isEqualTo(DONORS);
+        }
+    }
+}
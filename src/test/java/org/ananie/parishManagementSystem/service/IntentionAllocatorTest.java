@@ -0,0 +1,114 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.service.IntentionAllocator.AllocationPlan;
+import org.ananie.parishManagementSystem.service.IntentionAllocator.MassSlot;
+import org.ananie.parishManagementSystem.service.IntentionAllocator.PendingIntention;
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntentionAllocatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    private final IntentionAllocator allocator = new IntentionAllocator(7);
+
+    @Test
+    void neverPlacesIntentionBeforeItsRequestedDate() {
+        List<MassSlot> slots = List.of(
+                new MassSlot(1L, TODAY, 10L, 5),
+                new MassSlot(2L, TODAY.plusDays(3), 10L, 5));
+        List<PendingIntention> pending = List.of(
+                new PendingIntention(100L, IntentionType.SICK, TODAY.plusDays(2), null));
+
+        AllocationPlan plan = allocator.plan(pending, slots, TODAY);
+
+        assertThat(plan.intentionIdsByMass()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void deceasedIntentionsWinWhenCapacityIsShort() {
+        List<MassSlot> slots = List.of(new MassSlot(1L, TODAY, 10L, 1));
+        List<PendingIntention> pending = List.of(
+                new PendingIntention(100L, IntentionType.THANKSGIVING, TODAY.minusDays(5), null),
+                new PendingIntention(101L, IntentionType.DECEASED, TODAY, null));
+
+        AllocationPlan plan = allocator.plan(pending, slots, TODAY);
+
+        assertThat(plan.intentionIdsByMass().get(1L)).containsExactly(101L);
+        assertThat(plan.unallocatedIds()).containsExactly(100L);
+    }
+
+    @Test
+    void preferredCelebrantIsHonouredWithinWindow() {
+        List<MassSlot> slots = List.of(
+                new MassSlot(1L, TODAY, 10L, 5),
+                new MassSlot(2L, TODAY.plusDays(2), 20L, 5),
+                new MassSlot(3L, TODAY.plusDays(20), 30L, 5));
+        List<PendingIntention> pending = List.of(
+                new PendingIntention(100L, IntentionType.BIRTHDAY, TODAY, 20L),
+                new PendingIntention(101L, IntentionType.BIRTHDAY, TODAY, 30L));
+
+        AllocationPlan plan = allocator.plan(pending, slots, TODAY);
+
+        assertThat(plan.intentionIdsByMass().get(2L)).containsExactly(100L);
+        // Celebrant 30 is outside the window, so the earliest mass is used instead
+        assertThat(plan.intentionIdsByMass().get(1L)).containsExactly(101L);
+    }
+
+    @Test
+    void respectsMassCapacity() {
+        List<MassSlot> slots = List.of(
+                new MassSlot(1L, TODAY, 10L, 2),
+                new MassSlot(2L, TODAY.plusDays(1), 10L, 0));
+        List<PendingIntention> pending = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            pending.add(new PendingIntention(id, IntentionType.OTHER, TODAY, null));
+        }
+
+        AllocationPlan plan = allocator.plan(pending, slots, TODAY);
+
+        assertThat(plan.allocatedCount()).isEqualTo(2);
+        assertThat(plan.unallocatedIds()).hasSize(3);
+    }
+
+    /**
+     * Allocation-time benchmark: a year of masses against 50k pending intentions. Runs with {@code -Pbenchmark}.
+     */
+    @Test
+    @Tag("benchmark")
+    void allocatesFiftyThousandIntentionsQuickly() {
+        Random random = new Random(42);
+        List<MassSlot> slots = new ArrayList<>();
+        long massId = 1;
+        for (int day = 0; day < 365; day++) {
+            for (int mass = 0; mass < 4; mass++) {
+                slots.add(new MassSlot(massId++, TODAY.plusDays(day), (long) random.nextInt(12), 40));
+            }
+        }
+        IntentionType[] types = IntentionType.values();
+        List<PendingIntention> pending = new ArrayList<>();
+        for (long id = 1; id <= 50_000; id++) {
+            Long preferred = random.nextInt(4) == 0 ? (long) random.nextInt(12) : null;
+            pending.add(new PendingIntention(id, types[random.nextInt(types.length)],
+                    TODAY.plusDays(random.nextInt(400) - 30), preferred));
+        }
+
+        // Warm-up run so the measurement is not dominated by class loading and JIT
+        allocator.plan(pending, slots, TODAY);
+
+        long started = System.nanoTime();
+        AllocationPlan plan = allocator.plan(pending, slots, TODAY);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(plan.allocatedCount() + plan.unallocatedIds().size()).isEqualTo(pending.size());
+        assertThat(elapsedMillis).isLessThan(2_000);
+    }
+}
@@ -0,0 +1,89 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.dto.request.IntentionRequestDTO;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.ananie.parishManagementSystem.repository.IntentionRepository;
+import org.ananie.parishManagementSystem.utilities.IntentionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Updating an intention adjusts the unpaid counter from its stored state before the update, and
+ * announces both its old and its new requested date.
+ */
+@SpringBootTest(properties = "parish.intentions.allocation.enabled=false")
+@RecordApplicationEvents
+// A context of its own; closed afterwards so its schedulers do not compete with later timing-sensitive tests
+@DirtiesContext
+class IntentionUpdateTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2030, 3, 15);
+    private static final LocalDate JUNE = LocalDate.of(2030, 6, 15);
+
+    @Autowired
+    private IntentionService intentionService;
+
+    @Autowired
+    private UnpaidIntentionCounter unpaidIntentionCounter;
+
+    @Autowired
+    private IntentionRepository intentionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM intentions");
+        unpaidIntentionCounter.resync();
+    }
+
+    @Test
+    void payingAndMovingAnIntentionKeepsTheCounterAndAnnouncesBothDates() {
+        unpaidIntentionCounter.resync();
+        Long id = intentionService.createIntention(request(false, MARCH)).getId();
+        assertThat(unpaidIntentionCounter.get()).isEqualTo(intentionRepository.countByIsPaidFalse()).isEqualTo(1);
+        events.clear();
+
+        intentionService.updateIntention(id, request(true, JUNE));
+
+        assertThat(unpaidIntentionCounter.get()).isEqualTo(intentionRepository.countByIsPaidFalse()).isZero();
+        assertThat(events.stream(ParishDataChangedEvent.class).filter(event -> event.type() == DataType.INTENTION))
+                .singleElement()
+                .satisfies(event -> assertThat(event.dates()).containsExactlyInAnyOrder(MARCH, JUNE));
+    }
+
+    @Test
+    void unpayingAnIntentionCountsItAgain() {
+        unpaidIntentionCounter.resync();
+        Long id = intentionService.createIntention(request(true, MARCH)).getId();
+
+        intentionService.updateIntention(id, request(false, MARCH));
+
+        assertThat(unpaidIntentionCounter.get()).isEqualTo(intentionRepository.countByIsPaidFalse()).isEqualTo(1);
+    }
+
+    private static IntentionRequestDTO request(boolean paid, LocalDate requestedDate) {
+        IntentionRequestDTO request = new IntentionRequestDTO();
+        request.setIntentionType(IntentionType.THANKSGIVING);
+        request.setIntentionText("Gushimira");
+        request.setRequestedDate(requestedDate);
+        request.setIsPaid(paid);
+        request.setExternalFaithfulName("Uwase");
+        return request;
+    }
+}
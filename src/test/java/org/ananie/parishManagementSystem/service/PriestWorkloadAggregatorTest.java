@@ -0,0 +1,169 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.entity.Priest;
+import org.ananie.parishManagementSystem.entity.PriestWorkload;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.repository.PriestWorkloadRepository;
+import org.ananie.parishManagementSystem.utilities.MassType;
+import org.ananie.parishManagementSystem.utilities.PriestType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PriestWorkloadAggregator.class, EntityIdAllocator.class})
+class PriestWorkloadAggregatorTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PriestWorkloadAggregator aggregator;
+
+    @Autowired
+    private PriestWorkloadRepository workloadRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void incrementalUpdatesMatchFullRebuild() {
+        Priest pastor = priest(1L, "Padiri Yohani");
+        Priest vicar = priest(2L, "Padiri Petero");
+
+        saveMass(MARCH.plusDays(1), MassType.SUNDAY_MASS, pastor, vicar);
+        saveMass(MARCH.plusDays(8), MassType.SUNDAY_MASS, pastor);
+        Mass moved = saveMass(MARCH.plusDays(10), MassType.WEEK_DAY_MASS, vicar, pastor);
+        Mass removed = saveMass(MARCH.plusDays(12), MassType.FUNERAL, vicar);
+
+        // Move a mass to April and swap its celebrants
+        List<PriestWorkloadAggregator.Cell> previousCells = aggregator.cellsOf(moved);
+        moved.setEventDate(MARCH.plusMonths(1));
+        moved.setMainCelebrant(pastor);
+        moved.setConcelebrants(new ArrayList<>(List.of(vicar)));
+        entityManager.flush();
+        aggregator.massSaved(previousCells, moved);
+
+        aggregator.massRemoved(aggregator.cellsOf(removed));
+        entityManager.remove(removed);
+        entityManager.flush();
+
+        List<String> incremental = cells();
+        aggregator.rebuild();
+        assertThat(cells()).containsExactlyInAnyOrderElementsOf(incremental);
+        assertThat(incremental).containsExactlyInAnyOrder(
+                "1:202503:SUNDAY_MASS:MAIN=2", "2:202503:SUNDAY_MASS:CONCELEBRANT=1",
+                "1:202504:WEEK_DAY_MASS:MAIN=1", "2:202504:WEEK_DAY_MASS:CONCELEBRANT=1");
+
+        List<Object[]> top = workloadRepository.sumWorkloadByPriest(202503, 202503, PageRequest.of(0, 1));
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0)[0]).isEqualTo(1L);
+        assertThat(((Number) top.get(0)[8]).longValue()).isEqualTo(2);
+    }
+
+    @Test
+    // Every mass is saved in a transaction of its own
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void massesSavedAtOnceIntoANewCellAllCount() throws Exception {
+        int masses = 6;
+        jdbcTemplate.update("INSERT INTO priests (id, amazina, priest_type, created_at) " +
+                "VALUES (3, 'Padiri Paulo', 'DIOCESAN', CURRENT_TIMESTAMP)");
+        Priest celebrant = new Priest();
+        celebrant.setId(3L);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clerks = Executors.newFixedThreadPool(masses);
+        try {
+            List<Future<?>> saved = new ArrayList<>();
+            for (int i = 0; i < masses; i++) {
+                Mass mass = new Mass();
+                mass.setMassType(MassType.FUNERAL);
+                mass.setEventDate(MARCH.plusDays(i));
+                mass.setMainCelebrant(celebrant);
+                saved.add(clerks.submit(() -> {
+                    start.await();
+                    return transaction.execute(status -> {
+                        aggregator.massSaved(List.of(), mass);
+                        // Keeps the transaction open while the other masses reach the same cell
+                        sleep();
+                        return null;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<?> mass : saved) {
+                mass.get(30, TimeUnit.SECONDS);
+            }
+
+            List<String> cells = transaction.execute(status -> cells());
+            assertThat(cells).containsExactly("3:202503:FUNERAL:MAIN=" + masses);
+        } finally {
+            clerks.shutdownNow();
+            jdbcTemplate.update("DELETE FROM priest_workload");
+            jdbcTemplate.update("DELETE FROM priests");
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<String> cells() {
+        entityManager.clear();
+        return workloadRepository.findAll().stream()
+                .map(cell -> cell.getPriest().getId() + ":" + cell.getYearMonth() + ":" + cell.getMassType()
+                        + ":" + cell.getRole() + "=" + cell.getMassCount())
+                .toList();
+    }
+
+    private Priest priest(Long id, String names) {
+        Priest priest = new Priest();
+        priest.setId(id);
+        priest.setNames(names);
+        priest.setPriestType(PriestType.DIOCESAN);
+        return entityManager.persist(priest);
+    }
+
+    private Mass saveMass(LocalDate date, MassType type, Priest celebrant, Priest... concelebrants) {
+        Mass mass = new Mass();
+        mass.setTitle("Misa");
+        mass.setDescription("Misa");
+        mass.setLocation("Paruwasi");
+        mass.setMassType(type);
+        mass.setEventDate(date);
+        mass.setMainCelebrant(celebrant);
+        mass.setConcelebrants(new ArrayList<>(List.of(concelebrants)));
+        entityManager.persist(mass);
+        aggregator.massSaved(List.of(), mass);
+        return mass;
+    }
+}
@@ -0,0 +1,82 @@
+package org.ananie.parishManagementSystem.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        int callers = 16;
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(pool.submit(() -> singleFlight.execute("dashboard", () -> {
+                computations.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+        }
+        // Let every caller reach the in-flight computation before it completes
+        while (coalescedCount() < callers - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(computations.get()).isEqualTo(1);
+        pool.shutdown();
+    }
+
+    @Test
+    void finishedComputationIsNotReused() {
+        AtomicInteger computations = new AtomicInteger();
+
+        singleFlight.execute("dashboard", computations::incrementAndGet);
+        singleFlight.execute("dashboard", computations::incrementAndGet);
+
+        assertThat(computations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failureIsPropagatedAndNotRemembered() {
+        assertThatThrownBy(() -> singleFlight.execute("dashboard", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("dashboard", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("statistics.requests").tag("cache", "test").tag("result", "coalesced")
+                .counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.ananie.parishManagementSystem.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ananie.parishManagementSystem.configurations.StatisticsProperties;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent;
+import org.ananie.parishManagementSystem.events.ParishDataChangedEvent.DataType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsCacheTest {
+
+    private static final Set<DataType> MASS_DATA = EnumSet.of(DataType.MASS);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatisticsCache cache = new StatisticsCache(new StatisticsProperties(), meterRegistry,
+            new CountingTransactionManager());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void repeatedLookupsAreServedFromCache() {
+        load("march");
+        load("march");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "statistics").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void changeInvalidatesOnlyRangesContainingItsDates() {
+        load("march");
+        load("april");
+
+        cache.onDataChanged(ParishDataChangedEvent.of(DataType.MASS, LocalDate.of(2025, 4, 10)));
+        load("march");
+        load("april");
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void changeToUnrelatedDataKeepsEntries() {
+        load("march");
+
+        cache.onDataChanged(ParishDataChangedEvent.of(DataType.DONATION, LocalDate.of(2025, 3, 10)));
+        load("march");
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void changeWithoutDatesInvalidatesEveryRangeOfThatType() {
+        load("march");
+        load("april");
+
+        cache.onDataChanged(ParishDataChangedEvent.of(DataType.MASS));
+        load("march");
+        load("april");
+
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    private String load(String month) {
+        LocalDate start = month.equals("march") ? LocalDate.of(2025, 3, 1) : LocalDate.of(2025, 4, 1);
+        LocalDate end = start.plusMonths(1).minusDays(1);
+        return cache.get("massStatistics", start, end, MASS_DATA, () -> {
+            loads.incrementAndGet();
+            return month;
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package org.ananie.parishManagementSystem.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.ananie.parishManagementSystem.entity.Intention;
+import org.ananie.parishManagementSystem.entity.Mass;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test for request coalescing: bursts of identical dashboard and donation statistics
+ * requests with caching switched off. The number of SQL statements per burst should stay
+ * far below one set per caller as the number of concurrent callers grows. Runs with {@code -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "parish.statistics.cache-enabled=false",
+        "parish.statistics.coalesce-requests=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class StatisticsCoalescingLoadTest {
+
+    private static final int ROWS = 20_000;
+    private static final int[] CONCURRENCY = {1, 8, 32, 64};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private DonationService donationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @BeforeEach
+    void seed() {
+        LocalDate firstOfMonth = LocalDate.now().withDayOfMonth(1);
+        int days = firstOfMonth.lengthOfMonth();
+        long[] eventIds = idAllocator.next(Mass.class, ROWS);
+        long[] intentionIds = idAllocator.next(Intention.class, ROWS);
+        List<Object[]> events = new ArrayList<>(ROWS);
+        List<Object[]> intentions = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate date = firstOfMonth.plusDays(i % days);
+            Date sqlDate = Date.valueOf(date);
+            events.add(new Object[]{eventIds[i], "Mass " + i, sqlDate});
+            intentions.add(new Object[]{intentionIds[i], i % 4 == 0 ? "DECEASED" : "OTHER", "Intention " + i, sqlDate, i % 3 != 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO events (id, title, description, event_date, location, " +
+                "event_category, mass_type, visibility) VALUES (?, ?, 'Load test', ?, 'Church', 'MASS', 'SUNDAY_MASS', false)",
+                events);
+        jdbcTemplate.batchUpdate("INSERT INTO intentions (id, intention_type, intention_text, requested_date, " +
+                "is_paid) VALUES (?, ?, ?, ?, ?)", intentions);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM intentions");
+        jdbcTemplate.update("DELETE FROM events");
+    }
+
+    @Test
+    void statementCountStaysFlatAsConcurrencyRises() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Warm-up so query plans are compiled before measuring
+        burst(1);
+
+        Map<Integer, Long> statementsPerBurst = new LinkedHashMap<>();
+        for (int callers : CONCURRENCY) {
+            statistics.clear();
+            long started = System.nanoTime();
+            burst(callers);
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            statementsPerBurst.put(callers, statistics.getPrepareStatementCount());
+            log.info("{} concurrent callers: {} statements, {} ms",
+                    callers, statistics.getPrepareStatementCount(), elapsedMillis);
+        }
+
+        long single = statementsPerBurst.get(1);
+        assertThat(single).isPositive();
+        // Without coalescing every caller runs its own queries. How many callers overlap one computation
+        // depends on cores and query time (a single core barely overlaps them), so only require
+        // at most one computation per two callers.
+        for (int callers : CONCURRENCY) {
+            assertThat(statementsPerBurst.get(callers))
+                    .as("statements for %d callers", callers)
+                    .isLessThanOrEqualTo(Math.max(single, single * callers / 2));
+        }
+    }
+
+    private void burst(int callers) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch ready = new CountDownLatch(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(pool.submit(() -> {
+                ready.countDown();
+                start.await();
+                statisticsService.getCurrentMonthSummary();
+                donationService.getAvailableYears();
+                return null;
+            }));
+        }
+        // Release all callers together, once every thread is up
+        ready.await();
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+    }
+}
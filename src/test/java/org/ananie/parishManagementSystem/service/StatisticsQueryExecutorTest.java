@@ -0,0 +1,84 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.configurations.StatisticsProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatisticsQueryExecutorTest {
+
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+
+    @Test
+    void sequentialModeRunsAllQueriesInOneTransaction() {
+        StatisticsQueryExecutor executor = executor(false, 4);
+
+        StatisticsQueryExecutor.Fork fork = executor.fork();
+        Supplier<Integer> first = fork.submit(() -> 1);
+        Supplier<String> second = fork.submit(() -> Thread.currentThread().getName());
+        fork.join();
+
+        assertThat(first.get()).isEqualTo(1);
+        assertThat(second.get()).isEqualTo(Thread.currentThread().getName());
+        assertThat(transactionManager.begun.get()).isEqualTo(1);
+    }
+
+    @Test
+    void parallelModeNeverExceedsConcurrencyLimit() throws Exception {
+        StatisticsQueryExecutor executor = executor(true, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        StatisticsQueryExecutor.Fork fork = executor.fork();
+        List<Supplier<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            int value = i;
+            results.add(fork.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(50);
+                running.decrementAndGet();
+                return value;
+            }));
+        }
+        fork.join();
+
+        assertThat(results).extracting(Supplier::get).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(transactionManager.begun.get()).isEqualTo(6);
+        executor.destroy();
+    }
+
+    @Test
+    void failuresAreRethrownFromJoin() throws Exception {
+        StatisticsQueryExecutor executor = executor(true, 2);
+
+        StatisticsQueryExecutor.Fork fork = executor.fork();
+        fork.submit(() -> {
+            throw new IllegalStateException("query failed");
+        });
+
+        assertThatThrownBy(fork::join).isInstanceOf(IllegalStateException.class).hasMessage("query failed");
+        executor.destroy();
+    }
+
+    private StatisticsQueryExecutor executor(boolean parallel, int limit) {
+        StatisticsProperties properties = new StatisticsProperties();
+        properties.setParallelQueries(parallel);
+        properties.setMaxConcurrentQueries(limit);
+        return new StatisticsQueryExecutor(properties, transactionManager);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.ananie.parishManagementSystem.service;
+
+import org.ananie.parishManagementSystem.configurations.DatasetGeneratorConfiguration;
+import org.ananie.parishManagementSystem.repository.EntityIdAllocator;
+import org.ananie.parishManagementSystem.service.SyntheticDatasetGenerator.DatasetSpec;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({SyntheticDatasetGenerator.class, PriestWorkloadAggregator.class, EntityIdAllocator.class,
+        DatasetGeneratorConfiguration.class})
+@ActiveProfiles("loadtest")
+class SyntheticDatasetGeneratorTest {
+
+    private static final DatasetSpec SPEC = new DatasetSpec(7, LocalDate.of(2025, 6, 30), 1, 300, 4, 2, 3, 4,
+            1, 3, 2.0, 2.0, 0.3, 100);
+
+    @Autowired
+    private SyntheticDatasetGenerator generator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sameSeedOnEmptyDatabaseProducesSameData() {
+        Map<String, Integer> rows = generator.generate(SPEC);
+        List<Object> first = fingerprint();
+
+        assertThat(rows.get("faithfuls")).isEqualTo(300);
+        assertThat(rows.get("priests")).isEqualTo(4);
+        assertThat(rows.get("masses")).isGreaterThan(365);
+        assertThat(rows.get("donations")).isPositive();
+        assertThat(rows.get("intentions")).isPositive();
+        assertThat(count("priest_workload")).isPositive();
+
+        deleteAll();
+        generator.generate(SPEC);
+
+        assertThat(fingerprint()).isEqualTo(first);
+    }
+
+    @Test
+    void repeatedRunsAddRowsWithoutBreakingUniqueConstraints() {
+        generator.generate(SPEC);
+        long faithfuls = count("faithfuls");
+
+        generator.generate(SPEC);
+
+        assertThat(count("faithfuls")).isEqualTo(2 * faithfuls);
+        assertThat(count("priests")).isEqualTo(2 * SPEC.priests());
+    }
+
+    private List<Object> fingerprint() {
+        return List.of(
+                count("faithfuls"), count("ministries"), count("lapse_events"), count("donations"),
+                count("events"), count("mass_concelebrants"), count("intentions"), count("priest_workload"),
+                jdbcTemplate.queryForObject("SELECT SUM(amount) FROM donations", Object.class),
+                jdbcTemplate.queryForObject("SELECT SUM(event_year_month) FROM events", Object.class),
+                jdbcTemplate.queryForObject("SELECT COUNT(baptism_id) FROM faithfuls", Object.class),
+                jdbcTemplate.queryForList("SELECT mass_type, COUNT(*) FROM events GROUP BY mass_type ORDER BY mass_type"),
+                jdbcTemplate.queryForList("SELECT intention_type, COUNT(*) FROM intentions " +
+                        "GROUP BY intention_type ORDER BY intention_type"));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private void deleteAll() {
+        for (String table : List.of("intentions", "mass_concelebrants", "priest_workload", "events", "donations",
+                "ministries", "lapse_events", "faithfuls", "priests")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+}
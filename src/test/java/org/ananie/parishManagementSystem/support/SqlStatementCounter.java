@@ -0,0 +1,120 @@
+package org.ananie.parishManagementSystem.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements executed through the test data source, by kind, across all threads.
+ * Call {@link #reset()} right before the code under test and assert right after it:
+ * <pre>
+ *     SqlStatementCounter.reset();
+ *     faithfulService.getAllFaithful();
+ *     SqlStatementCounter.assertSelectCount(3);
+ * </pre>
+ * {@link StatementCountingAutoConfiguration} feeds it from the {@code QueryCountingDataSource} of every
+ * {@code @SpringBootTest} and {@code @DataJpaTest} context. Statements run by Hibernate are only
+ * counted once they reach JDBC, so flush before asserting on inserts, updates or deletes.
+ */
+public final class SqlStatementCounter {
+
+    public enum Kind {SELECT, INSERT, UPDATE, DELETE, OTHER}
+
+    private static final Map<Kind, LongAdder> COUNTS = new EnumMap<>(Kind.class);
+
+    // SQL texts executed while a capture is running, or null
+    private static volatile List<String> captured;
+
+    static {
+        for (Kind kind : Kind.values()) {
+            COUNTS.put(kind, new LongAdder());
+        }
+    }
+
+    private SqlStatementCounter() {
+    }
+
+    public static void reset() {
+        COUNTS.values().forEach(LongAdder::reset);
+    }
+
+    public static long count(Kind kind) {
+        return COUNTS.get(kind).sum();
+    }
+
+    public static long total() {
+        return COUNTS.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public static void assertSelectCount(long expected) {
+        assertCount(Kind.SELECT, expected);
+    }
+
+    public static void assertInsertCount(long expected) {
+        assertCount(Kind.INSERT, expected);
+    }
+
+    public static void assertUpdateCount(long expected) {
+        assertCount(Kind.UPDATE, expected);
+    }
+
+    public static void assertDeleteCount(long expected) {
+        assertCount(Kind.DELETE, expected);
+    }
+
+    public static void assertTotalCount(long expected) {
+        assertThat(total()).as("SQL statements executed").isEqualTo(expected);
+    }
+
+    /**
+     * Runs the work and returns the SQL texts it executed, in order, as sent to JDBC.
+     */
+    public static List<String> capture(Runnable work) {
+        List<String> statements = Collections.synchronizedList(new ArrayList<>());
+        captured = statements;
+        try {
+            work.run();
+        } finally {
+            captured = null;
+        }
+        return List.copyOf(statements);
+    }
+
+    private static void assertCount(Kind kind, long expected) {
+        assertThat(count(kind)).as("%s statements executed", kind).isEqualTo(expected);
+    }
+
+    static void executed(String sql) {
+        COUNTS.get(kindOf(sql)).increment();
+        List<String> statements = captured;
+        if (statements != null && sql != null) {
+            statements.add(sql);
+        }
+    }
+
+    static Kind kindOf(String sql) {
+        if (sql == null) {
+            return Kind.OTHER;
+        }
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (statement.startsWith("select") || statement.startsWith("with") || statement.startsWith("(select")) {
+            return Kind.SELECT;
+        }
+        if (statement.startsWith("insert")) {
+            return Kind.INSERT;
+        }
+        if (statement.startsWith("update")) {
+            return Kind.UPDATE;
+        }
+        if (statement.startsWith("delete")) {
+            return Kind.DELETE;
+        }
+        return Kind.OTHER;
+    }
+}
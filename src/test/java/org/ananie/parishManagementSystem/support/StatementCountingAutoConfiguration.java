@@ -0,0 +1,36 @@
+package org.ananie.parishManagementSystem.support;
+
+import org.ananie.parishManagementSystem.metrics.QueryCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Reports every statement executed through the data source of a test context to
+ * {@link SqlStatementCounter}. Reuses the {@link QueryCountingDataSource} the metrics configuration
+ * installs in full contexts, and wraps the data source in one where nothing else does (JPA slices).
+ * Registered for full contexts in {@code META-INF/spring/...AutoConfiguration.imports} and for
+ * JPA slices in {@code META-INF/spring/...AutoConfigureDataJpa.imports} under src/test/resources.
+ */
+@AutoConfiguration
+public class StatementCountingAutoConfiguration {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                QueryCountingDataSource counting = dataSource instanceof QueryCountingDataSource existing
+                        ? existing
+                        : new QueryCountingDataSource(dataSource);
+                counting.addListener((sql, nanos) -> SqlStatementCounter.executed(sql));
+                return counting;
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package org.ananie.parishManagementSystem.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Amounts convert to hundredths and back exactly, and arithmetic refuses to overflow.
+ */
+class MinorUnitsTest {
+
+    @Test
+    void convertsExactly() {
+        assertThat(MinorUnits.of(new BigDecimal("1500.00"))).isEqualTo(150_000);
+        assertThat(MinorUnits.of(new BigDecimal("1500"))).isEqualTo(150_000);
+        assertThat(MinorUnits.of(new BigDecimal("-0.5"))).isEqualTo(-50);
+        assertThat(MinorUnits.of(null)).isZero();
+        assertThat(MinorUnits.toBigDecimal(150_050)).isEqualTo(new BigDecimal("1500.50"));
+
+        assertThatThrownBy(() -> MinorUnits.of(new BigDecimal("0.005"))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> MinorUnits.of(new BigDecimal("1E+17"))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void sumsInTotalAndByGroup() {
+        long[] amounts = {100, 250, 400, 1_000};
+        long[] totals = new long[2];
+        MinorUnits.sumInto(totals, new int[]{0, 1, 0, 1}, amounts, amounts.length);
+
+        assertThat(MinorUnits.sum(amounts)).isEqualTo(1_750);
+        assertThat(MinorUnits.sum(amounts, 1, 3)).isEqualTo(650);
+        assertThat(totals).containsExactly(500, 1_250);
+    }
+
+    @Test
+    void overflowThrows() {
+        assertThatThrownBy(() -> MinorUnits.add(Long.MAX_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> MinorUnits.subtract(Long.MIN_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> MinorUnits.sum(new long[]{Long.MAX_VALUE, 1})).isInstanceOf(ArithmeticException.class);
+    }
+}